@@ -1,6 +1,7 @@
 package com.marine.management.modules.auth.application;
 
 import com.marine.management.modules.users.infrastructure.UserRepository;
+import com.marine.management.shared.security.PrincipalCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,15 +33,18 @@ public class PasswordResetService {
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     public PasswordResetService(
             UserRepository userRepository,
             EmailService emailService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            PrincipalCache principalCache
     ) {
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     /**
@@ -82,6 +86,7 @@ public class PasswordResetService {
 
         user.resetPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        principalCache.evictUserAfterCommit(user.getUserId());
 
         log.info("Password successfully reset for user: {}", user.getId());
     }
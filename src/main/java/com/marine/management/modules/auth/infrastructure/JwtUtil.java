@@ -1,18 +1,26 @@
 package com.marine.management.modules.auth.infrastructure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.marine.management.shared.security.TenantAwareUserDetails;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -22,6 +30,13 @@ import java.util.function.Function;
  * - Minimal claims (identity + tenant context only)
  * - Authorities loaded from SecurityContext, not JWT
  * - Role changes don't require token invalidation
+ *
+ * VERIFICATION:
+ * - Signing key and parser are built once at startup (both are thread-safe)
+ * - {@link #verify(String)} checks signature + expiry once per token and
+ *   keeps the result in a bounded cache keyed by the token's SHA-256 hash,
+ *   until the token expires. Failed tokens are never cached, so an expired
+ *   or tampered token still surfaces the original JwtException.
  */
 @Component
 public class JwtUtil {
@@ -29,18 +44,53 @@ public class JwtUtil {
     //  Constants for claim names
     public static final String CLAIM_TENANT_ID = "tenantId";
     public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    private static final long MAX_VERIFIED_TOKENS = 10_000;
+
+    private final long expirationMs;
+    private final long refreshExpirationMs;
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+                    return Math.max(0, remaining.toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, token, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public JwtUtil(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") long expirationMs,
+            @Value("${refresh.token.expiration}") long refreshExpirationMs
+    ) {
+        validateSecret(secret);
+        this.expirationMs = expirationMs;
+        this.refreshExpirationMs = refreshExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
 
-    @Value("${jwt.secret}")
-    private String secret;
-
-    @Value("${jwt.expiration}")
-    private long expirationMs;
-
-    @Value("${refresh.token.expiration}")
-    private long refreshExpirationMs;
-
-    @PostConstruct
-    public void validateSecret() {
+    private static void validateSecret(String secret) {
         if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
             throw new IllegalStateException(
                 "JWT secret must be at least 256 bits (32 characters). " +
@@ -49,10 +99,6 @@ public class JwtUtil {
         }
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    }
-
     /**
      * Generate JWT with minimal claims.
      *
@@ -60,6 +106,7 @@ public class JwtUtil {
      * - sub: username (identity)
      * - tenantId: organization ID (tenant context)
      * - role: user role (optional, for convenience)
+     * - uid + ver: user ID and token version (principal cache key, revocation)
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
@@ -68,6 +115,10 @@ public class JwtUtil {
         if (userDetails instanceof TenantAwareUserDetails tenantUser) {
             claims.put(CLAIM_TENANT_ID, tenantUser.getTenantId());
             claims.put(CLAIM_ROLE, tenantUser.getRole());
+            claims.put(CLAIM_TOKEN_VERSION, tenantUser.getTokenVersion());
+            if (tenantUser.getUserId() != null) {
+                claims.put(CLAIM_USER_ID, tenantUser.getUserId().toString());
+            }
         }
 
         return Jwts.builder()
@@ -75,12 +126,38 @@ public class JwtUtil {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies signature and expiry once and returns the claims the
+     * authentication path needs.
+     *
+     * @throws ExpiredJwtException   token expired
+     * @throws MalformedJwtException token is not a valid JWS
+     * @throws io.jsonwebtoken.security.SignatureException signature mismatch
+     * @throws IllegalArgumentException empty token
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT must not be empty");
+        }
+        String key = hash(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        // Cache miss veya süresi yeni dolmuş → parser gerçek exception'ı fırlatır
+        VerifiedToken verified = toVerifiedToken(extractAllClaims(token));
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     /**
@@ -88,23 +165,11 @@ public class JwtUtil {
      * Used by TenantFilter for tenant context establishment.
      */
     public Long extractTenantId(String token) {
-        Claims claims = extractAllClaims(token);
-        Object tenantId = claims.get(CLAIM_TENANT_ID);  //  Use constant
-
-        if (tenantId == null) {
-            return null;
-        }
-
-        // Handle Integer/Long conversion
-        if (tenantId instanceof Integer) {
-            return ((Integer) tenantId).longValue();
-        }
-
-        return (Long) tenantId;
+        return verify(token).tenantId();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(verify(token).expiresAt());
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -113,30 +178,45 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        Object tenantId = claims.get(CLAIM_TENANT_ID);
+        Object userId = claims.get(CLAIM_USER_ID);
+        Object tokenVersion = claims.get(CLAIM_TOKEN_VERSION);
+
+        // Handle Integer/Long conversion
+        Long tenant = tenantId instanceof Number number ? number.longValue() : null;
+
+        // uid/ver claim'i olmayan eski token'lar: userId null, versiyon 0
+        return new VerifiedToken(
+                claims.getSubject(),
+                tenant,
+                claims.get(CLAIM_ROLE, String.class),
+                userId instanceof String uid ? UUID.fromString(uid) : null,
+                tokenVersion instanceof Number version ? version.intValue() : 0,
+                claims.getExpiration().toInstant()
+        );
     }
 
     public Boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            Claims claims = extractAllClaims(token);
-            String username = claims.getSubject();
-            Date expiration = claims.getExpiration();
-
-            return username.equals(userDetails.getUsername())
-                    && expiration.after(new Date());
+            return isTokenValid(verify(token), userDetails);
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired(Instant.now());
+    }
+
     public Boolean validateToken(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return claims.getExpiration().after(new Date());
+            return !verify(token).isExpired(Instant.now());
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -149,4 +229,13 @@ public class JwtUtil {
     public long getRefreshExpirationMs() {
         return refreshExpirationMs;
     }
-}
\ No newline at end of file
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.marine.management.modules.auth.infrastructure;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of an access token whose signature and expiry were checked once.
+ *
+ * Produced by {@link JwtUtil#verify(String)}; callers read identity and
+ * tenant from here instead of parsing the same token again.
+ *
+ * @param subject   user email (UserDetails.getUsername())
+ * @param tenantId  organization ID, null for tokens without tenant claim
+ * @param role      role claim, may be null
+ * @param userId    user ID ("uid" claim), null for tokens issued before it existed
+ * @param tokenVersion token version ("ver" claim), 0 when absent
+ * @param expiresAt token expiry
+ */
+public record VerifiedToken(
+        String subject,
+        Long tenantId,
+        String role,
+        UUID userId,
+        int tokenVersion,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,23 +1,54 @@
 package com.marine.management.modules.files;
 
 import com.marine.management.modules.finance.domain.enums.RecordType;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
+import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 import java.util.regex.Pattern;
 
+/**
+ * Streaming Excel (.xlsx) parser.
+ *
+ * Workbook DOM'u (XSSFWorkbook) kurulmaz: upload geçici dosyaya yazılır,
+ * ilk sayfa SAX ile okunur ve her veri satırı anında handler'a verilir.
+ * Bellekte aynı anda yalnızca bir satır (+ shared strings tablosu) tutulur;
+ * sayfa boyutundan bağımsızdır.
+ *
+ * Dosya bir kez açılır, birden çok kez okunabilir (ör. önce kategori
+ * taraması, sonra kayıt oluşturma) — bkz. {@link ExcelWorkbook}.
+ */
 @Service
 public class ExcelParserService {
 
+    private static final Logger log = LoggerFactory.getLogger(ExcelParserService.class);
+
     private static final int COL_DATE = 0;        // A - Tarih (01.01.22 formatında)
     private static final int COL_TYPE = 1;        // B - İşlem Türü/Açıklama
     private static final int COL_CATEGORY = 2;    // C - Kategori
@@ -25,38 +56,87 @@ public class ExcelParserService {
     private static final int COL_INCOME = 4;      // E - Gelir Tutarı
     private static final int COL_DESCRIPTION = 5; // F - Açıklama
 
+    private static final int HEADER_ROW_NUMBER = 1;
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yy");
-    private static final Pattern CURRENCY_PATTERN = Pattern.compile("([\\d.,]+)\\s*€?");
     private static final Pattern CLEAN_AMOUNT_PATTERN = Pattern.compile("[^\\d.,-]");
 
-    public List<ExcelRow> parseExcel(MultipartFile file) throws IOException {
+    /**
+     * Receives parsed data rows in sheet order.
+     */
+    @FunctionalInterface
+    public interface ExcelRowHandler {
+        /**
+         * @param rowNumber Excel row number (1-indexed, header = 1)
+         */
+        void handle(int rowNumber, ExcelRow row);
+    }
+
+    /**
+     * Validates the upload and spools it to a temporary file for streaming reads.
+     * Caller must close the returned workbook (deletes the temporary file).
+     */
+    public ExcelWorkbook open(MultipartFile file) throws IOException {
         validateFile(file);
 
-        List<ExcelRow> rows = new ArrayList<>();
+        Path tempFile = Files.createTempFile("excel-import-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return new ExcelWorkbook(tempFile);
+    }
 
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
+    /**
+     * Uploaded workbook on local disk. Each {@link #forEachRow} call streams
+     * the first sheet from the start.
+     */
+    public final class ExcelWorkbook implements AutoCloseable {
 
-            // Başlık satırını atla (row 0) ve veri satırlarını işle
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
+        private final Path path;
+
+        private ExcelWorkbook(Path path) {
+            this.path = path;
+        }
 
-                if (row == null || isEmptyRow(row)) {
-                    continue;
+        /**
+         * Streams valid data rows of the first sheet to the handler.
+         * Unparseable rows are logged and skipped.
+         *
+         * @return number of rows passed to the handler
+         */
+        public int forEachRow(ExcelRowHandler handler) throws IOException {
+            // File üzerinden açılış: zip girdileri belleğe alınmaz (InputStream'den farklı)
+            try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
+
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    return 0;
                 }
 
-                try {
-                    ExcelRow excelRow = parseRow(row, i + 1); // +1 because Excel rows are 1-indexed
-                    if (excelRow != null) {
-                        rows.add(excelRow);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Satır " + (i + 1) + " parse edilemedi: " + e.getMessage());
+                RowDispatcher dispatcher = new RowDispatcher(handler);
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new SheetHandler(sharedStrings, styles, dispatcher));
+                    parser.parse(new InputSource(sheet));
                 }
+                return dispatcher.count;
+
+            } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+                throw new IOException("Excel dosyası okunamadı: " + e.getMessage(), e);
             }
         }
 
-        return rows;
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(path);
+        }
     }
 
     private void validateFile(MultipartFile file) {
@@ -69,21 +149,57 @@ public class ExcelParserService {
             throw new IllegalArgumentException("Dosya Excel formatında olmalı (.xlsx veya .xls)");
         }
 
-        if (file.getSize() > 10 * 1024 * 1024) {
+        if (file.getSize() > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("Dosya boyutu 10MB'tan küçük olmalı");
         }
     }
 
-    private ExcelRow parseRow(Row row, int rowNumber) {
+    // ============================================
+    // ROW PARSING (raw SAX cells → ExcelRow)
+    // ============================================
+
+    /**
+     * Skips header / empty rows and converts the rest; one row in memory at a time.
+     */
+    private final class RowDispatcher {
+
+        private final ExcelRowHandler handler;
+        private int count;
+
+        private RowDispatcher(ExcelRowHandler handler) {
+            this.handler = handler;
+        }
+
+        void onRow(int rowNumber, SheetCell[] cells) {
+            if (rowNumber <= HEADER_ROW_NUMBER || isEmptyRow(cells)) {
+                return;
+            }
+
+            ExcelRow excelRow;
+            try {
+                excelRow = parseRow(cells, rowNumber);
+            } catch (Exception e) {
+                log.warn("Satır {} parse edilemedi: {}", rowNumber, e.getMessage());
+                return;
+            }
+
+            if (excelRow != null) {
+                handler.handle(rowNumber, excelRow);
+                count++;
+            }
+        }
+    }
+
+    private ExcelRow parseRow(SheetCell[] cells, int rowNumber) {
         try {
-            LocalDate date = parseDate(row.getCell(COL_DATE), rowNumber);
-            String type = parseString(row.getCell(COL_TYPE));
-            String category = parseString(row.getCell(COL_CATEGORY));
-            String description = parseString(row.getCell(COL_DESCRIPTION));
+            LocalDate date = parseDate(cells[COL_DATE]);
+            String type = parseString(cells[COL_TYPE]);
+            String category = parseString(cells[COL_CATEGORY]);
+            String description = parseString(cells[COL_DESCRIPTION]);
 
             // Gelir ve gider tutarlarını parse et
-            BigDecimal expenseAmount = parseAmountWithCurrency(row.getCell(COL_EXPENSE));
-            BigDecimal incomeAmount = parseAmountWithCurrency(row.getCell(COL_INCOME));
+            BigDecimal expenseAmount = parseAmountWithCurrency(cells[COL_EXPENSE]);
+            BigDecimal incomeAmount = parseAmountWithCurrency(cells[COL_INCOME]);
 
             // Gelir mi gider mi olduğunu belirle
             boolean isIncome = incomeAmount != null && incomeAmount.compareTo(BigDecimal.ZERO) > 0;
@@ -113,7 +229,7 @@ public class ExcelParserService {
                     date,
                     type,
                     category,
-                    entryType,      // YENİ
+                    entryType,
                     amount,
                     currency,
                     description,
@@ -125,28 +241,19 @@ public class ExcelParserService {
         }
     }
 
-    private LocalDate parseDate(Cell cell, int rowNumber) {
+    private LocalDate parseDate(SheetCell cell) {
         if (cell == null) {
             throw new IllegalArgumentException("Tarih hücresi boş");
         }
 
         try {
-            switch (cell.getCellType()) {
+            switch (cell.kind()) {
                 case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        return cell.getDateCellValue().toInstant()
-                                .atZone(java.time.ZoneId.systemDefault())
-                                .toLocalDate();
-                    } else {
-                        // Sayısal değeri tarihe çevir (Excel tarih numarası)
-                        return DateUtil.getJavaDate(cell.getNumericCellValue())
-                                .toInstant()
-                                .atZone(java.time.ZoneId.systemDefault())
-                                .toLocalDate();
-                    }
+                    // Tarih formatlı ya da değil — sayısal değer Excel tarih numarasıdır
+                    return DateUtil.getLocalDateTime(cell.number()).toLocalDate();
 
                 case STRING:
-                    String dateStr = cell.getStringCellValue().trim();
+                    String dateStr = cell.text().trim();
                     if (dateStr.isEmpty()) {
                         throw new IllegalArgumentException("Tarih değeri boş");
                     }
@@ -159,7 +266,7 @@ public class ExcelParserService {
                     }
 
                 default:
-                    throw new IllegalArgumentException("Desteklenmeyen tarih formatı: " + cell.getCellType());
+                    throw new IllegalArgumentException("Desteklenmeyen tarih formatı: " + cell.kind());
             }
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException("Tarih parse edilemedi: " + e.getMessage());
@@ -168,60 +275,43 @@ public class ExcelParserService {
         }
     }
 
-    private String parseString(Cell cell) {
+    private String parseString(SheetCell cell) {
         if (cell == null) return null;
 
-        try {
-            switch (cell.getCellType()) {
-                case STRING:
-                    return cell.getStringCellValue().trim();
+        switch (cell.kind()) {
+            case STRING:
+                return cell.text().trim();
 
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        return cell.getDateCellValue().toString();
-                    } else {
-                        // Tam sayı ise int, değilse double olarak formatla
-                        double value = cell.getNumericCellValue();
-                        if (value == Math.floor(value)) {
-                            return String.valueOf((int) value);
-                        } else {
-                            return String.valueOf(value);
-                        }
-                    }
+            case NUMERIC:
+                if (cell.dateFormatted()) {
+                    return DateUtil.getJavaDate(cell.number()).toString();
+                }
+                // Tam sayı ise int, değilse double olarak formatla
+                double value = cell.number();
+                if (value == Math.floor(value)) {
+                    return String.valueOf((int) value);
+                } else {
+                    return String.valueOf(value);
+                }
 
-                case BOOLEAN:
-                    return String.valueOf(cell.getBooleanCellValue());
-
-                case FORMULA:
-                    try {
-                        return cell.getStringCellValue();
-                    } catch (Exception e) {
-                        try {
-                            return String.valueOf(cell.getNumericCellValue());
-                        } catch (Exception e2) {
-                            return cell.getCellFormula();
-                        }
-                    }
+            case BOOLEAN:
+                return cell.text();
 
-                default:
-                    return null;
-            }
-        } catch (Exception e) {
-            System.err.println("String parse hatası: " + e.getMessage());
-            return null;
+            default:
+                return null;
         }
     }
 
-    private BigDecimal parseAmountWithCurrency(Cell cell) {
+    private BigDecimal parseAmountWithCurrency(SheetCell cell) {
         if (cell == null) return null;
 
         try {
-            switch (cell.getCellType()) {
+            switch (cell.kind()) {
                 case NUMERIC:
-                    return BigDecimal.valueOf(cell.getNumericCellValue());
+                    return BigDecimal.valueOf(cell.number());
 
                 case STRING:
-                    String value = cell.getStringCellValue().trim();
+                    String value = cell.text().trim();
                     if (value.isEmpty()) {
                         return null;
                     }
@@ -240,32 +330,131 @@ public class ExcelParserService {
 
                     return new BigDecimal(value);
 
-                case FORMULA:
-                    try {
-                        return BigDecimal.valueOf(cell.getNumericCellValue());
-                    } catch (Exception e) {
-                        return null;
-                    }
-
                 default:
                     return null;
             }
         } catch (Exception e) {
-            System.err.println("Tutar parse hatası: " + e.getMessage());
+            log.debug("Tutar parse hatası: {}", e.getMessage());
             return null;
         }
     }
 
-    private boolean isEmptyRow(Row row) {
-        for (int i = 0; i <= COL_DESCRIPTION; i++) {
-            Cell cell = row.getCell(i);
-            if (cell != null) {
-                String value = parseString(cell);
-                if (value != null && !value.trim().isEmpty()) {
-                    return false;
-                }
+    private boolean isEmptyRow(SheetCell[] cells) {
+        for (SheetCell cell : cells) {
+            String value = parseString(cell);
+            if (value != null && !value.trim().isEmpty()) {
+                return false;
             }
         }
         return true;
     }
-}
\ No newline at end of file
+
+    // ============================================
+    // SAX SHEET HANDLER
+    // ============================================
+
+    private enum CellKind { NUMERIC, STRING, BOOLEAN, ERROR }
+
+    /**
+     * Raw cell value as stored in the sheet XML (formula cells: cached result).
+     */
+    private record SheetCell(CellKind kind, String text, double number, boolean dateFormatted) {}
+
+    /**
+     * Reads {@code <row>/<c>/<v>} elements of sheet XML; only columns A..F are kept.
+     *
+     * Cell types (attribute t): s = shared string, inlineStr, str = formula string,
+     * b = boolean, e = error, otherwise numeric (s attribute → style → date format).
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final RowDispatcher dispatcher;
+
+        private final StringBuilder value = new StringBuilder();
+        private SheetCell[] rowCells = new SheetCell[COL_DESCRIPTION + 1];
+        private int rowNumber;
+        private int nextRowNumber = 1;
+
+        private int column;
+        private String cellType;
+        private String cellStyle;
+        private boolean collecting;
+
+        private SheetHandler(ReadOnlySharedStringsTable sharedStrings, StylesTable styles, RowDispatcher dispatcher) {
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attributes.getValue("r");
+                    rowNumber = r != null ? Integer.parseInt(r) : nextRowNumber;
+                    rowCells = new SheetCell[COL_DESCRIPTION + 1];
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    column = ref != null ? new CellReference(ref).getCol() : -1;
+                    cellType = attributes.getValue("t");
+                    cellStyle = attributes.getValue("s");
+                    value.setLength(0);
+                }
+                case "v", "t" -> collecting = true;
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collecting) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v", "t" -> collecting = false;
+                case "c" -> {
+                    if (column >= 0 && column <= COL_DESCRIPTION) {
+                        rowCells[column] = toCell();
+                    }
+                }
+                case "row" -> {
+                    dispatcher.onRow(rowNumber, rowCells);
+                    nextRowNumber = rowNumber + 1;
+                }
+                default -> { }
+            }
+        }
+
+        private SheetCell toCell() {
+            String raw = value.toString();
+            if (raw.isEmpty()) {
+                return null; // <v> yok (ör. <c t="s"/>) — boş hücre
+            }
+            if (cellType == null || cellType.equals("n")) {
+                return new SheetCell(CellKind.NUMERIC, raw, Double.parseDouble(raw), isDateFormatted());
+            }
+            return switch (cellType) {
+                case "s" -> new SheetCell(CellKind.STRING,
+                        sharedStrings.getItemAt(Integer.parseInt(raw)).getString(), 0, false);
+                case "inlineStr", "str" -> new SheetCell(CellKind.STRING, raw, 0, false);
+                case "b" -> new SheetCell(CellKind.BOOLEAN, String.valueOf("1".equals(raw)), 0, false);
+                default -> new SheetCell(CellKind.ERROR, raw, 0, false);
+            };
+        }
+
+        private boolean isDateFormatted() {
+            if (cellStyle == null || styles == null) {
+                return false;
+            }
+            XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+            return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+    }
+}
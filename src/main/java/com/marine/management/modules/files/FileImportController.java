@@ -1,8 +1,11 @@
 package com.marine.management.modules.files;
 
 import com.marine.management.modules.users.domain.User;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/files")
@@ -22,15 +26,36 @@ public class FileImportController {
     }
 
     /**
-     * Imports historical financial entries from an Excel file.
+     * Starts a background import of historical financial entries from an Excel file.
      * Restricted to CAPTAIN+ (bulk data load + auto category creation is high-impact).
+     *
+     * Returns 202 with the job; poll GET /import/{jobId} for progress and row errors.
      */
     @PostMapping("/import")
     @PreAuthorize("hasAuthority('CATEGORY_MANAGE')")
-    public ImportResultDto importExcel(
+    public ResponseEntity<ImportJobDto> importExcel(
             @RequestParam("file") MultipartFile file,
             @AuthenticationPrincipal User user
     ) throws IOException {
-        return dataImportService.importFromExcel(file, user);
+        return ResponseEntity.accepted().body(dataImportService.startImport(file, user));
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAuthority('CATEGORY_MANAGE')")
+    public ResponseEntity<ImportJobDto> getImportJob(@PathVariable UUID jobId) {
+        return dataImportService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Stops the import after the chunk in progress; already committed rows stay.
+     */
+    @PostMapping("/import/{jobId}/cancel")
+    @PreAuthorize("hasAuthority('CATEGORY_MANAGE')")
+    public ResponseEntity<ImportJobDto> cancelImportJob(@PathVariable UUID jobId) {
+        return dataImportService.cancelJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 }
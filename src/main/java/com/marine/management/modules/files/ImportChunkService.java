@@ -0,0 +1,399 @@
+package com.marine.management.modules.files;
+
+import com.marine.management.modules.files.DataImportService.CategoryCreationException;
+import com.marine.management.modules.files.DataImportService.ImportException;
+import com.marine.management.modules.finance.application.CurrencyConversionService;
+import com.marine.management.modules.finance.application.CurrencyConversionService.RateKey;
+import com.marine.management.modules.finance.application.TenantBaseCurrencyProvider;
+import com.marine.management.modules.finance.domain.entities.FinancialCategory;
+import com.marine.management.modules.finance.domain.entities.FinancialEntry;
+import com.marine.management.modules.finance.domain.entities.Payment;
+import com.marine.management.modules.finance.domain.enums.PaymentMethod;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.events.FinancialEntryReportingChangedEvent;
+import com.marine.management.modules.finance.domain.vo.EntryNumber;
+import com.marine.management.modules.finance.domain.vo.Money;
+import com.marine.management.modules.finance.infrastructure.FinancialCategoryRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryBulkRepository;
+import com.marine.management.modules.finance.infrastructure.TenantEntryCounterRepository;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transactional units of an Excel import.
+ *
+ * Her public metod kendi transaction'ını açar (çağıran ImportJobRunner
+ * transaction'sız çalışır): kategori çözümü bir transaction, her chunk
+ * ayrı bir transaction. Böylece uzun bir import DB bağlantısını ve
+ * tenant_entry_counter kilidini yalnızca chunk süresince tutar; iptal
+ * veya hata durumunda commit edilmiş chunk'lar kalır.
+ *
+ * WRITE PATH (bulk): each chunk reserves its entry numbers as one block
+ * from tenant_entry_counter and is written by FinancialEntryBulkRepository
+ * in JDBC batches (entries, payments, one Envers revision + audit rows).
+ * Entities are never managed by the persistence context.
+ *
+ * Base amounts: the chunk's distinct (date, currency) rates are resolved
+ * once via CurrencyConversionService and applied per entry.
+ */
+@Service
+@Transactional
+public class ImportChunkService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportChunkService.class);
+
+    private final FinancialCategoryRepository categoryRepository;
+    private final FinancialEntryBulkRepository bulkRepository;
+    private final TenantEntryCounterRepository entryCounterRepository;
+    private final TenantBaseCurrencyProvider tenantBaseCurrencyProvider;
+    private final CurrencyConversionService currencyConversionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportChunkService(
+            FinancialCategoryRepository categoryRepository,
+            FinancialEntryBulkRepository bulkRepository,
+            TenantEntryCounterRepository entryCounterRepository,
+            TenantBaseCurrencyProvider tenantBaseCurrencyProvider,
+            CurrencyConversionService currencyConversionService,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.bulkRepository = bulkRepository;
+        this.entryCounterRepository = entryCounterRepository;
+        this.tenantBaseCurrencyProvider = tenantBaseCurrencyProvider;
+        this.currencyConversionService = currencyConversionService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Row of the second pass waiting for its chunk.
+     */
+    record PendingRow(int rowNumber, ExcelRow row) {}
+
+    /**
+     * Resolved once per import, shared by all chunks (categories are detached
+     * after their transaction; chunks only read their id and type).
+     */
+    record ImportContext(Map<String, FinancialCategory> categories, String baseCurrency) {}
+
+    // ============================================
+    // CATEGORIES
+    // ============================================
+
+    public ImportContext resolveCategories(Map<String, RecordType> categoryTypeMap, ImportJob job) {
+        CategoryProcessor categoryProcessor = new CategoryProcessor(categoryRepository);
+        Map<String, FinancialCategory> categories = categoryProcessor.processCategories(categoryTypeMap, job);
+        return new ImportContext(categories, tenantBaseCurrencyProvider.getCurrentTenantBaseCurrency());
+    }
+
+    // ============================================
+    // ENTRIES (one chunk)
+    // ============================================
+
+    /**
+     * Writes one chunk: validate → resolve rates → reserve a number block → build entries → JDBC batch insert.
+     *
+     * Numaralar deliksiz kalır: blok yalnızca validasyondan geçen satırlar
+     * kadar ayrılır; entry kurulumunda düşen satırların numarası sonrakine
+     * verilir ve kullanılmayan kuyruk sayaca geri döner.
+     *
+     * @return number of entries written
+     */
+    public int writeChunk(List<PendingRow> rows, ImportContext context, User currentUser, ImportJob job) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Long tenantId = TenantContext.getCurrentTenantId();
+        int year = java.time.Year.now().getValue();
+        EntryCreator entryCreator = new EntryCreator(context.categories(), currentUser, context.baseCurrency());
+
+        // 1. Validate — hatalı satırlar numara tüketmez
+        List<PendingRow> valid = new ArrayList<>(rows.size());
+        for (PendingRow pending : rows) {
+            try {
+                entryCreator.validate(pending.row());
+                valid.add(pending);
+            } catch (ImportException e) {
+                job.addError(pending.rowNumber(), "entry", e.getMessage());
+            }
+        }
+        if (valid.isEmpty()) {
+            return 0;
+        }
+
+        // 2. Chunk'ın farklı (tarih, döviz) kurları tek seferde
+        Map<RateKey, BigDecimal> rates = currencyConversionService.resolveRates(
+                valid.stream().map(pending -> rateKey(pending.row())).toList(),
+                context.baseCurrency()
+        );
+
+        // 3. Tek round-trip'te numara bloğu
+        int first = entryCounterRepository.reserveBlock(tenantId, year, valid.size());
+        int blockLast = first + valid.size() - 1;
+        int next = first;
+
+        // 4. Domain nesnelerini kur (validasyon FinancialEntry.create içinde)
+        List<FinancialEntry> entries = new ArrayList<>(valid.size());
+        Set<LocalDate> entryDates = new HashSet<>();
+        for (PendingRow pending : valid) {
+            try {
+                FinancialEntry entry = entryCreator.createEntry(pending.row(), next, rates.get(rateKey(pending.row())));
+                entries.add(entry);
+                entryDates.add(entry.getEntryDate());
+                next++;
+            } catch (ImportException e) {
+                job.addError(pending.rowNumber(), "entry", e.getMessage());
+            } catch (Exception e) {
+                log.warn("Unexpected error importing row {}", pending.rowNumber(), e);
+                job.addError(pending.rowNumber(), "system", "Unexpected error: " + e.getMessage());
+            }
+        }
+        entryCounterRepository.releaseTail(tenantId, year, blockLast, blockLast - next + 1);
+
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // 5. JDBC batch: entries + payments + tek revizyon + audit satırları
+        bulkRepository.insertAll(entries, tenantId, currentUser);
+
+        // JPA listener çalışmadı — rapor cache'i için event burada yayınlanır
+        eventPublisher.publishEvent(new FinancialEntryReportingChangedEvent(tenantId, null, entryDates));
+        return entries.size();
+    }
+
+    private static RateKey rateKey(ExcelRow row) {
+        return new RateKey(row.date(), row.currency());
+    }
+
+    // ============================================
+    // INNER CLASSES (Single Responsibility)
+    // ============================================
+
+    // Creates or finds FinancialCategory entities
+
+    private static class CategoryProcessor {
+
+        private final FinancialCategoryRepository categoryRepository;
+        private int createdCount = 0;
+
+        public CategoryProcessor(FinancialCategoryRepository categoryRepository) {
+            this.categoryRepository = categoryRepository;
+        }
+
+        public Map<String, FinancialCategory> processCategories(
+                Map<String, RecordType> categoryTypeMap,
+                ImportJob job
+        ) {
+            Map<String, FinancialCategory> categoryMap = new HashMap<>();
+
+            for (Map.Entry<String, RecordType> entry : categoryTypeMap.entrySet()) {
+                String categoryName = entry.getKey();
+                RecordType categoryType = entry.getValue();
+
+                FinancialCategory category = findOrCreateCategory(
+                        categoryName, categoryType, job
+                );
+
+                categoryMap.put(categoryName, category);
+            }
+
+            job.categoriesCreated(createdCount);
+            return categoryMap;
+        }
+
+        private FinancialCategory findOrCreateCategory(
+                String categoryName,
+                RecordType categoryType,
+                ImportJob job
+        ) {
+            return categoryRepository.findByName(categoryName.trim())
+                    .map(existingCategory -> validateExistingCategory(
+                            existingCategory, categoryName, categoryType
+                    ))
+                    .orElseGet(() -> createNewCategory(
+                            categoryName, categoryType
+                    ));
+        }
+
+        private FinancialCategory validateExistingCategory(
+                FinancialCategory existingCategory,
+                String categoryName,
+                RecordType suggestedType
+        ) {
+            if (existingCategory.getCategoryType() != suggestedType) {
+                log.info("Category '{}' has type {} but Excel data suggests {}",
+                        categoryName, existingCategory.getCategoryType(), suggestedType);
+            }
+            return existingCategory;
+        }
+
+        private FinancialCategory createNewCategory(
+                String categoryName,
+                RecordType categoryType
+        ) {
+            try {
+                boolean isTechnical = determineIfTechnical(categoryName);
+
+                FinancialCategory newCategory = FinancialCategory.create(
+                        categoryName,
+                        categoryType,
+                        "Imported from Excel",
+                        getNextDisplayOrder(),
+                        isTechnical
+                );
+
+                FinancialCategory saved = categoryRepository.save(newCategory);
+                createdCount++;
+                return saved;
+
+            } catch (Exception e) {
+                throw new CategoryCreationException(
+                        "Failed to create category: " + categoryName, e
+                );
+            }
+        }
+
+        private boolean determineIfTechnical(String categoryName) {
+            String name = categoryName.toLowerCase();
+            return name.contains("marina") ||
+                    name.contains("oil") ||
+                    name.contains("fuel") ||
+                    name.contains("repair") ||
+                    name.contains("maintenance");
+        }
+
+        private int getNextDisplayOrder() {
+            return (int) categoryRepository.count() + 1;
+        }
+    }
+    // Creates FinancialEntry entities as PAID historical records
+
+    private static class EntryCreator {
+
+        private final Map<String, FinancialCategory> categoryMap;
+        private final User creator;
+        private final String baseCurrency;
+
+        public EntryCreator(
+                Map<String, FinancialCategory> categoryMap,
+                User creator,
+                String baseCurrency
+        ) {
+            this.categoryMap = categoryMap;
+            this.creator = creator;
+            this.baseCurrency = baseCurrency;
+        }
+
+        public void validate(ExcelRow row) {
+            FinancialCategory category = getCategoryForRow(row);
+            validateCategoryType(row, category);
+        }
+
+        /**
+         * @param baseRate resolved row currency → base currency rate of the row date
+         */
+        public FinancialEntry createEntry(ExcelRow row, int sequence, BigDecimal baseRate) {
+            FinancialCategory category = getCategoryForRow(row);
+            validateCategoryType(row, category);
+
+            Money amount = createMoney(row);
+            EntryNumber entryNumber = EntryNumber.generate(sequence);
+
+            FinancialEntry entry = createFinancialEntry(row, category, amount, entryNumber);
+            // Ödeme base tutar üzerinden kaydedildiği için önce base tutar
+            entry.applyBaseRate(baseRate, baseCurrency);
+            markAsPaidHistoricalRecord(entry, row);
+            return entry;
+        }
+
+        private FinancialCategory getCategoryForRow(ExcelRow row) {
+            FinancialCategory category = categoryMap.get(row.category());
+            if (category == null) {
+                throw new ImportException("Category not found: " + row.category());
+            }
+            return category;
+        }
+
+        private void validateCategoryType(ExcelRow row, FinancialCategory category) {
+            RecordType entryType = row.isIncome() ? RecordType.INCOME : RecordType.EXPENSE;
+
+            if (category.getCategoryType() != entryType) {
+                throw new ImportException(String.format(
+                        "Category '%s' is type %s but entry is type %s",
+                        row.category(), category.getCategoryType(), entryType
+                ));
+            }
+        }
+
+        private Money createMoney(ExcelRow row) {
+            return Money.of(row.amount(), row.currency());
+        }
+
+        private FinancialEntry createFinancialEntry(
+                ExcelRow row,
+                FinancialCategory category,
+                Money amount,
+                EntryNumber entryNumber
+        ) {
+            RecordType entryType = row.isIncome() ? RecordType.INCOME : RecordType.EXPENSE;
+
+            return FinancialEntry.create(
+                    entryNumber,
+                    entryType,
+                    category,
+                    amount,
+                    row.date(),
+                    determinePaymentMethod(row),
+                    row.description(),
+                    null,           // tenantWho — not available in Excel data
+                    null,           // tenantMainCategory — not available in Excel data
+                    null,           // recipient
+                    null,           // country
+                    null,           // city
+                    null,           // specificLocation
+                    null,           // vendor
+                    baseCurrency
+            );
+        }
+
+        /**
+         * Historical records are completed transactions:
+         * DRAFT → APPROVED (submitAndApprove) → PAID (full payment dated at entry date).
+         */
+        private void markAsPaidHistoricalRecord(FinancialEntry entry, ExcelRow row) {
+            entry.submitAndApprove();
+
+            Payment payment = Payment.create(
+                    entry,
+                    entry.getBaseAmount(),
+                    row.date(),
+                    null,
+                    determinePaymentMethod(row),
+                    "Imported from Excel",
+                    creator
+            );
+            entry.addPayment(payment);
+        }
+
+        private PaymentMethod determinePaymentMethod(ExcelRow row) {
+            // Default for Excel imports
+            return PaymentMethod.CASH;
+        }
+    }
+}
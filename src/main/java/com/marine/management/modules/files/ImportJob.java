@@ -0,0 +1,161 @@
+package com.marine.management.modules.files;
+
+import com.marine.management.modules.files.ImportResultDto.ImportError;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mutable state of one background import.
+ *
+ * Written by the import worker thread, read by status polls — all state
+ * changes go through synchronized methods; readers get an {@link ImportJobDto}
+ * snapshot. Row errors are capped at {@link #MAX_REPORTED_ERRORS}; the failed
+ * row count keeps counting past the cap.
+ */
+public class ImportJob {
+
+    static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final UUID jobId;
+    private final Long tenantId;
+    private final UUID userId;
+    private final String fileName;
+    private final LocalDateTime createdAt;
+
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+    private boolean cancelRequested;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failureReason;
+
+    private int totalRows;
+    private int processedRows;
+    private int successfulRows;
+    private int failedRows;
+    private int categoriesCreated;
+    private final List<ImportError> errors = new ArrayList<>();
+
+    public ImportJob(Long tenantId, UUID userId, String fileName) {
+        this.jobId = UUID.randomUUID();
+        this.tenantId = tenantId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // ============================================
+    // LIFECYCLE
+    // ============================================
+
+    synchronized void markRunning() {
+        status = ImportJobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    synchronized void markCompleted() {
+        finish(ImportJobStatus.COMPLETED);
+    }
+
+    synchronized void markCancelled() {
+        finish(ImportJobStatus.CANCELLED);
+    }
+
+    synchronized void markFailed(String reason) {
+        failureReason = reason;
+        finish(ImportJobStatus.FAILED);
+    }
+
+    private void finish(ImportJobStatus finalStatus) {
+        status = finalStatus;
+        finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Worker stops after the chunk in progress; committed chunks stay.
+     *
+     * @return false when the job has already finished
+     */
+    synchronized boolean requestCancel() {
+        if (status.isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    synchronized boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    synchronized boolean isFinishedBefore(LocalDateTime threshold) {
+        return finishedAt != null && finishedAt.isBefore(threshold);
+    }
+
+    // ============================================
+    // PROGRESS
+    // ============================================
+
+    synchronized void totalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    synchronized void categoriesCreated(int categoriesCreated) {
+        this.categoriesCreated = categoriesCreated;
+    }
+
+    synchronized void rowsProcessed(int processed, int successful) {
+        this.processedRows += processed;
+        this.successfulRows += successful;
+    }
+
+    synchronized void addError(int rowNumber, String fieldName, String errorMessage) {
+        failedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportError(rowNumber, fieldName, errorMessage));
+        }
+    }
+
+    // ============================================
+    // VIEWS
+    // ============================================
+
+    synchronized ImportJobDto snapshot() {
+        int progress = totalRows == 0 ? 0 : (int) ((long) processedRows * 100 / totalRows);
+        return new ImportJobDto(
+                jobId,
+                fileName,
+                status,
+                totalRows,
+                processedRows,
+                status == ImportJobStatus.COMPLETED ? 100 : progress,
+                successfulRows,
+                failedRows,
+                categoriesCreated,
+                List.copyOf(errors),
+                failedRows > errors.size(),
+                failureReason,
+                createdAt,
+                startedAt,
+                finishedAt
+        );
+    }
+
+    synchronized ImportResultDto toResult() {
+        return new ImportResultDto(
+                totalRows,
+                successfulRows,
+                failedRows,
+                categoriesCreated,
+                successfulRows,
+                new ArrayList<>(errors)
+        );
+    }
+
+    public UUID getJobId() { return jobId; }
+    public Long getTenantId() { return tenantId; }
+    public UUID getUserId() { return userId; }
+    public String getFileName() { return fileName; }
+}
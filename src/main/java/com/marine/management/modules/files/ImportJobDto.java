@@ -0,0 +1,31 @@
+package com.marine.management.modules.files;
+
+import com.marine.management.modules.files.ImportResultDto.ImportError;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Point-in-time view of a background import (status polling response).
+ *
+ * @param progressPercent processed / total rows of the second pass (0-100)
+ * @param errorsTruncated true when more rows failed than {@code errors} lists
+ */
+public record ImportJobDto(
+        UUID jobId,
+        String fileName,
+        ImportJobStatus status,
+        int totalRows,
+        int processedRows,
+        int progressPercent,
+        int successfulRows,
+        int failedRows,
+        int categoriesCreated,
+        List<ImportError> errors,
+        boolean errorsTruncated,
+        String failureReason,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {}
@@ -0,0 +1,46 @@
+package com.marine.management.modules.files;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of background imports (single instance deployment).
+ *
+ * Jobs are tenant-scoped: lookups with another tenant's ID behave as if the
+ * job did not exist. Finished jobs are kept for {@link #RETENTION} so the
+ * client can fetch the final result, then dropped on the next job creation.
+ */
+@Component
+public class ImportJobRegistry {
+
+    static final Duration RETENTION = Duration.ofHours(1);
+
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJob create(Long tenantId, UUID userId, String fileName) {
+        purgeExpired();
+
+        ImportJob job = new ImportJob(tenantId, userId, fileName);
+        jobs.put(job.getJobId(), job);
+        return job;
+    }
+
+    public Optional<ImportJob> find(Long tenantId, UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.getTenantId().equals(tenantId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(RETENTION);
+        jobs.values().removeIf(job -> job.isFinishedBefore(threshold));
+    }
+}
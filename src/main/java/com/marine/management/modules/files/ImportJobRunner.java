@@ -0,0 +1,221 @@
+package com.marine.management.modules.files;
+
+import com.marine.management.modules.files.DataImportService.EmptyExcelFileException;
+import com.marine.management.modules.files.ImportChunkService.ImportContext;
+import com.marine.management.modules.files.ImportChunkService.PendingRow;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.events.EntriesImportedEvent;
+import com.marine.management.modules.users.domain.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs an Excel import over a spooled workbook.
+ *
+ * PIPELINE (transaction'sız — her adım ImportChunkService'te kendi transaction'ında):
+ * 1. First pass: count category usage (no rows kept)
+ * 2. Resolve / create categories (one transaction)
+ * 3. Second pass: rows buffered into chunks of {@link #IMPORT_CHUNK_SIZE},
+ *    each chunk committed separately; progress and cancel checked between chunks
+ *
+ * {@link #runAsync} executes on the @Async executor (AsyncConfiguration);
+ * TenantAwareTaskDecorator carries the tenant of the submitting request.
+ */
+@Component
+public class ImportJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportJobRunner.class);
+
+    static final int IMPORT_CHUNK_SIZE = 500;
+
+    private final ImportChunkService chunkService;
+    private final CategoryTypeDeterminer categoryTypeDeterminer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportJobRunner(ImportChunkService chunkService, ApplicationEventPublisher eventPublisher) {
+        this.chunkService = chunkService;
+        this.categoryTypeDeterminer = new CategoryTypeDeterminer();
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Background execution; owns (and closes) the workbook.
+     * Failures and cancellation end up in the job state, never in the caller.
+     */
+    @Async
+    public void runAsync(ImportJob job, ExcelParserService.ExcelWorkbook workbook, User currentUser) {
+        // created_by / revinfo kullanıcısı için (AuditingEntityListener SecurityContext'e bakar)
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(
+                currentUser, null, currentUser.getAuthorities()));
+        SecurityContextHolder.setContext(securityContext);
+
+        try (workbook) {
+            run(job, workbook, currentUser);
+        } catch (ImportCancelledException e) {
+            job.markCancelled();
+            log.info("Excel import {} cancelled by request", job.getJobId());
+        } catch (Exception e) {
+            job.markFailed(e.getMessage());
+            log.error("Excel import {} failed", job.getJobId(), e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Runs the import on the calling thread.
+     *
+     * @throws EmptyExcelFileException when the sheet has no valid data row
+     */
+    public void run(ImportJob job, ExcelParserService.ExcelWorkbook workbook, User currentUser) throws IOException {
+        job.markRunning();
+
+        // 1. Scan categories (first pass, counters only)
+        CategoryUsageCounter usageCounter = new CategoryUsageCounter();
+        int totalRows = workbook.forEachRow((rowNumber, row) -> usageCounter.count(row));
+        job.totalRows(totalRows);
+
+        if (totalRows == 0) {
+            throw new EmptyExcelFileException("No valid data found in Excel file");
+        }
+        checkCancelled(job);
+
+        // 2. Process categories
+        ImportContext context = chunkService.resolveCategories(
+                categoryTypeDeterminer.determineCategoryTypes(usageCounter), job);
+
+        // 3. Process entries (second pass, chunk başına commit)
+        List<PendingRow> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+        // rowNumber: gerçek Excel satır numarası (1-indexed, header = 1)
+        workbook.forEachRow((rowNumber, row) -> {
+            chunk.add(new PendingRow(rowNumber, row));
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                writeChunk(chunk, context, currentUser, job);
+                checkCancelled(job);
+            }
+        });
+        writeChunk(chunk, context, currentUser, job);
+
+        job.markCompleted();
+
+        ImportResultDto result = job.toResult();
+        log.info("Excel import completed by user {}: {} total rows, {} successful, {} failed, {} categories created",
+                currentUser.getId(), result.totalRows(), result.successfulRows(),
+                result.failedRows(), result.categoriesCreated());
+
+        // Chunk'lar zaten commit edildi — transaction dışı, dinleyiciler hemen çalışır
+        eventPublisher.publishEvent(new EntriesImportedEvent(
+                job.getTenantId(), job.getJobId(), job.getUserId(), result.successfulRows()));
+    }
+
+    private void writeChunk(List<PendingRow> chunk, ImportContext context, User currentUser, ImportJob job) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int written = chunkService.writeChunk(chunk, context, currentUser, job);
+        job.rowsProcessed(chunk.size(), written);
+        chunk.clear();
+    }
+
+    private static void checkCancelled(ImportJob job) {
+        if (job.isCancelRequested()) {
+            throw new ImportCancelledException();
+        }
+    }
+
+    /**
+     * Aborts the streaming pass from inside the row handler.
+     */
+    private static class ImportCancelledException extends RuntimeException {
+        ImportCancelledException() {
+            super("Import cancelled");
+        }
+    }
+
+    // ============================================
+    // INNER CLASSES (Single Responsibility)
+    // ============================================
+
+    private static class CategoryTypeDeterminer {
+
+        public Map<String, RecordType> determineCategoryTypes(CategoryUsageCounter usageCounter) {
+            return assignCategoryTypes(usageCounter);
+        }
+
+        private Map<String, RecordType> assignCategoryTypes(CategoryUsageCounter counter) {
+            Map<String, RecordType> categoryTypeMap = new HashMap<>();
+
+            for (String category : counter.getAllCategories()) {
+                RecordType determinedType = determineTypeByMajority(counter, category);
+                categoryTypeMap.put(category, determinedType);
+            }
+
+            return categoryTypeMap;
+        }
+
+        private RecordType determineTypeByMajority(
+                CategoryUsageCounter counter,
+                String category
+        ) {
+            int incomeCount = counter.getIncomeCount(category);
+            int expenseCount = counter.getExpenseCount(category);
+
+            return incomeCount > expenseCount ?
+                    RecordType.INCOME : RecordType.EXPENSE;
+        }
+    }
+
+    // Helper class to count category usage
+
+    private static class CategoryUsageCounter {
+        private final Map<String, Integer> incomeCount = new HashMap<>();
+        private final Map<String, Integer> expenseCount = new HashMap<>();
+
+        public void count(ExcelRow row) {
+            if (row.isIncome()) {
+                incrementIncome(row.category());
+            } else {
+                incrementExpense(row.category());
+            }
+        }
+
+        public void incrementIncome(String category) {
+            incomeCount.merge(category, 1, Integer::sum);
+        }
+
+        public void incrementExpense(String category) {
+            expenseCount.merge(category, 1, Integer::sum);
+        }
+
+        public int getIncomeCount(String category) {
+            return incomeCount.getOrDefault(category, 0);
+        }
+
+        public int getExpenseCount(String category) {
+            return expenseCount.getOrDefault(category, 0);
+        }
+
+        public Set<String> getAllCategories() {
+            Set<String> allCategories = new HashSet<>();
+            allCategories.addAll(incomeCount.keySet());
+            allCategories.addAll(expenseCount.keySet());
+            return allCategories;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.marine.management.modules.files;
+
+/**
+ * Lifecycle of a background Excel import.
+ *
+ * QUEUED → RUNNING → COMPLETED | FAILED | CANCELLED
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
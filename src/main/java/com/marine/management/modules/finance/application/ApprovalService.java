@@ -3,16 +3,21 @@ package com.marine.management.modules.finance.application;
 import com.marine.management.modules.finance.domain.entities.FinancialEntry;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
+import com.marine.management.modules.finance.infrastructure.query.KeysetCursor;
 import com.marine.management.modules.finance.presentation.dto.EntryApprovalResponseDto;
 import com.marine.management.modules.finance.presentation.dto.EntryResponseDto;
+import com.marine.management.modules.finance.presentation.dto.PendingEntryDto;
 import com.marine.management.modules.organization.domain.Organization;
 import com.marine.management.modules.users.domain.User;
 import com.marine.management.modules.users.infrastructure.UserRepository;
 import com.marine.management.shared.exceptions.EntryNotFoundException;
 import com.marine.management.shared.multitenant.TenantContext;
+import com.marine.management.shared.presentation.CursorPage;
 import com.marine.management.shared.security.EntryAccessPolicy;
+import com.marine.management.shared.security.EntryAccessPolicy.PendingScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
@@ -21,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.marine.management.modules.finance.domain.vo.Money;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -43,18 +49,25 @@ public class ApprovalService {
 
     private static final Logger logger = LoggerFactory.getLogger(ApprovalService.class);
 
+    private static final String PENDING_SORT_PATH = "entryDate";
+    private static final int DEFAULT_PENDING_PAGE_SIZE = 20;
+    private static final int MAX_PENDING_PAGE_SIZE = 100;
+
     private final FinancialEntryRepository entryRepository;
     private final EntryAccessPolicy accessPolicy;
     private final UserRepository userRepository;
+    private final PendingApprovalCounters pendingApprovalCounters;
 
     public ApprovalService(
             FinancialEntryRepository entryRepository,
             EntryAccessPolicy accessPolicy,
-            UserRepository userRepository
+            UserRepository userRepository,
+            PendingApprovalCounters pendingApprovalCounters
     ) {
         this.entryRepository = entryRepository;
         this.accessPolicy = accessPolicy;
         this.userRepository = userRepository;
+        this.pendingApprovalCounters = pendingApprovalCounters;
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -96,15 +109,56 @@ public class ApprovalService {
                 .toList();
     }
 
+    /**
+     * Keyset-paginated pending queue, newest entry date first.
+     *
+     * Same scope as getPendingForUser, but one projection query per page
+     * (entry + category name + creator name) — no entities, no lazy loads,
+     * no separate user lookup. Pass nextCursor back for the following page.
+     */
+    public CursorPage<PendingEntryDto> scrollPendingForUser(User user, String cursor, int size) {
+        guardTenantContext();
+        verifyUserBelongsToCurrentTenant(user);
+
+        int pageSize = size <= 0 ? DEFAULT_PENDING_PAGE_SIZE : Math.min(size, MAX_PENDING_PAGE_SIZE);
+
+        PendingScope scope = accessPolicy.getPendingScope(user);
+        if (scope.isEmpty()) {
+            return new CursorPage<>(List.of(), null, false, pageSize);
+        }
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<PendingEntryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = entryRepository.findPendingQueue(scope.statuses(), scope.createdById(), limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            after.requireSort(PENDING_SORT_PATH, Sort.Direction.DESC);
+            rows = entryRepository.findPendingQueueAfter(
+                    scope.statuses(), scope.createdById(), (LocalDate) after.typedKey(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PendingEntryDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PendingEntryDto last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(PENDING_SORT_PATH, Sort.Direction.DESC,
+                    last.entryDate().toString(), last.id()).encode();
+        }
+
+        return new CursorPage<>(page, nextCursor, hasNext, pageSize);
+    }
+
     /**
      * Get count of pending items for user (for dashboard badge).
+     * Served from PendingApprovalCounters — same scope as getPendingForUser.
      */
     public long getPendingCountForUser(User user) {
         guardTenantContext();
         verifyUserBelongsToCurrentTenant(user);
 
-        Specification<FinancialEntry> spec = accessPolicy.getPendingSpecification(user);
-        return entryRepository.count(spec);
+        return pendingApprovalCounters.countFor(user);
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -318,27 +372,83 @@ public class ApprovalService {
     // ═══════════════════════════════════════════════════════════════════════════
 
     /**
-     * Bulk approve entries.
+     * Bulk approve entries (each at its current level, full amount).
+     *
+     * Set-based: all entries are loaded with one query, access and status
+     * transitions are checked in memory, and the changes are flushed once at
+     * commit — Hibernate JDBC batching (hibernate.jdbc.batch_size) for the
+     * UPDATEs and audit rows, one Envers revision for the whole call.
+     * Failing entries are reported per entry and left unchanged.
      */
     @Transactional
     public BulkResult bulkApprove(List<UUID> entryIds, User approver) {
+        guardTenantContext();
+        verifyUserBelongsToCurrentTenant(approver);
+
+        Set<UUID> ids = new LinkedHashSet<>(entryIds);
+        Map<UUID, FinancialEntry> entries = entryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(FinancialEntry::getEntryId, entry -> entry));
+        Organization tenant = approver.getOrganization();
+
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
         int success = 0;
-        int failed = 0;
 
-        for (UUID id : entryIds) {
+        for (UUID id : ids) {
+            FinancialEntry entry = entries.get(id);
+            if (entry == null) {
+                results.add(BulkItemResult.failed(id, "Entry not found"));
+                continue;
+            }
             try {
-                approve(id, approver);
+                approveAtCurrentLevel(entry, approver, tenant);
+                results.add(BulkItemResult.succeeded(entry));
                 success++;
-            } catch (Exception e) {
+            } catch (RuntimeException e) {
                 logger.warn("Bulk approve failed for entry {}: {}", id, e.getMessage());
-                failed++;
+                results.add(BulkItemResult.failed(id, e.getMessage()));
             }
         }
 
-        return new BulkResult(success, failed);
+        logger.info("Bulk approve: {} of {} entries approved by {}", success, ids.size(), approver.getEmail());
+        return new BulkResult(success, ids.size() - success, results);
+    }
+
+    /**
+     * Same checks and transitions as approveByCaptain / approveByManager
+     * (full amount), on an already loaded entry.
+     */
+    private void approveAtCurrentLevel(FinancialEntry entry, User approver, Organization tenant) {
+        switch (entry.getStatus()) {
+            case PENDING_CAPTAIN -> {
+                accessPolicy.checkApproveAccess(entry, approver);
+                entry.approveByCaptain(isManagerApprovalRequired(entry, tenant));
+            }
+            case PENDING_MANAGER -> {
+                accessPolicy.checkApproveAccess(entry, approver);
+                entry.approveByManager(null);
+            }
+            default -> throw new IllegalStateException("Entry is not pending approval");
+        }
     }
 
-    public record BulkResult(int success, int failed) {}
+    public record BulkResult(int success, int failed, List<BulkItemResult> results) {}
+
+    /**
+     * Outcome for one entry of a bulk operation.
+     *
+     * @param status new status on success (APPROVED or PENDING_MANAGER), null on failure
+     * @param error  failure reason, null on success
+     */
+    public record BulkItemResult(UUID entryId, boolean success, EntryStatus status, String error) {
+
+        static BulkItemResult succeeded(FinancialEntry entry) {
+            return new BulkItemResult(entry.getEntryId(), true, entry.getStatus(), null);
+        }
+
+        static BulkItemResult failed(UUID entryId, String error) {
+            return new BulkItemResult(entryId, false, null, error);
+        }
+    }
 
     // ═══════════════════════════════════════════════════════════════════════════
     // PRIVATE HELPERS
@@ -0,0 +1,46 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.infrastructure.FinancialBalanceCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Stores balance checkpoints off the report request.
+ *
+ * {@link #writeAsync} executes on the @Async executor (AsyncConfiguration),
+ * so the write borrows its own pooled connection only after the read-only
+ * report transaction has handed its connection back.
+ */
+@Component
+public class BalanceCheckpointWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointWriter.class);
+
+    private final FinancialBalanceCheckpointRepository checkpointRepository;
+
+    public BalanceCheckpointWriter(FinancialBalanceCheckpointRepository checkpointRepository) {
+        this.checkpointRepository = Objects.requireNonNull(checkpointRepository);
+    }
+
+    /**
+     * Background execution; failures are logged, never thrown.
+     */
+    @Async
+    public void writeAsync(Long tenantId, YearMonth month, BigDecimal balance, long version) {
+        try {
+            boolean stored = checkpointRepository.saveIfUnchanged(tenantId, month, balance, version);
+            if (!stored) {
+                log.debug("Checkpoint skipped (concurrent change): tenantId={} month={}", tenantId, month);
+            }
+        } catch (RuntimeException e) {
+            // Checkpoint bir optimizasyon — sonraki rapor yeniden dener
+            log.warn("Checkpoint could not be stored: tenantId={} month={}", tenantId, month, e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
+import com.marine.management.modules.finance.infrastructure.FinancialBalanceCheckpointRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialBalanceCheckpointRepository.BalanceCheckpoint;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository.MonthlyTotalProjection;
+import com.marine.management.modules.finance.infrastructure.FinancialMonthlyRollupRepository;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Carry-over balance (net ACTUAL income - expense before a date) for reports.
+ *
+ * <p>Instead of summing every entry in the tenant's history, the balance is:
+ * <ol>
+ *   <li>the latest closed-month checkpoint at or before the target month,</li>
+ *   <li>plus the monthly rollup net of the whole months after it,</li>
+ *   <li>plus raw entries of the partial month when the date is mid-month.</li>
+ * </ol>
+ *
+ * <p>Each call that walks past a closed month without a checkpoint stores one,
+ * so the next report starts from there. The write is handed to
+ * {@link BalanceCheckpointWriter} after the report transaction commits; a
+ * report request never holds a second pooled connection. Back-dated changes into a closed month
+ * delete affected checkpoints in the database (V004 trigger).
+ *
+ * <p>A month becomes checkpointable one day after it ends. The grace day covers
+ * transactions that started before midnight and DB/JVM timezone differences.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CarryOverBalanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(CarryOverBalanceService.class);
+
+    private final FinancialEntryReportRepository reportRepository;
+    private final FinancialMonthlyRollupRepository rollupRepository;
+    private final FinancialBalanceCheckpointRepository checkpointRepository;
+    private final BalanceCheckpointWriter checkpointWriter;
+
+    public CarryOverBalanceService(
+            FinancialEntryReportRepository reportRepository,
+            FinancialMonthlyRollupRepository rollupRepository,
+            FinancialBalanceCheckpointRepository checkpointRepository,
+            BalanceCheckpointWriter checkpointWriter
+    ) {
+        this.reportRepository = Objects.requireNonNull(reportRepository);
+        this.rollupRepository = Objects.requireNonNull(rollupRepository);
+        this.checkpointRepository = Objects.requireNonNull(checkpointRepository);
+        this.checkpointWriter = Objects.requireNonNull(checkpointWriter);
+    }
+
+    /**
+     * Net ACTUAL balance of all entries dated strictly before {@code before}.
+     */
+    public BigDecimal getCarryOverBalance(LocalDate before) {
+        Objects.requireNonNull(before, "Date cannot be null");
+
+        Long tenantId = TenantContext.getCurrentTenantId();
+        YearMonth lastFullMonth = YearMonth.from(before).minusMonths(1);
+        YearMonth checkpointLimit = earliest(lastFullMonth, lastCheckpointableMonth(LocalDate.now()));
+
+        // Versiyon rollup'tan ÖNCE okunmalı (bkz. saveIfUnchanged)
+        long version = checkpointRepository.currentVersion(tenantId);
+        Optional<BalanceCheckpoint> checkpoint =
+                checkpointRepository.findLatestAtOrBefore(tenantId, lastFullMonth);
+
+        BigDecimal balance = checkpoint.map(BalanceCheckpoint::closingBalance).orElse(BigDecimal.ZERO);
+        YearMonth checkpointMonth = checkpoint.map(BalanceCheckpoint::month).orElse(null);
+
+        if (checkpointMonth == null || checkpointMonth.isBefore(lastFullMonth)) {
+            int fromKey = checkpointMonth == null
+                    ? 0
+                    : FinancialMonthlyRollupRepository.monthKey(checkpointMonth.plusMonths(1));
+
+            List<MonthlyTotalProjection> months = rollupRepository.findMonthlyTotals(
+                    fromKey, FinancialMonthlyRollupRepository.monthKey(lastFullMonth), ReportingCategory.ACTUAL
+            );
+
+            BigDecimal balanceAtLimit = null;
+            for (MonthlyTotalProjection month : months) {
+                if (balanceAtLimit == null
+                        && YearMonth.of(month.getYear(), month.getMonth()).isAfter(checkpointLimit)) {
+                    balanceAtLimit = balance;
+                }
+                balance = month.getEntryType() == RecordType.INCOME
+                        ? balance.add(month.getTotal())
+                        : balance.subtract(month.getTotal());
+            }
+            if (balanceAtLimit == null) {
+                balanceAtLimit = balance;
+            }
+
+            if (checkpointMonth == null || checkpointLimit.isAfter(checkpointMonth)) {
+                storeCheckpoint(tenantId, checkpointLimit, balanceAtLimit, version);
+            }
+        }
+
+        if (before.getDayOfMonth() != 1) {
+            balance = balance.add(reportRepository.findNetBalanceBetween(
+                    before.withDayOfMonth(1), before, EntryStatus.ACTUAL_STATUSES
+            ));
+        }
+
+        return balance;
+    }
+
+    /**
+     * Last month whose checkpoint can be stored as of {@code today}.
+     */
+    static YearMonth lastCheckpointableMonth(LocalDate today) {
+        return YearMonth.from(today.minusDays(1)).minusMonths(1);
+    }
+
+    /**
+     * Submits the checkpoint once the report transaction has committed
+     * (immediately when no transaction is active).
+     */
+    private void storeCheckpoint(Long tenantId, YearMonth month, BigDecimal balance, long version) {
+        Runnable submit = () -> {
+            try {
+                checkpointWriter.writeAsync(tenantId, month, balance, version);
+            } catch (TaskRejectedException e) {
+                // Executor dolu — checkpoint bir optimizasyon, sonraki rapor yeniden dener
+                log.debug("Checkpoint write rejected: tenantId={} month={}", tenantId, month);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit.run();
+            }
+        });
+    }
+
+    private static YearMonth earliest(YearMonth a, YearMonth b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,132 @@
+package com.marine.management.modules.finance.application;
+
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Batch currency conversion for multi-entry operations (import, bulk edit,
+ * re-basing).
+ *
+ * Instead of one ExchangeRateService lookup per entry:
+ * 1. Collect the distinct (date, currency) keys of the batch
+ * 2. Preload the batch's date range into ExchangeRateStore in one query
+ * 3. Resolve each distinct key once
+ * 4. Apply the rates in a plain loop
+ *
+ * Rates and rounding are the same as {@link ExchangeRateService#convert}.
+ */
+@Service
+public class CurrencyConversionService {
+
+    // Daha geniş aralıklarda gün gün (lazy) yükleme — seyrek tarihli
+    // çok yıllık bir batch için binlerce boş gün önyüklenmesin
+    private static final long MAX_PRELOAD_DAYS = 366;
+
+    private final ExchangeRateService exchangeRateService;
+
+    public CurrencyConversionService(ExchangeRateService exchangeRateService) {
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    /**
+     * Rate lookup key: source currency on a date.
+     */
+    public record RateKey(LocalDate date, String currency) {
+        public RateKey {
+            Objects.requireNonNull(date, "Date cannot be null");
+            Objects.requireNonNull(currency, "Currency cannot be null");
+        }
+    }
+
+    public record ConversionRequest(LocalDate date, String currency, BigDecimal amount) {
+        public ConversionRequest {
+            Objects.requireNonNull(amount, "Amount cannot be null");
+        }
+
+        public RateKey key() {
+            return new RateKey(date, currency);
+        }
+    }
+
+    /**
+     * @param rate   source → target rate applied
+     * @param amount converted amount (scale 2, HALF_UP)
+     */
+    public record Conversion(BigDecimal rate, BigDecimal amount) {}
+
+    /**
+     * Resolves source → target rates for the distinct keys, each once.
+     */
+    public Map<RateKey, BigDecimal> resolveRates(Collection<RateKey> keys, String targetCurrency) {
+        Objects.requireNonNull(targetCurrency, "Target currency cannot be null");
+
+        Map<RateKey, BigDecimal> rates = new HashMap<>();
+        Set<RateKey> foreign = new LinkedHashSet<>();
+        for (RateKey key : keys) {
+            if (key.currency().equals(targetCurrency)) {
+                rates.put(key, BigDecimal.ONE);
+            } else {
+                foreign.add(key);
+            }
+        }
+        if (foreign.isEmpty()) {
+            return rates;
+        }
+
+        preload(foreign);
+        for (RateKey key : foreign) {
+            rates.put(key, exchangeRateService.getRate(key.date(), key.currency(), targetCurrency));
+        }
+        return rates;
+    }
+
+    /**
+     * Converts the batch to the target currency.
+     *
+     * @return conversions in request order
+     */
+    public List<Conversion> convertAll(List<ConversionRequest> requests, String targetCurrency) {
+        Map<RateKey, BigDecimal> rates = resolveRates(
+                requests.stream().map(ConversionRequest::key).toList(),
+                targetCurrency
+        );
+
+        List<Conversion> conversions = new ArrayList<>(requests.size());
+        for (ConversionRequest request : requests) {
+            BigDecimal rate = rates.get(request.key());
+            BigDecimal amount = BigDecimal.ONE.equals(rate)
+                    ? request.amount()
+                    : request.amount().multiply(rate).setScale(2, RoundingMode.HALF_UP);
+            conversions.add(new Conversion(rate, amount));
+        }
+        return conversions;
+    }
+
+    private void preload(Set<RateKey> keys) {
+        LocalDate start = null;
+        LocalDate end = null;
+        for (RateKey key : keys) {
+            if (start == null || key.date().isBefore(start)) {
+                start = key.date();
+            }
+            if (end == null || key.date().isAfter(end)) {
+                end = key.date();
+            }
+        }
+
+        if (start.plusDays(MAX_PRELOAD_DAYS).isAfter(end)) {
+            exchangeRateService.preloadRates(start, end);
+        }
+    }
+}
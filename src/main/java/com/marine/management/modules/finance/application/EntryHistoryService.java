@@ -2,6 +2,7 @@ package com.marine.management.modules.finance.application;
 
 import com.marine.management.modules.finance.domain.entities.EntryApproval;
 import com.marine.management.modules.finance.domain.entities.FinancialEntry;
+import com.marine.management.modules.finance.application.EntryRevisionService.RevisionPage;
 import com.marine.management.modules.finance.domain.enums.ApprovalStatus;
 import com.marine.management.modules.finance.infrastructure.EntryApprovalRepository;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
@@ -9,14 +10,19 @@ import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDt
 import com.marine.management.modules.finance.presentation.dto.MoneyDto;
 import com.marine.management.modules.users.domain.User;
 import com.marine.management.shared.exceptions.EntryNotFoundException;
+import com.marine.management.shared.exceptions.InvalidCursorException;
 import com.marine.management.shared.multitenant.TenantContext;
+import com.marine.management.shared.presentation.CursorPage;
 import com.marine.management.shared.security.EntryAccessPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -33,6 +39,8 @@ import java.util.UUID;
  * - Read-only transactions: no writes, safe for performance
  * - Access control delegated to EntryAccessPolicy (same as entry read)
  * - Revision events delegate to EntryRevisionService (SRP: revision querying is separate)
+ * - getHistoryPage pages by revision so heavily edited entries open without
+ *   reading their whole audit trail
  */
 @Service
 @Transactional(readOnly = true)
@@ -40,6 +48,9 @@ public class EntryHistoryService {
 
     private static final Logger logger = LoggerFactory.getLogger(EntryHistoryService.class);
 
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final FinancialEntryRepository entryRepository;
     private final EntryApprovalRepository approvalRepository;
     private final EntryRevisionService revisionService;
@@ -87,6 +98,45 @@ public class EntryHistoryService {
         return timeline;
     }
 
+    /**
+     * Get one page of the history timeline, paged by revision (newest first).
+     *
+     * A page holds up to {@code size} revisions; approval events are merged
+     * into the page whose revision time window they fall into, so walking all
+     * pages yields the same timeline as getHistory. Pass nextCursor back for
+     * older events.
+     */
+    public CursorPage<EntryHistoryItemDto> getHistoryPage(UUID entryId, User currentUser, String cursor, int size) {
+        FinancialEntry entry = entryRepository.findById(entryId)
+                .orElseThrow(() -> EntryNotFoundException.withId(entryId));
+
+        accessPolicy.checkReadAccess(entry, currentUser);
+
+        int pageSize = size <= 0 ? DEFAULT_HISTORY_PAGE_SIZE : Math.min(size, MAX_HISTORY_PAGE_SIZE);
+        HistoryCursor after = cursor == null || cursor.isBlank() ? null : HistoryCursor.decode(cursor);
+
+        RevisionPage revisions = revisionService.buildRevisionPage(
+                entryId, after != null ? after.beforeRevision() : null, pageSize);
+
+        // Pencere: (bu sayfanın en eski revizyonu, önceki sayfanın en eski revizyonu]
+        LocalDateTime upperBound = after != null ? after.upperBound() : null;
+        LocalDateTime lowerBound = revisions.hasNext() ? revisions.oldestTimestamp() : null;
+
+        List<EntryHistoryItemDto> timeline = new ArrayList<>(revisions.events());
+        buildApprovalEvents(entryId).stream()
+                .filter(event -> upperBound == null || event.timestamp().isBefore(upperBound))
+                .filter(event -> lowerBound == null || !event.timestamp().isBefore(lowerBound))
+                .forEach(timeline::add);
+
+        timeline.sort(Comparator.comparing(EntryHistoryItemDto::timestamp).reversed());
+
+        String nextCursor = revisions.hasNext()
+                ? new HistoryCursor(revisions.oldestRevision(), revisions.oldestTimestamp()).encode()
+                : null;
+
+        return new CursorPage<>(timeline, nextCursor, revisions.hasNext(), pageSize);
+    }
+
     // ─── Approval event mapping ───
 
     private List<EntryHistoryItemDto> buildApprovalEvents(UUID entryId) {
@@ -154,4 +204,33 @@ public class EntryHistoryService {
             );
         };
     }
+
+    /**
+     * Continuation token of a history page: oldest revision of the previous
+     * page and its timestamp. Opaque Base64URL string for the client.
+     */
+    record HistoryCursor(int beforeRevision, LocalDateTime upperBound) {
+
+        private static final String SEPARATOR = "|";
+
+        String encode() {
+            String raw = beforeRevision + SEPARATOR + upperBound;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                if (parts.length != 2) {
+                    throw InvalidCursorException.malformed(null);
+                }
+                return new HistoryCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]));
+            } catch (InvalidCursorException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw InvalidCursorException.malformed(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.vo.EntryNumber;
+import com.marine.management.modules.finance.infrastructure.TenantEntryCounterRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out entry numbers per (tenant, year).
+ *
+ * MODES (app.entry-number.mode):
+ * - gapless (default): one counter increment inside the caller's transaction.
+ *   A rollback returns the number, so numbering has no holes — but every
+ *   create in a tenant queues on the same counter row until commit.
+ * - block: reserves {@code app.entry-number.block-size} numbers in a short,
+ *   separately committed transaction and hands them out from memory. Creates
+ *   no longer wait on the counter row; the price is possible gaps (a rolled
+ *   back create does not return its number) and, on several instances,
+ *   numbers that are unique but not strictly in creation order.
+ *
+ * On shutdown, block mode gives the untouched tail of each block back to
+ * the counter when nobody reserved after it, so a restart does not leave
+ * a hole of up to block-size numbers.
+ */
+@Component
+public class EntryNumberAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(EntryNumberAllocator.class);
+
+    static final String MODE_GAPLESS = "gapless";
+    static final String MODE_BLOCK = "block";
+
+    private final TenantEntryCounterRepository entryCounterRepository;
+    private final boolean blockMode;
+    private final int blockSize;
+
+    private final Map<Key, Block> blocks = new ConcurrentHashMap<>();
+
+    public EntryNumberAllocator(
+            TenantEntryCounterRepository entryCounterRepository,
+            @Value("${app.entry-number.mode:gapless}") String mode,
+            @Value("${app.entry-number.block-size:50}") int blockSize
+    ) {
+        if (!MODE_GAPLESS.equals(mode) && !MODE_BLOCK.equals(mode)) {
+            throw new IllegalArgumentException("Unknown app.entry-number.mode: " + mode);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("app.entry-number.block-size must be positive, got: " + blockSize);
+        }
+        this.entryCounterRepository = entryCounterRepository;
+        this.blockMode = MODE_BLOCK.equals(mode);
+        this.blockSize = blockSize;
+        log.info("Entry number allocator: mode={}, blockSize={}", mode, blockSize);
+    }
+
+    /**
+     * Next entry number of the tenant for the current year.
+     */
+    public EntryNumber next(Long tenantId) {
+        int year = Year.now().getValue();
+        int sequence = blockMode
+                ? blocks.computeIfAbsent(new Key(tenantId, year), key -> new Block()).next(tenantId, year)
+                : entryCounterRepository.nextSequence(tenantId, year);
+        return EntryNumber.generate(year, sequence);
+    }
+
+    @PreDestroy
+    void releaseUnused() {
+        blocks.forEach((key, block) -> block.release(key));
+    }
+
+    private record Key(Long tenantId, int year) {}
+
+    /**
+     * Reserved range [next, last]; refilled under the block's lock.
+     * Only creates of the same tenant/year share a lock, and only on this instance.
+     */
+    private final class Block {
+        private int next = 1;
+        private int last = 0;
+
+        synchronized int next(Long tenantId, int year) {
+            if (next > last) {
+                next = entryCounterRepository.reserveCommittedBlock(tenantId, year, blockSize);
+                last = next + blockSize - 1;
+            }
+            return next++;
+        }
+
+        synchronized void release(Key key) {
+            int unused = last - next + 1;
+            if (unused <= 0) {
+                return;
+            }
+            try {
+                if (entryCounterRepository.releaseTail(key.tenantId(), key.year(), last, unused)) {
+                    log.info("Returned {} unused entry numbers: tenantId={} year={}", unused, key.tenantId(), key.year());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not return unused entry numbers: tenantId={} year={}", key.tenantId(), key.year(), e);
+            }
+            next = last + 1;
+        }
+    }
+}
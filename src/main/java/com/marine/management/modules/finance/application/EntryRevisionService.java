@@ -1,25 +1,16 @@
 package com.marine.management.modules.finance.application;
 
-import com.marine.management.modules.finance.domain.entities.FinancialCategory;
-import com.marine.management.modules.finance.domain.entities.FinancialEntry;
-import com.marine.management.modules.finance.domain.entities.TenantMainCategory;
-import com.marine.management.modules.finance.domain.entities.TenantWhoSelection;
-import com.marine.management.modules.finance.domain.enums.PaymentMethod;
-import com.marine.management.modules.finance.domain.enums.RecordType;
-import com.marine.management.modules.finance.domain.vo.Money;
+import com.marine.management.modules.finance.infrastructure.EntryRevisionReader;
+import com.marine.management.modules.finance.infrastructure.EntryRevisionReader.RevisionRow;
 import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDto;
 import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDto.RevisionDetails;
 import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDto.RevisionDetails.FieldChange;
-import com.marine.management.shared.domain.CustomRevisionEntity;
-import jakarta.persistence.EntityManager;
-import org.hibernate.envers.AuditReaderFactory;
-import org.hibernate.envers.RevisionType;
-import org.hibernate.envers.query.AuditEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,7 +22,7 @@ import java.util.stream.Collectors;
  * Builds revision-based history events from Hibernate Envers audit data.
  *
  * Responsibilities:
- * - Query AuditReader for all revisions of a FinancialEntry
+ * - Read revisions of a FinancialEntry (EntryRevisionReader — audit columns only)
  * - Compare consecutive snapshots to detect meaningful field changes
  * - Map raw diffs to business-level events (amount updated, category changed, etc.)
  * - Resolve reference UUIDs to human-readable names (category, who, main category)
@@ -42,6 +33,9 @@ import java.util.stream.Collectors;
  * - Immutable fields excluded (createdAt, createdById, entryNumber)
  * - Auto-calculated fields excluded (exchangeRate, exchangeRateDate)
  * - Same revision = same transaction = grouped into single event
+ * - Reference names resolved once per call (single batched lookup), not per revision pair
+ * - Paged by revision number: a page of N revisions reads N + 1 rows — the
+ *   extra, older row is the diff baseline of the page's oldest revision
  */
 @Service
 @Transactional(readOnly = true)
@@ -61,119 +55,180 @@ public class EntryRevisionService {
             "exchangeRate", "exchangeRateDate"
     );
 
-    private final EntityManager entityManager;
+    private final EntryRevisionReader revisionReader;
 
-    public EntryRevisionService(EntityManager entityManager) {
-        this.entityManager = entityManager;
+    public EntryRevisionService(EntryRevisionReader revisionReader) {
+        this.revisionReader = revisionReader;
     }
 
+    /**
+     * One page of revision events.
+     *
+     * @param events           events of this page's revisions (not sorted — caller merges and sorts)
+     * @param oldestRevision   oldest revision on the page — pass it as beforeRevision for the next page
+     * @param oldestTimestamp  timestamp of oldestRevision (timeline window lower bound)
+     * @param hasNext          whether older revisions exist
+     */
+    public record RevisionPage(
+            List<EntryHistoryItemDto> events,
+            Integer oldestRevision,
+            LocalDateTime oldestTimestamp,
+            boolean hasNext
+    ) {}
+
     /**
      * Build revision events for a financial entry.
      *
      * @param entryId the entry to query revisions for
      * @return list of revision-based history events (not sorted — caller merges and sorts)
      */
-    @SuppressWarnings("unchecked")
     public List<EntryHistoryItemDto> buildRevisionEvents(UUID entryId) {
-        var reader = AuditReaderFactory.get(entityManager);
-
-        List<Object[]> revisions;
-        try {
-            revisions = reader.createQuery()
-                    .forRevisionsOfEntity(FinancialEntry.class, false, true)
-                    .add(AuditEntity.id().eq(entryId))
-                    .addOrder(AuditEntity.revisionNumber().asc())
-                    .getResultList();
-        } catch (Exception e) {
-            logger.warn("Failed to query Envers revisions for entry {}: {}", entryId, e.getMessage());
+        List<RevisionRow> revisions = revisionReader.findAll(entryId);
+        if (revisions.isEmpty()) {
             return List.of();
         }
 
-        if (revisions.isEmpty()) {
-            return List.of();
+        List<EntryHistoryItemDto> events = buildEvents(revisions, null);
+
+        logger.debug("Built {} revision events for entry {}", events.size(), entryId);
+        return events;
+    }
+
+    /**
+     * Build revision events for up to {@code size} revisions older than
+     * {@code beforeRevision} (newest revisions when null).
+     */
+    public RevisionPage buildRevisionPage(UUID entryId, Integer beforeRevision, int size) {
+        // DESC okunur: en yeni `size` revizyon + diff tabanı için bir eski revizyon
+        List<RevisionRow> rows = new ArrayList<>(revisionReader.findPage(entryId, beforeRevision, size + 1));
+        if (rows.isEmpty()) {
+            return new RevisionPage(List.of(), null, null, false);
         }
+        Collections.reverse(rows);
 
-        List<EntryHistoryItemDto> events = new ArrayList<>();
-        FinancialEntry previous = null;
+        boolean hasNext = rows.size() > size;
+        RevisionRow baseline = hasNext ? rows.get(0) : null;
+        List<RevisionRow> page = hasNext ? rows.subList(1, rows.size()) : rows;
 
-        for (Object[] row : revisions) {
-            FinancialEntry snapshot = (FinancialEntry) row[0];
-            CustomRevisionEntity rev = (CustomRevisionEntity) row[1];
-            RevisionType revType = (RevisionType) row[2];
+        List<EntryHistoryItemDto> events = buildEvents(page, baseline);
+        RevisionRow oldest = page.get(0);
 
-            LocalDateTime timestamp = Instant.ofEpochMilli(rev.getTimestamp())
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDateTime();
+        logger.debug("Built {} revision events for entry {} (revisions {}..{})",
+                events.size(), entryId, oldest.revision(), page.get(page.size() - 1).revision());
 
-            String userName = resolveRevisionUser(rev);
+        return new RevisionPage(events, oldest.revision(), toLocalDateTime(oldest.timestamp()), hasNext);
+    }
 
-            switch (revType) {
-                case ADD -> events.add(EntryHistoryItemDto.created(timestamp, userName));
+    /**
+     * Map revisions (oldest first) to events. {@code previous} is the revision
+     * just before the first one, if the caller read it as a diff baseline.
+     */
+    private List<EntryHistoryItemDto> buildEvents(List<RevisionRow> revisions, RevisionRow previous) {
+        Map<UUID, String> referenceNames = revisionReader.findReferenceNames(
+                collectReferenceIds(revisions, previous));
 
-                case MOD -> {
+        List<EntryHistoryItemDto> events = new ArrayList<>();
+
+        for (RevisionRow snapshot : revisions) {
+            LocalDateTime timestamp = toLocalDateTime(snapshot.timestamp());
+            String userName = resolveRevisionUser(snapshot);
+
+            switch (snapshot.revisionType()) {
+                case EntryRevisionReader.REVTYPE_ADD -> events.add(EntryHistoryItemDto.created(timestamp, userName));
+
+                case EntryRevisionReader.REVTYPE_MOD -> {
                     if (previous != null) {
-                        List<FieldChange> changes = computeFieldChanges(previous, snapshot);
+                        List<FieldChange> changes = computeFieldChanges(previous, snapshot, referenceNames);
                         if (!changes.isEmpty()) {
                             String description = buildChangeDescription(changes);
                             events.add(EntryHistoryItemDto.updated(
                                     timestamp,
                                     userName,
                                     description,
-                                    new RevisionDetails(rev.getId(), changes)
+                                    new RevisionDetails(snapshot.revision(), changes)
                             ));
                         }
                     }
                 }
 
-                case DEL -> events.add(EntryHistoryItemDto.deleted(timestamp, userName));
+                case EntryRevisionReader.REVTYPE_DEL -> events.add(EntryHistoryItemDto.deleted(timestamp, userName));
+
+                default -> logger.warn("Unknown revision type {} at revision {}",
+                        snapshot.revisionType(), snapshot.revision());
             }
 
             previous = snapshot;
         }
 
-        logger.debug("Built {} revision events for entry {}", events.size(), entryId);
         return events;
     }
 
+    private Set<UUID> collectReferenceIds(List<RevisionRow> revisions, RevisionRow baseline) {
+        Set<UUID> ids = new HashSet<>();
+        List<RevisionRow> all = new ArrayList<>(revisions);
+        if (baseline != null) {
+            all.add(baseline);
+        }
+        for (RevisionRow row : all) {
+            addIfPresent(ids, row.categoryId());
+            addIfPresent(ids, row.tenantWhoId());
+            addIfPresent(ids, row.tenantMainCategoryId());
+        }
+        return ids;
+    }
+
+    private static void addIfPresent(Set<UUID> ids, UUID id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
     // ─── Field change detection ───
 
     /**
      * Compare two consecutive snapshots and return meaningful field changes.
      * Skips excluded fields and only includes fields that actually changed.
      */
-    private List<FieldChange> computeFieldChanges(FinancialEntry prev, FinancialEntry curr) {
+    private List<FieldChange> computeFieldChanges(RevisionRow prev, RevisionRow curr,
+                                                  Map<UUID, String> referenceNames) {
         List<FieldChange> changes = new ArrayList<>();
 
         // Entry type
         compareAndAdd(changes, "Entry Type",
-                formatEnum(prev.getEntryType()), formatEnum(curr.getEntryType()));
+                formatEntryType(prev.entryType()), formatEntryType(curr.entryType()));
 
         // Amounts
         compareAndAdd(changes, "Original Amount",
-                formatMoney(prev.getOriginalAmount()), formatMoney(curr.getOriginalAmount()));
+                formatMoney(prev.originalAmount(), prev.originalCurrency()),
+                formatMoney(curr.originalAmount(), curr.originalCurrency()));
         compareAndAdd(changes, "Base Amount",
-                formatMoney(prev.getBaseAmount()), formatMoney(curr.getBaseAmount()));
+                formatMoney(prev.baseAmount(), prev.baseCurrency()),
+                formatMoney(curr.baseAmount(), curr.baseCurrency()));
         compareAndAdd(changes, "Approved Amount",
-                formatMoney(prev.getApprovedBaseAmount()), formatMoney(curr.getApprovedBaseAmount()));
+                formatMoney(prev.approvedBaseAmount(), prev.approvedBaseCurrency()),
+                formatMoney(curr.approvedBaseAmount(), curr.approvedBaseCurrency()));
         compareAndAdd(changes, "Paid Amount",
-                formatMoney(prev.getPaidBaseAmount()), formatMoney(curr.getPaidBaseAmount()));
+                formatMoney(prev.paidBaseAmount(), prev.paidBaseCurrency()),
+                formatMoney(curr.paidBaseAmount(), curr.paidBaseCurrency()));
 
         // Business fields
         compareAndAdd(changes, "Entry Date",
-                formatDate(prev.getEntryDate()), formatDate(curr.getEntryDate()));
+                formatDate(prev.entryDate()), formatDate(curr.entryDate()));
         compareAndAdd(changes, "Payment Method",
-                formatPaymentMethod(prev.getPaymentMethod()), formatPaymentMethod(curr.getPaymentMethod()));
+                formatPaymentMethod(prev.paymentMethod()), formatPaymentMethod(curr.paymentMethod()));
         compareAndAdd(changes, "Receipt Number",
-                prev.getReceiptNumber(), curr.getReceiptNumber());
+                prev.receiptNumber(), curr.receiptNumber());
 
         // Reference fields (with name resolution)
         compareAndAdd(changes, "Category",
-                resolveCategoryName(prev.getCategory()), resolveCategoryName(curr.getCategory()));
+                resolveName(referenceNames, prev.categoryId(), "Unknown category"),
+                resolveName(referenceNames, curr.categoryId(), "Unknown category"));
         compareAndAdd(changes, "Who",
-                resolveWhoName(prev.getTenantWho()), resolveWhoName(curr.getTenantWho()));
+                resolveName(referenceNames, prev.tenantWhoId(), "Unknown who"),
+                resolveName(referenceNames, curr.tenantWhoId(), "Unknown who"));
         compareAndAdd(changes, "Main Category",
-                resolveMainCategoryName(prev.getTenantMainCategory()),
-                resolveMainCategoryName(curr.getTenantMainCategory()));
+                resolveName(referenceNames, prev.tenantMainCategoryId(), "Unknown main category"),
+                resolveName(referenceNames, curr.tenantMainCategoryId(), "Unknown main category"));
 
         return changes;
     }
@@ -197,23 +252,23 @@ public class EntryRevisionService {
 
     // ─── Formatting helpers ───
 
-    private String formatMoney(Money money) {
-        if (money == null) return null;
-        return money.getAmount().toPlainString() + " " + money.getCurrencyCode();
+    private String formatMoney(BigDecimal amount, String currencyCode) {
+        if (amount == null) return null;
+        return amount.toPlainString() + " " + currencyCode;
     }
 
-    private String formatEnum(Enum<?> value) {
-        if (value == null) return null;
-        if (value instanceof RecordType rt) {
-            return rt.name().substring(0, 1) + rt.name().substring(1).toLowerCase();
-        }
-        return value.name();
+    /**
+     * EXPENSE → Expense
+     */
+    private String formatEntryType(String entryType) {
+        if (entryType == null || entryType.isEmpty()) return null;
+        return entryType.substring(0, 1) + entryType.substring(1).toLowerCase();
     }
 
-    private String formatPaymentMethod(PaymentMethod pm) {
-        if (pm == null) return null;
+    private String formatPaymentMethod(String paymentMethod) {
+        if (paymentMethod == null || paymentMethod.isEmpty()) return null;
         // Convert CREDIT_CARD → Credit Card
-        return Arrays.stream(pm.name().split("_"))
+        return Arrays.stream(paymentMethod.split("_"))
                 .map(word -> word.substring(0, 1) + word.substring(1).toLowerCase())
                 .collect(Collectors.joining(" "));
     }
@@ -222,50 +277,21 @@ public class EntryRevisionService {
         return date != null ? date.toString() : null;
     }
 
-    // ─── Reference name resolution ───
-
-    /**
-     * Resolve category entity to display name.
-     * Uses proxy — getId() doesn't trigger lazy load, getName() does.
-     * Within @Transactional context, lazy loading works fine.
-     */
-    private String resolveCategoryName(FinancialCategory category) {
-        if (category == null) return null;
-        try {
-            return category.getName();
-        } catch (Exception e) {
-            // Fallback if entity can't be loaded (soft-deleted, filter issues)
-            logger.debug("Could not resolve category name: {}", e.getMessage());
-            return "Unknown category";
-        }
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis)
+                .atZone(ZoneId.systemDefault())
+                .toLocalDateTime();
     }
 
-    /**
-     * Resolve TenantWhoSelection → Who.nameEn for display.
-     */
-    private String resolveWhoName(TenantWhoSelection tenantWho) {
-        if (tenantWho == null) return null;
-        try {
-            return tenantWho.getWho() != null ? tenantWho.getWho().getNameEn() : null;
-        } catch (Exception e) {
-            logger.debug("Could not resolve who name: {}", e.getMessage());
-            return "Unknown who";
-        }
-    }
+    // ─── Reference name resolution ───
 
     /**
-     * Resolve TenantMainCategory → MainCategory.nameEn for display.
+     * Resolve a category / tenant who / tenant main category id from the
+     * batched name lookup. Fallback if the reference row no longer exists.
      */
-    private String resolveMainCategoryName(TenantMainCategory tenantMainCategory) {
-        if (tenantMainCategory == null) return null;
-        try {
-            return tenantMainCategory.getMainCategory() != null
-                    ? tenantMainCategory.getMainCategory().getNameEn()
-                    : null;
-        } catch (Exception e) {
-            logger.debug("Could not resolve main category name: {}", e.getMessage());
-            return "Unknown main category";
-        }
+    private String resolveName(Map<UUID, String> referenceNames, UUID id, String fallback) {
+        if (id == null) return null;
+        return referenceNames.getOrDefault(id, fallback);
     }
 
     // ─── Description builder ───
@@ -290,15 +316,15 @@ public class EntryRevisionService {
     }
 
     /**
-     * Resolve user display name from revision entity.
+     * Resolve user display name from revision metadata.
      * Prefers userDisplayName (snapshot at revision time), falls back to username.
      */
-    private String resolveRevisionUser(CustomRevisionEntity rev) {
-        if (rev.getUserDisplayName() != null && !rev.getUserDisplayName().isBlank()) {
-            return rev.getUserDisplayName();
+    private String resolveRevisionUser(RevisionRow rev) {
+        if (rev.userDisplayName() != null && !rev.userDisplayName().isBlank()) {
+            return rev.userDisplayName();
         }
-        if (rev.getUsername() != null && !rev.getUsername().isBlank()) {
-            return rev.getUsername();
+        if (rev.username() != null && !rev.username().isBlank()) {
+            return rev.username();
         }
         return null;
     }
@@ -0,0 +1,95 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.organization.infrastructure.OrganizationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Nightly FX prefetch: one provider call per day for every currency the
+ * system needs, so the request path (ExchangeRateService.getRate) never
+ * waits on remote HTTP.
+ *
+ * Currencies = app.fx.currencies + distinct organization base currencies.
+ * Runs at app.fx.prefetch-cron and once on startup (rates of today may be
+ * missing after a deploy / downtime). Failures are logged only — the request
+ * path falls back to the latest stored rate until the next run.
+ *
+ * Global job (not TenantAwareScheduledTask): exchange_rates is not tenant data.
+ */
+@Component
+public class ExchangeRatePrefetchJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRatePrefetchJob.class);
+
+    private static final String BASE_CURRENCY = "EUR";
+
+    private final ExchangeRateService exchangeRateService;
+    private final OrganizationRepository organizationRepository;
+    private final Set<String> configuredCurrencies;
+    private final Clock clock;
+
+    public ExchangeRatePrefetchJob(
+            ExchangeRateService exchangeRateService,
+            OrganizationRepository organizationRepository,
+            @Value("${app.fx.currencies:USD,GBP,TRY}") String configuredCurrencies
+    ) {
+        this(exchangeRateService, organizationRepository, configuredCurrencies, Clock.systemDefaultZone());
+    }
+
+    ExchangeRatePrefetchJob(
+            ExchangeRateService exchangeRateService,
+            OrganizationRepository organizationRepository,
+            String configuredCurrencies,
+            Clock clock
+    ) {
+        this.exchangeRateService = exchangeRateService;
+        this.organizationRepository = organizationRepository;
+        this.configuredCurrencies = parseCurrencies(configuredCurrencies);
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetchOnStartup() {
+        prefetchToday();
+    }
+
+    @Scheduled(cron = "${app.fx.prefetch-cron:0 30 0 * * *}")
+    public void prefetchToday() {
+        LocalDate today = LocalDate.now(clock);
+        try {
+            exchangeRateService.prefetchBaseRates(today, currencies());
+        } catch (RuntimeException e) {
+            log.error("Exchange rate prefetch failed for {}: {}", today, e.getMessage());
+        }
+    }
+
+    Set<String> currencies() {
+        Set<String> currencies = new TreeSet<>(configuredCurrencies);
+        organizationRepository.findDistinctBaseCurrencies().stream()
+                .map(String::toUpperCase)
+                .forEach(currencies::add);
+        currencies.remove(BASE_CURRENCY);
+        return currencies;
+    }
+
+    private static Set<String> parseCurrencies(String value) {
+        Set<String> currencies = new TreeSet<>();
+        Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .map(String::toUpperCase)
+                .forEach(currencies::add);
+        return currencies;
+    }
+}
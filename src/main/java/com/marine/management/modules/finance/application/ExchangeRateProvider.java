@@ -0,0 +1,33 @@
+package com.marine.management.modules.finance.application;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Source of EUR base rates (EUR → currency).
+ *
+ * Called only from the prefetch job (ExchangeRatePrefetchJob) — never from
+ * the request path. One call returns all requested currencies of a day.
+ *
+ * Implementations (app.fx.provider):
+ * - api (default): ExchangeRateApiProvider, remote HTTP
+ * - stub: StubExchangeRateProvider, rates from a local properties file
+ *   (offline / test environments)
+ */
+public interface ExchangeRateProvider {
+
+    /**
+     * EUR base rates for the date. Currencies the source does not know are
+     * simply missing from the result.
+     *
+     * @throws RuntimeException when the source cannot be reached
+     */
+    Map<String, BigDecimal> fetchBaseRates(LocalDate date, Set<String> currencies);
+
+    /**
+     * Value written to exchange_rates.source.
+     */
+    String sourceName();
+}
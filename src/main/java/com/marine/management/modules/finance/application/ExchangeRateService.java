@@ -4,34 +4,59 @@ import com.marine.management.modules.finance.domain.entities.ExchangeRate;
 import com.marine.management.modules.finance.infrastructure.ExchangeRateRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.Map;
-
+import java.util.Set;
+
+/**
+ * Exchange rates for entry conversion.
+ *
+ * REQUEST PATH (getRate / convert) never calls the remote provider:
+ * 1. ExchangeRateStore (stored pair or in-memory cross rate)
+ * 2. Missing EUR base rate of the day → latest stored rate on or before
+ *    that day (weekends, holidays, dates before the nightly prefetch)
+ * 3. Nothing stored at all → approximate fallback rate
+ * Steps 2-3 are remembered in the store for that day, not persisted.
+ * Persisted rates (prefetch, manual) enter the store after commit.
+ *
+ * Remote rates arrive only through {@link #prefetchBaseRates}, driven by
+ * ExchangeRatePrefetchJob.
+ */
 @Service
 public class ExchangeRateService {
     private static final Logger logger = LoggerFactory.getLogger(ExchangeRateService.class);
 
     private final ExchangeRateRepository exchangeRateRepository;
-    private final RestTemplate restTemplate;
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final ExchangeRateStore rateStore;
 
-    // WORKING API - No API key needed, free
-    private static final String API_URL = "https://api.exchangerate-api.com/v4/latest/EUR";
     private static final String BASE_CURRENCY = "EUR";
     private static final int SCALE = 8;
 
+    /**
+     * Fallback rates when nothing has been fetched yet
+     */
+    private static final Map<String, BigDecimal> FALLBACK_RATES = Map.of(
+            "USD", new BigDecimal("1.08"),
+            "GBP", new BigDecimal("0.85"),
+            "TRY", new BigDecimal("36.50")
+    );
+
     public ExchangeRateService(
             ExchangeRateRepository exchangeRateRepository,
-            RestTemplate restTemplate
+            ExchangeRateProvider exchangeRateProvider,
+            ExchangeRateStore rateStore
     ) {
         this.exchangeRateRepository = exchangeRateRepository;
-        this.restTemplate = restTemplate;
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.rateStore = rateStore;
     }
 
     public BigDecimal convert(
@@ -48,17 +73,27 @@ public class ExchangeRateService {
         return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
     }
 
-    @Cacheable(value = "exchange-rates", key = "#date + '-' + #fromCurrency + '-' + #toCurrency")
+    /**
+     * Rate for from → to on the date.
+     *
+     * Served from ExchangeRateStore (stored pair or in-memory cross rate).
+     * Only when a EUR base rate of that day is unknown does this resolve it
+     * from earlier stored rates (no remote call) and write it to the store.
+     */
     public BigDecimal getRate(LocalDate date, String fromCurrency, String toCurrency) {
-        // Check if cross-rate exists
-        return exchangeRateRepository
-                .findByDateAndFromCurrencyAndToCurrency(date, fromCurrency, toCurrency)
-                .map(ExchangeRate::getRate)
-                .orElseGet(() -> calculateAndSaveCrossRate(date, fromCurrency, toCurrency));
+        return rateStore.findRate(date, fromCurrency, toCurrency)
+                .orElseGet(() -> calculateCrossRate(date, fromCurrency, toCurrency));
     }
 
-    @Transactional
-    protected BigDecimal calculateAndSaveCrossRate(
+    /**
+     * Loads all stored rates of the range into memory in one query
+     * (bulk conversions: import, re-basing).
+     */
+    public void preloadRates(LocalDate start, LocalDate end) {
+        rateStore.preload(start, end);
+    }
+
+    private BigDecimal calculateCrossRate(
             LocalDate date,
             String fromCurrency,
             String toCurrency
@@ -68,175 +103,69 @@ public class ExchangeRateService {
         BigDecimal fromRate = getBaseRate(date, fromCurrency);
         BigDecimal toRate = getBaseRate(date, toCurrency);
 
-        // Calculate: from -> to = (EUR -> to) / (EUR -> from)
-        BigDecimal crossRate = toRate.divide(fromRate, SCALE, RoundingMode.HALF_UP);
-
-        // Save for future use
-        ExchangeRate exchangeRate = ExchangeRate.builder()
-                .date(date)
-                .fromCurrency(fromCurrency)
-                .toCurrency(toCurrency)
-                .rate(crossRate)
-                .base(false)
-                .source("CALCULATED")
-                .build();
-
-        exchangeRateRepository.save(exchangeRate);
-
-        logger.info("Saved cross-rate: {} -> {} = {}", fromCurrency, toCurrency, crossRate);
-
-        return crossRate;
+        // Calculate: from -> to = (EUR -> to) / (EUR -> from) — persist edilmez
+        return toRate.divide(fromRate, SCALE, RoundingMode.HALF_UP);
     }
 
-    @Transactional
-    protected BigDecimal getBaseRate(LocalDate date, String currency) {
+    private BigDecimal getBaseRate(LocalDate date, String currency) {
         if (BASE_CURRENCY.equals(currency)) {
             return BigDecimal.ONE;
         }
 
-        return exchangeRateRepository
-                .findByDateAndFromCurrencyAndToCurrency(date, BASE_CURRENCY, currency)
-                .map(ExchangeRate::getRate)
-                .orElseGet(() -> fetchAndSaveBaseRate(date, currency));
+        return rateStore.findBaseRate(date, currency)
+                .orElseGet(() -> resolveMissingBaseRate(date, currency));
     }
 
-    @Transactional
-    protected BigDecimal fetchAndSaveBaseRate(LocalDate date, String currency) {
-        logger.info("Fetching rate from API: EUR -> {} on {}", currency, date);
-
-        try {
-            //  NEW API - Always returns latest rates (no date param needed)
-            // This API doesn't support historical dates, but it's free and reliable
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.getForObject(API_URL, Map.class);
-
-            if (response == null || !response.containsKey("rates")) {
-                throw new RuntimeException("Invalid API response");
-            }
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> rates = (Map<String, Object>) response.get("rates");
+    private BigDecimal resolveMissingBaseRate(LocalDate date, String currency) {
+        BigDecimal rate = exchangeRateRepository
+                .findFirstByFromCurrencyAndToCurrencyAndDateLessThanEqualOrderByDateDesc(
+                        BASE_CURRENCY, currency, date)
+                .map(ExchangeRate::getRate)
+                .orElseGet(() -> {
+                    logger.warn("No stored rate for EUR -> {} up to {}, using fallback rate", currency, date);
+                    return FALLBACK_RATES.getOrDefault(currency, BigDecimal.ONE);
+                });
 
-            if (!rates.containsKey(currency)) {
-                throw new RuntimeException("Currency not found: " + currency);
-            }
+        rateStore.putBaseRate(date, currency, rate);
+        return rate;
+    }
 
-            // Get rate as number (can be Integer or Double)
-            Object rateObj = rates.get(currency);
-            BigDecimal rate;
-            if (rateObj instanceof Integer) {
-                rate = new BigDecimal((Integer) rateObj);
-            } else if (rateObj instanceof Double) {
-                rate = BigDecimal.valueOf((Double) rateObj);
-            } else {
-                rate = new BigDecimal(rateObj.toString());
+    /**
+     * Fetches the day's EUR base rates from the provider in one call and
+     * stores those not stored yet. Used by the prefetch job.
+     *
+     * @return number of rates saved
+     */
+    @Transactional
+    public int prefetchBaseRates(LocalDate date, Set<String> currencies) {
+        Map<String, BigDecimal> rates = exchangeRateProvider.fetchBaseRates(date, currencies);
+
+        int saved = 0;
+        for (Map.Entry<String, BigDecimal> rate : rates.entrySet()) {
+            String currency = rate.getKey();
+            if (BASE_CURRENCY.equals(currency)
+                    || exchangeRateRepository.existsByDateAndFromCurrencyAndToCurrency(date, BASE_CURRENCY, currency)) {
+                continue;
             }
 
-            // Save base rate (with requested date, even though it's latest rate)
             ExchangeRate exchangeRate = ExchangeRate.builder()
                     .date(date)
                     .fromCurrency(BASE_CURRENCY)
                     .toCurrency(currency)
-                    .rate(rate)
+                    .rate(rate.getValue())
                     .base(true)
-                    .source("ExchangeRate-API")
+                    .source(exchangeRateProvider.sourceName())
                     .build();
 
             exchangeRateRepository.save(exchangeRate);
-
-            logger.info("Saved base rate: EUR -> {} = {}", currency, rate);
-
-            return rate;
-
-        } catch (Exception e) {
-            logger.error("Failed to fetch rate for {} on {}: {}", currency, date, e.getMessage());
-
-            //  FALLBACK: Use approximate rates if API fails
-            logger.warn("Using fallback rate for {}", currency);
-            return useFallbackRate(date, currency);
+            BigDecimal value = rate.getValue();
+            afterCommit(() -> rateStore.putBaseRate(date, currency, value));
+            saved++;
         }
-    }
-
-    /**
-     * Fallback rates when API is unavailable
-     */
-    private BigDecimal useFallbackRate(LocalDate date, String currency) {
-        BigDecimal fallbackRate = switch (currency) {
-            case "USD" -> new BigDecimal("1.08");
-            case "GBP" -> new BigDecimal("0.85");
-            case "TRY" -> new BigDecimal("36.50");
-            default -> BigDecimal.ONE;
-        };
-
-        // Save fallback rate
-        ExchangeRate exchangeRate = ExchangeRate.builder()
-                .date(date)
-                .fromCurrency(BASE_CURRENCY)
-                .toCurrency(currency)
-                .rate(fallbackRate)
-                .base(true)
-                .source("FALLBACK")
-                .build();
-
-        exchangeRateRepository.save(exchangeRate);
-
-        logger.info("Saved fallback rate: EUR -> {} = {}", currency, fallbackRate);
-
-        return fallbackRate;
-    }
-
-    /**
-     * Bulk fetch rates for a date (optimization)
-     */
-    @Transactional
-    public void fetchRatesForDate(LocalDate date, String... currencies) {
-        logger.info("Bulk fetching rates for date: {}", date);
-
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.getForObject(API_URL, Map.class);
-
-            if (response == null || !response.containsKey("rates")) {
-                return;
-            }
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> rates = (Map<String, Object>) response.get("rates");
-
-            for (String currency : currencies) {
-                if (rates.containsKey(currency)) {
-                    Object rateObj = rates.get(currency);
-                    BigDecimal rate;
-                    if (rateObj instanceof Integer) {
-                        rate = new BigDecimal((Integer) rateObj);
-                    } else if (rateObj instanceof Double) {
-                        rate = BigDecimal.valueOf((Double) rateObj);
-                    } else {
-                        rate = new BigDecimal(rateObj.toString());
-                    }
-
-                    if (!exchangeRateRepository.existsByDateAndFromCurrencyAndToCurrency(
-                            date, BASE_CURRENCY, currency)) {
-
-                        ExchangeRate exchangeRate = ExchangeRate.builder()
-                                .date(date)
-                                .fromCurrency(BASE_CURRENCY)
-                                .toCurrency(currency)
-                                .rate(rate)
-                                .base(true)
-                                .source("ExchangeRate-API")
-                                .build();
-
-                        exchangeRateRepository.save(exchangeRate);
-                    }
-                }
-            }
-
-            logger.info("Bulk fetch completed for {} currencies", currencies.length);
 
-        } catch (Exception e) {
-            logger.error("Bulk fetch failed: {}", e.getMessage());
-        }
+        logger.info("Prefetched {} of {} requested rates for {} from {}",
+                saved, currencies.size(), date, exchangeRateProvider.sourceName());
+        return saved;
     }
 
     /**
@@ -259,7 +188,26 @@ public class ExchangeRateService {
                 .build();
 
         exchangeRateRepository.save(exchangeRate);
+        afterCommit(() -> rateStore.putPairRate(date, fromCurrency, toCurrency, rate));
 
         logger.info("Manual rate saved: {} -> {} = {}", fromCurrency, toCurrency, rate);
     }
-}
\ No newline at end of file
+
+    /**
+     * Store updates of persisted rates run only once the row is committed —
+     * a rolled back save must not leave a rate in memory
+     * (immediately when no transaction is active).
+     */
+    private static void afterCommit(Runnable storeUpdate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storeUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                storeUpdate.run();
+            }
+        });
+    }
+}
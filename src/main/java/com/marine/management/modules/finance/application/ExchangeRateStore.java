@@ -0,0 +1,189 @@
+package com.marine.management.modules.finance.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.marine.management.modules.finance.domain.entities.ExchangeRate;
+import com.marine.management.modules.finance.infrastructure.ExchangeRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory exchange rate table, one slot per (day, currency).
+ *
+ * LAYOUT:
+ * - Key: epochDay (long) → DayRates.
+ * - DayRates.baseRates: EUR → currency rates indexed by a small currency
+ *   index (see {@link #indexOf(String)}).
+ * - DayRates.pairRates: stored non-EUR pairs (manual rates, old CALCULATED
+ *   rows) keyed by pair index (from * MAX_CURRENCIES + to). A stored pair
+ *   wins over derivation, as before.
+ * - Cross rates are derived arithmetically on each read,
+ *   (EUR → to) / (EUR → from) — never persisted.
+ *
+ * LOADING:
+ * A day is loaded with one query the first time it is read;
+ * {@link #preload(LocalDate, LocalDate)} loads a whole range in one query
+ * for bulk conversions. Missing base rates are not fetched here —
+ * ExchangeRateService resolves them and writes them back via {@link #putBaseRate}.
+ */
+@Component
+public class ExchangeRateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeRateStore.class);
+
+    static final String BASE_CURRENCY = "EUR";
+    static final int MAX_CURRENCIES = 512;
+    private static final int SCALE = 8;
+    private static final long MAX_DAYS = 5_000;
+
+    private final ExchangeRateRepository exchangeRateRepository;
+
+    private final Map<String, Integer> currencyIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextCurrencyIndex = new AtomicInteger();
+
+    private final Cache<Long, DayRates> days = Caffeine.newBuilder()
+            .maximumSize(MAX_DAYS)
+            .build();
+
+    public ExchangeRateStore(ExchangeRateRepository exchangeRateRepository) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        indexOf(BASE_CURRENCY);
+    }
+
+    /**
+     * Rate for from → to on the date, from memory.
+     *
+     * @return empty when a needed EUR base rate is not known for that day
+     */
+    public Optional<BigDecimal> findRate(LocalDate date, String fromCurrency, String toCurrency) {
+        if (fromCurrency.equals(toCurrency)) {
+            return Optional.of(BigDecimal.ONE);
+        }
+
+        DayRates day = day(date);
+        int from = indexOf(fromCurrency);
+        int to = indexOf(toCurrency);
+
+        BigDecimal stored = day.pairRates.get(pairIndex(from, to));
+        if (stored != null) {
+            return Optional.of(stored);
+        }
+
+        BigDecimal fromBase = day.baseRate(from);
+        BigDecimal toBase = day.baseRate(to);
+        if (fromBase == null || toBase == null) {
+            return Optional.empty();
+        }
+
+        // EUR → X: stored rate as-is (scale unchanged, like the rows it came from)
+        if (BASE_CURRENCY.equals(fromCurrency)) {
+            return Optional.of(toBase);
+        }
+
+        return Optional.of(toBase.divide(fromBase, SCALE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * EUR → currency rate for the date, from memory.
+     */
+    public Optional<BigDecimal> findBaseRate(LocalDate date, String currency) {
+        return Optional.ofNullable(day(date).baseRate(indexOf(currency)));
+    }
+
+    /**
+     * Loads every stored rate between start and end (inclusive) in one query.
+     * Days without rows are remembered as loaded, so they are not queried again.
+     */
+    public void preload(LocalDate start, LocalDate end) {
+        List<ExchangeRate> rates = exchangeRateRepository.findByDateBetween(start, end);
+
+        Map<Long, DayRates> loaded = new HashMap<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            loaded.put(date.toEpochDay(), new DayRates());
+        }
+        for (ExchangeRate rate : rates) {
+            apply(loaded.get(rate.getDate().toEpochDay()), rate);
+        }
+        days.putAll(loaded);
+
+        log.debug("Exchange rates preloaded: {} rows for {}..{}", rates.size(), start, end);
+    }
+
+    /**
+     * Records a (fetched / fallback) EUR base rate for the date.
+     */
+    public void putBaseRate(LocalDate date, String currency, BigDecimal rate) {
+        day(date).baseRates.set(indexOf(currency), rate);
+    }
+
+    /**
+     * Records a stored pair rate (manual entry) for the date.
+     */
+    public void putPairRate(LocalDate date, String fromCurrency, String toCurrency, BigDecimal rate) {
+        if (BASE_CURRENCY.equals(fromCurrency)) {
+            putBaseRate(date, toCurrency, rate);
+            return;
+        }
+        day(date).pairRates.put(pairIndex(indexOf(fromCurrency), indexOf(toCurrency)), rate);
+    }
+
+    private DayRates day(LocalDate date) {
+        return days.get(date.toEpochDay(), epochDay -> {
+            DayRates day = new DayRates();
+            exchangeRateRepository.findByDate(date).forEach(rate -> apply(day, rate));
+            return day;
+        });
+    }
+
+    private void apply(DayRates day, ExchangeRate rate) {
+        int from = indexOf(rate.getFromCurrency());
+        int to = indexOf(rate.getToCurrency());
+        if (from == 0) {
+            day.baseRates.set(to, rate.getRate());
+        } else {
+            day.pairRates.put(pairIndex(from, to), rate.getRate());
+        }
+    }
+
+    /**
+     * Small, stable index per currency code (EUR = 0), assigned on first use.
+     */
+    int indexOf(String currency) {
+        return currencyIndexes.computeIfAbsent(currency, code -> {
+            int index = nextCurrencyIndex.getAndIncrement();
+            if (index >= MAX_CURRENCIES) {
+                throw new IllegalStateException("Too many currencies in exchange rate store: " + code);
+            }
+            return index;
+        });
+    }
+
+    private static int pairIndex(int from, int to) {
+        return from * MAX_CURRENCIES + to;
+    }
+
+    private static final class DayRates {
+        private final AtomicReferenceArray<BigDecimal> baseRates = new AtomicReferenceArray<>(MAX_CURRENCIES);
+        private final Map<Integer, BigDecimal> pairRates = new ConcurrentHashMap<>();
+
+        DayRates() {
+            baseRates.set(0, BigDecimal.ONE);
+        }
+
+        BigDecimal baseRate(int currency) {
+            return baseRates.get(currency);
+        }
+    }
+}
@@ -42,13 +42,16 @@ public class FinancialCategoryService {
 
     private final FinancialCategoryRepository categoryRepository;
     private final MainCategoryRepository mainCategoryRepository;
+    private final ReportCache reportCache;
 
     public FinancialCategoryService(
             FinancialCategoryRepository categoryRepository,
-            MainCategoryRepository mainCategoryRepository
+            MainCategoryRepository mainCategoryRepository,
+            ReportCache reportCache
     ) {
         this.categoryRepository = categoryRepository;
         this.mainCategoryRepository = mainCategoryRepository;
+        this.reportCache = reportCache;
     }
 
     // ============================================
@@ -125,6 +128,9 @@ public class FinancialCategoryService {
         FinancialCategory category = getByIdOrThrow(id);
         category.updateDetails(name, description, categoryType, isTechnical);
 
+        // Kategori adı cache'lenmiş raporlarda da görünür (kapanmış yıllar dahil)
+        reportCache.evictTenantAfterCommit(TenantContext.getCurrentTenantId());
+
         logger.debug("Category updated: id={}, tenant={}",
                 id,
                 TenantContext.getCurrentTenantId());
@@ -7,13 +7,11 @@ import com.marine.management.modules.finance.domain.entities.TenantMainCategory;
 import com.marine.management.modules.finance.domain.entities.TenantWhoSelection;
 import com.marine.management.modules.finance.domain.vo.EntryNumber;
 import com.marine.management.modules.finance.infrastructure.FinancialCategoryRepository;
-import com.marine.management.modules.finance.infrastructure.TenantEntryCounterRepository;
 import com.marine.management.modules.finance.infrastructure.TenantMainCategoryRepository;
 import com.marine.management.modules.finance.infrastructure.TenantWhoSelectionRepository;
 import com.marine.management.shared.multitenant.TenantContext;
 import org.springframework.stereotype.Component;
 
-import java.time.Year;
 import java.util.UUID;
 import java.util.Objects;
 
@@ -32,20 +30,20 @@ import java.util.Objects;
 @Component
 public class FinancialEntryFactory {
 
-    private final TenantEntryCounterRepository entryCounterRepository;
+    private final EntryNumberAllocator entryNumberAllocator;
     private final FinancialCategoryRepository categoryRepository;
     private final TenantWhoSelectionRepository tenantWhoRepository;
     private final TenantMainCategoryRepository tenantMainCategoryRepository;
     private final TenantBaseCurrencyProvider tenantBaseCurrencyProvider;
 
     public FinancialEntryFactory(
-            TenantEntryCounterRepository entryCounterRepository,
+            EntryNumberAllocator entryNumberAllocator,
             FinancialCategoryRepository categoryRepository,
             TenantWhoSelectionRepository tenantWhoRepository,
             TenantMainCategoryRepository tenantMainCategoryRepository,
             TenantBaseCurrencyProvider tenantBaseCurrencyProvider
     ) {
-        this.entryCounterRepository = entryCounterRepository;
+        this.entryNumberAllocator = entryNumberAllocator;
         this.categoryRepository = categoryRepository;
         this.tenantWhoRepository = tenantWhoRepository;
         this.tenantMainCategoryRepository = tenantMainCategoryRepository;
@@ -132,11 +130,9 @@ public class FinancialEntryFactory {
      *
      * TenantContext her authenticated request'te TenantFilter tarafından
      * set edilir — burada null gelmesi mümkün değil.
+     * Deliksiz / blok modu için bkz. EntryNumberAllocator.
      */
     private EntryNumber generateEntryNumber() {
-        Long tenantId = TenantContext.getCurrentTenantId();
-        int year = Year.now().getValue();
-        int sequence = entryCounterRepository.nextSequence(tenantId, year);
-        return EntryNumber.generate(sequence);
+        return entryNumberAllocator.next(TenantContext.getCurrentTenantId());
     }
 }
\ No newline at end of file
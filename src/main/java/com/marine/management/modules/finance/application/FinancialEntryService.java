@@ -5,12 +5,14 @@ import com.marine.management.modules.finance.domain.entities.*;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
 import com.marine.management.modules.finance.infrastructure.*;
 import com.marine.management.modules.finance.infrastructure.query.EntrySearchCriteria;
+import com.marine.management.modules.finance.infrastructure.query.KeysetCursor;
 import com.marine.management.modules.finance.infrastructure.query.SortableFields;
 import com.marine.management.modules.finance.infrastructure.specifications.FinancialEntrySpecs;
 import com.marine.management.modules.finance.presentation.dto.EntryResponseDto;
 import com.marine.management.modules.users.domain.User;
 import com.marine.management.shared.exceptions.EntryNotFoundException;
 import com.marine.management.shared.multitenant.TenantContext;
+import com.marine.management.shared.presentation.CursorPage;
 import com.marine.management.shared.security.EntryAccessPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +25,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -127,8 +130,7 @@ public class FinancialEntryService {
         Specification<FinancialEntry> spec = FinancialEntrySpecs.fromCriteria(criteria)
                 .and(accessPolicy.getExpenseReadSpecification(currentUser));
 
-        Sort sort = SortableFields.createSort(criteria.sortColumn(), criteria.sortDirection());
-        Pageable pageable = PageRequest.of(criteria.page(), criteria.size(), sort);
+        Pageable pageable = PageRequest.of(criteria.page(), criteria.size(), pageSort(criteria));
 
         return entryRepository.findAll(spec, pageable)
                 .map(EntryResponseDto::from);
@@ -144,13 +146,39 @@ public class FinancialEntryService {
         Specification<FinancialEntry> spec = FinancialEntrySpecs.fromCriteria(criteria)
                 .and(accessPolicy.getIncomeReadSpecification(currentUser));
 
-        Sort sort = SortableFields.createSort(criteria.sortColumn(), criteria.sortDirection());
-        Pageable pageable = PageRequest.of(criteria.page(), criteria.size(), sort);
+        Pageable pageable = PageRequest.of(criteria.page(), criteria.size(), pageSort(criteria));
 
         return entryRepository.findAll(spec, pageable)
                 .map(EntryResponseDto::from);
     }
 
+    /**
+     * Keyset (cursor) variant of searchExpenses for infinite-scroll lists.
+     * No OFFSET, no COUNT query; pass nextCursor back for the following page.
+     */
+    public CursorPage<EntryResponseDto> scrollExpenses(EntrySearchCriteria criteria, User currentUser) {
+        guardTenantContext();
+        verifyUserBelongsToCurrentTenant(currentUser);
+
+        Specification<FinancialEntry> spec = FinancialEntrySpecs.fromCriteria(criteria)
+                .and(accessPolicy.getExpenseReadSpecification(currentUser));
+
+        return scroll(spec, criteria);
+    }
+
+    /**
+     * Keyset (cursor) variant of searchIncomes.
+     */
+    public CursorPage<EntryResponseDto> scrollIncomes(EntrySearchCriteria criteria, User currentUser) {
+        guardTenantContext();
+        verifyUserBelongsToCurrentTenant(currentUser);
+
+        Specification<FinancialEntry> spec = FinancialEntrySpecs.fromCriteria(criteria)
+                .and(accessPolicy.getIncomeReadSpecification(currentUser));
+
+        return scroll(spec, criteria);
+    }
+
     /**
      * Legacy search method - delegates to searchExpenses.
      */
@@ -158,6 +186,51 @@ public class FinancialEntryService {
         return searchExpenses(criteria, currentUser);
     }
 
+    /**
+     * Relevance ordering is applied by the specification; Pageable must stay unsorted.
+     */
+    private Sort pageSort(EntrySearchCriteria criteria) {
+        return criteria.isRelevanceSort()
+                ? Sort.unsorted()
+                : SortableFields.createSort(criteria.sortColumn(), criteria.sortDirection());
+    }
+
+    /**
+     * Reads size + 1 rows after the cursor in (sort column, id) order.
+     * The extra row only tells whether a next page exists.
+     */
+    private CursorPage<EntryResponseDto> scroll(Specification<FinancialEntry> spec, EntrySearchCriteria criteria) {
+        String sortPath = SortableFields.resolveEntityPath(criteria.sortColumn());
+        Sort.Direction direction = SortableFields.resolveDirection(criteria.sortDirection());
+
+        if (criteria.hasCursor()) {
+            KeysetCursor after = KeysetCursor.decode(criteria.cursor());
+            after.requireSort(sortPath, direction);
+            spec = spec.and(FinancialEntrySpecs.seekAfter(after));
+        }
+
+        Sort sort = SortableFields.createKeysetSort(criteria.sortColumn(), criteria.sortDirection());
+        int size = criteria.size();
+
+        List<FinancialEntry> rows = entryRepository.findBy(spec, query -> query
+                .sortBy(sort)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<FinancialEntry> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? KeysetCursor.after(page.get(page.size() - 1), sortPath, direction).encode()
+                : null;
+
+        return new CursorPage<>(
+                page.stream().map(EntryResponseDto::from).toList(),
+                nextCursor,
+                hasNext,
+                size
+        );
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // UPDATE
     // ═══════════════════════════════════════════════════════════════════════════
@@ -3,20 +3,21 @@ package com.marine.management.modules.finance.application;
 import com.marine.management.modules.finance.application.dto.PivotTreeReportResponse;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
 import com.marine.management.modules.finance.domain.enums.RecordType;
-import com.marine.management.modules.finance.domain.model.PivotReportProjection;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
 import com.marine.management.modules.finance.domain.service.PivotReportBuilder;
 import com.marine.management.modules.finance.domain.service.TreeReportBuilder;
 import com.marine.management.modules.finance.domain.vo.Period;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialMonthlyRollupRepository;
 import com.marine.management.modules.finance.presentation.dto.reports.DashboardSummary;
 import com.marine.management.modules.finance.presentation.dto.reports.PivotReportRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -36,17 +37,26 @@ public class FinancialReportService {
 
     private final FinancialEntryRepository entryRepository;
     private final FinancialEntryReportRepository reportRepository;
+    private final FinancialMonthlyRollupRepository rollupRepository;
+    private final CarryOverBalanceService carryOverBalanceService;
+    private final ReportCache reportCache;
     private final TreeReportBuilder treeBuilder;
     private final PivotReportBuilder pivotBuilder;
 
     public FinancialReportService(
             FinancialEntryRepository entryRepository,
             FinancialEntryReportRepository reportRepository,
+            FinancialMonthlyRollupRepository rollupRepository,
+            CarryOverBalanceService carryOverBalanceService,
+            ReportCache reportCache,
             TreeReportBuilder treeBuilder,
             PivotReportBuilder pivotBuilder
     ) {
         this.entryRepository = entryRepository;
         this.reportRepository = reportRepository;
+        this.rollupRepository = rollupRepository;
+        this.carryOverBalanceService = carryOverBalanceService;
+        this.reportCache = reportCache;
         this.treeBuilder = treeBuilder;
         this.pivotBuilder = pivotBuilder;
     }
@@ -77,47 +87,47 @@ public class FinancialReportService {
      * @return Dashboard summary with totals and counts
      */
     public DashboardSummary getDashboardSummary(Period period, UUID crewMemberId) {
-        BigDecimal totalIncome = getActualTotalForCrew(RecordType.INCOME, period, crewMemberId);
-        BigDecimal totalExpense = getActualTotalForCrew(RecordType.EXPENSE, period, crewMemberId);
-        BigDecimal balance = totalIncome.subtract(totalExpense);
+        return reportCache.get(
+                ReportCache.ReportType.DASHBOARD_SUMMARY,
+                period.startDate(),
+                period.endDate(),
+                crewMemberId,
+                null,
+                () -> computeDashboardSummary(period, crewMemberId)
+        );
+    }
 
-        long incomeCount = countActualByTypeForCrew(RecordType.INCOME, period, crewMemberId);
-        long expenseCount = countActualByTypeForCrew(RecordType.EXPENSE, period, crewMemberId);
+    private DashboardSummary computeDashboardSummary(Period period, UUID crewMemberId) {
+        // Tek sorgu: toplamlar + tüm status sayaçları aynı taramada (conditional aggregate)
+        FinancialEntryReportRepository.DashboardAggregateProjection aggregate = crewMemberId == null
+                ? reportRepository.findDashboardAggregate(
+                        period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES)
+                : reportRepository.findDashboardAggregateForCrew(
+                        period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES, crewMemberId);
 
-        // Status-based counts (period-filtered, crew-aware)
-        long paidCount = countByStatusesForCrew(Set.of(EntryStatus.PAID), period, crewMemberId);
-        long approvedCount = countByStatusesForCrew(Set.of(EntryStatus.APPROVED, EntryStatus.PARTIALLY_PAID), period, crewMemberId);
-        long draftCount = countByStatusesForCrew(Set.of(EntryStatus.DRAFT), period, crewMemberId);
-        long pendingCount = countByStatusesForCrew(Set.of(EntryStatus.PENDING_CAPTAIN, EntryStatus.PENDING_MANAGER), period, crewMemberId);
+        BigDecimal totalIncome = orZero(aggregate.getTotalIncome());
+        BigDecimal totalExpense = orZero(aggregate.getTotalExpense());
+        BigDecimal balance = totalIncome.subtract(totalExpense);
 
-        return new DashboardSummary(totalIncome, totalExpense, balance, incomeCount, expenseCount,
-                paidCount, approvedCount, draftCount, pendingCount);
+        return new DashboardSummary(
+                totalIncome,
+                totalExpense,
+                balance,
+                orZero(aggregate.getIncomeCount()),
+                orZero(aggregate.getExpenseCount()),
+                orZero(aggregate.getPaidCount()),
+                orZero(aggregate.getApprovedCount()),
+                orZero(aggregate.getDraftCount()),
+                orZero(aggregate.getPendingCount())
+        );
     }
 
-    /**
-     * Count entries with given statuses within period.
-     */
-    private long countByStatuses(Set<EntryStatus> statuses, Period period) {
-        return entryRepository.countByStatusInAndEntryDateBetween(
-                statuses,
-                period.startDate(),
-                period.endDate()
-        );
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
     }
 
-    /**
-     * Count entries with given statuses within period, optionally filtered by crew member.
-     */
-    private long countByStatusesForCrew(Set<EntryStatus> statuses, Period period, UUID crewMemberId) {
-        if (crewMemberId == null) {
-            return countByStatuses(statuses, period);
-        }
-        return entryRepository.countByStatusInAndEntryDateBetweenAndCrewMember(
-                statuses,
-                period.startDate(),
-                period.endDate(),
-                crewMemberId
-        );
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
     }
 
     // ============================================
@@ -154,6 +164,10 @@ public class FinancialReportService {
     }
 
     public List<FinancialEntryReportRepository.MonthlyTotalProjection> getMonthlyTotals(Period period) {
+        if (period.isMonthAligned()) {
+            return rollupRepository.findMonthlyTotals(
+                    period.getStartMonth(), period.getEndMonth(), ReportingCategory.ACTUAL);
+        }
         return reportRepository.findMonthlyTotals(period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES);
     }
 
@@ -187,31 +201,6 @@ public class FinancialReportService {
         );
     }
 
-    /**
-     * Count of approved/paid entries of a given type in a period.
-     * Consistent with getActualTotal() — only counts the same entries.
-     */
-    public long countActualByType(RecordType entryType, Period period) {
-        return entryRepository.countByStatusInAndEntryDateBetween(
-                EntryStatus.ACTUAL_STATUSES,
-                period.startDate(),
-                period.endDate()
-        );
-    }
-
-    /**
-     * Count of approved/paid entries filtered by crew member.
-     */
-    public long countActualByTypeForCrew(RecordType entryType, Period period, UUID crewMemberId) {
-        if (crewMemberId == null) return countActualByType(entryType, period);
-        return entryRepository.countByStatusInAndEntryDateBetweenAndCrewMember(
-                EntryStatus.ACTUAL_STATUSES,
-                period.startDate(),
-                period.endDate(),
-                crewMemberId
-        );
-    }
-
     // ============================================
     // AGGREGATIONS — COMMITTED (onay bekleyen / forecast)
     // ============================================
@@ -234,24 +223,26 @@ public class FinancialReportService {
      * Used as the starting cumulative balance for annual/period reports.
      */
     public BigDecimal getCarryOverBalance(Period period) {
-        return reportRepository.findCarryOverBalance(period.startDate(), EntryStatus.ACTUAL_STATUSES);
+        return carryOverBalanceService.getCarryOverBalance(period.startDate());
     }
 
     // ============================================
     // YEARLY QUERIES (no Period needed - already year-based)
+    // Tüm tenant için olanlar aylık rollup'tan; crew filtreli olanlar ham kayıtlardan
+    // (rollup'ta created_by kırılımı yok).
     // ============================================
 
     public List<FinancialEntryReportRepository.CategoryMonthBreakdownProjection> getCategoryMonthBreakdown(
             RecordType entryType,
             int year
     ) {
-        return reportRepository.findCategoryMonthBreakdown(entryType, year, EntryStatus.ACTUAL_STATUSES);
+        return rollupRepository.findCategoryMonthBreakdown(entryType, year, ReportingCategory.ACTUAL);
     }
 
     public List<FinancialEntryReportRepository.MonthlyIncomeExpenseProjection> getMonthlyIncomeExpense(
             int year
     ) {
-        return reportRepository.findMonthlyIncomeExpense(year, EntryStatus.ACTUAL_STATUSES);
+        return rollupRepository.findMonthlyIncomeExpense(year, ReportingCategory.ACTUAL);
     }
 
     public List<FinancialEntryReportRepository.MonthlyIncomeExpenseProjection> getMonthlyIncomeExpense(
@@ -268,12 +259,18 @@ public class FinancialReportService {
     public PivotTreeReportResponse generatePivotReport(PivotReportRequest request) {
         int year = request.year();
 
-        List<PivotReportProjection> projections = reportRepository.findPivotProjections(
-                RecordType.EXPENSE,
-                year,
-                EntryStatus.ACTUAL_STATUSES
+        // GeneratePivotTreeUseCase ile aynı anahtar — aynı sonuç paylaşılır
+        return reportCache.get(
+                ReportCache.ReportType.PIVOT,
+                LocalDate.of(year, 1, 1),
+                LocalDate.of(year, 12, 31),
+                null,
+                RecordType.EXPENSE + ":" + request.currency(),
+                () -> pivotBuilder.buildPivotReport(
+                        year,
+                        request.currency(),
+                        reportRepository.findPivotProjections(RecordType.EXPENSE, year, EntryStatus.ACTUAL_STATUSES)
+                )
         );
-
-        return pivotBuilder.buildPivotReport(year, request.currency(), projections);
     }
 }
@@ -0,0 +1,428 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.events.EntriesImportedEvent;
+import com.marine.management.modules.finance.domain.events.FinancialEntryReportingChangedEvent;
+import com.marine.management.modules.finance.domain.events.FinancialEntryStatusChangedEvent;
+import com.marine.management.modules.finance.domain.events.PaymentChangedEvent;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.security.Permission;
+import com.marine.management.shared.security.PrincipalCache;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Server-sent event fan-out per tenant (GET /api/finance/events).
+ *
+ * EVENTS (all after commit, payload built from the domain event — no DB
+ * access per event):
+ * - entry-status:     FinancialEntryStatusChangedEvent (submit / approve / reject / create / delete)
+ * - payment:          PaymentChangedEvent (payment recorded / reversed)
+ * - dashboard:        FinancialEntryReportingChangedEvent (report figures of these dates changed)
+ * - import-completed: EntriesImportedEvent
+ *
+ * AUDIENCE (same rules as reads, checked at delivery against the current
+ * principal — a role change applies to the next event):
+ * - entry-status, payment: ENTRY_VIEW_ALL, otherwise only the entry's creator
+ * - dashboard: REPORT_VIEW
+ * - import-completed: ENTRY_VIEW_ALL, otherwise only the importing user
+ *
+ * PRINCIPAL RE-CHECK:
+ * Before every delivery (events and heartbeats) the subscriber is resolved
+ * through PrincipalCache with the token version it subscribed with. A
+ * deactivated, deleted or revoked (password change / reset) user, or one
+ * moved to another organization, has the stream completed.
+ *
+ * DELIVERY:
+ * - Publishing never blocks: events go into a bounded per-subscriber outbox.
+ *   A subscriber whose outbox is full is too slow and is dropped.
+ * - Outboxes are drained on a bounded sender pool, at most one task per
+ *   subscriber, so one slow client holds at most one sender thread and each
+ *   subscriber still receives its events in order.
+ * - A failed send drops the subscriber. A send running longer than
+ *   {@code app.live-updates.send-timeout} drops it at the next heartbeat;
+ *   its emitter is completed once the blocked write returns (the servlet
+ *   write itself is bounded by the connector timeout).
+ * - The heartbeat comment keeps idle connections through proxies and
+ *   detects dead ones.
+ */
+@Component
+public class LiveUpdateBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateBroadcaster.class);
+
+    static final String EVENT_ENTRY_STATUS = "entry-status";
+    static final String EVENT_PAYMENT = "payment";
+    static final String EVENT_DASHBOARD = "dashboard";
+    static final String EVENT_IMPORT_COMPLETED = "import-completed";
+
+    // Abone başına en fazla bir drain görevi kuyrukta — üst sınır abone sayısı
+    private static final int SENDER_QUEUE_CAPACITY = 10_000;
+
+    private final PrincipalCache principalCache;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutNanos;
+    private final int maxPendingEvents;
+    private final Executor sender;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LiveUpdateBroadcaster(
+            PrincipalCache principalCache,
+            @Value("${app.live-updates.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${app.live-updates.send-timeout:10s}") Duration sendTimeout,
+            @Value("${app.live-updates.max-pending-events:100}") int maxPendingEvents,
+            @Value("${app.live-updates.sender-threads:4}") int senderThreads
+    ) {
+        this(principalCache, emitterTimeout, sendTimeout, maxPendingEvents, newSenderPool(senderThreads));
+    }
+
+    LiveUpdateBroadcaster(
+            PrincipalCache principalCache,
+            Duration emitterTimeout,
+            Duration sendTimeout,
+            int maxPendingEvents,
+            Executor sender
+    ) {
+        this.principalCache = principalCache;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxPendingEvents = maxPendingEvents;
+        this.sender = sender;
+    }
+
+    private static ExecutorService newSenderPool(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SENDER_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "live-update-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // PAYLOADS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    public record EntryStatusPayload(UUID entryId, String previousStatus, String newStatus) {}
+
+    public record PaymentPayload(UUID entryId, String entryStatus) {}
+
+    public record DashboardPayload(Set<LocalDate> affectedDates) {}
+
+    public record ImportCompletedPayload(UUID jobId, int importedCount) {}
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // SUBSCRIPTION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Registers the user on their tenant's stream. The client reconnects
+     * after the emitter timeout (EventSource does this automatically).
+     */
+    public SseEmitter subscribe(User user) {
+        Long tenantId = user.getOrganizationId();
+        SseEmitter emitter = createEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(
+                emitter, tenantId, user.getUserId(), user.getTokenVersion(), maxPendingEvents);
+
+        // compute: boşalan set'in remove() ile aynı anda düşürülmesiyle yarışmasın
+        subscribers.compute(tenantId, (id, tenantSubscribers) -> {
+            Set<Subscriber> result = tenantSubscribers != null ? tenantSubscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        emitter.onCompletion(() -> close(subscriber, null));
+        emitter.onTimeout(() -> close(subscriber, null));
+        emitter.onError(e -> close(subscriber, null));
+
+        log.debug("Live update subscriber added: tenant={}, user={}", tenantId, user.getUserId());
+        return emitter;
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    int subscriberCount(Long tenantId) {
+        Set<Subscriber> tenantSubscribers = subscribers.get(tenantId);
+        return tenantSubscribers != null ? tenantSubscribers.size() : 0;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // DOMAIN EVENTS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(FinancialEntryStatusChangedEvent event) {
+        broadcast(event.tenantId(), EVENT_ENTRY_STATUS,
+                new EntryStatusPayload(event.entryId(), nameOf(event.previousStatus()), nameOf(event.newStatus())),
+                ownerOrViewAll(event.createdById()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaymentChanged(PaymentChangedEvent event) {
+        broadcast(event.tenantId(), EVENT_PAYMENT,
+                new PaymentPayload(event.entryId(), nameOf(event.entryStatus())),
+                ownerOrViewAll(event.createdById()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportingChanged(FinancialEntryReportingChangedEvent event) {
+        broadcast(event.tenantId(), EVENT_DASHBOARD,
+                new DashboardPayload(new TreeSet<>(event.affectedDates())),
+                user -> user.getRoleEnum().hasPermission(Permission.REPORT_VIEW));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntriesImported(EntriesImportedEvent event) {
+        broadcast(event.tenantId(), EVENT_IMPORT_COMPLETED,
+                new ImportCompletedPayload(event.jobId(), event.importedCount()),
+                ownerOrViewAll(event.importedById()));
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // FAN-OUT
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Scheduled(fixedDelayString = "${app.live-updates.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(tenantSubscribers -> tenantSubscribers.forEach(subscriber -> {
+            long sendStarted = subscriber.sendStartedNanos;
+            if (sendStarted != 0 && now - sendStarted > sendTimeoutNanos) {
+                log.debug("Live update send timed out: tenant={}, user={}",
+                        subscriber.tenantId, subscriber.userId);
+                close(subscriber, new TimeoutException("SSE send timed out"));
+                return;
+            }
+            enqueue(subscriber, new Outgoing(SseEmitter.event().comment("ping"), user -> true));
+        }));
+    }
+
+    private void broadcast(Long tenantId, String name, Object payload, Predicate<User> audience) {
+        if (tenantId == null) {
+            return;
+        }
+        Set<Subscriber> tenantSubscribers = subscribers.get(tenantId);
+        if (tenantSubscribers == null || tenantSubscribers.isEmpty()) {
+            return;
+        }
+
+        Outgoing outgoing = new Outgoing(SseEmitter.event().name(name).data(payload), audience);
+        tenantSubscribers.forEach(subscriber -> enqueue(subscriber, outgoing));
+    }
+
+    private void enqueue(Subscriber subscriber, Outgoing outgoing) {
+        if (subscriber.isClosed()) {
+            return;
+        }
+        if (!subscriber.outbox.offer(outgoing)) {
+            // İstemci yetişemiyor — aboneyi düşür, yeniden bağlanınca güncel durumu çeker
+            log.debug("Live update outbox full: tenant={}, user={}", subscriber.tenantId, subscriber.userId);
+            close(subscriber, new TimeoutException("SSE client too slow"));
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            log.warn("Live update sender saturated, dropping subscriber: tenant={}, user={}",
+                    subscriber.tenantId, subscriber.userId);
+            close(subscriber, e);
+        }
+    }
+
+    /**
+     * Sends the subscriber's pending events in order. Runs on the sender
+     * pool, never concurrently for the same subscriber.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            User principal = null;
+            Outgoing next;
+            while (!subscriber.isClosed() && (next = subscriber.outbox.poll()) != null) {
+                if (principal == null) {
+                    principal = currentPrincipal(subscriber).orElse(null);
+                    if (principal == null) {
+                        log.debug("Live update principal no longer valid: tenant={}, user={}",
+                                subscriber.tenantId, subscriber.userId);
+                        close(subscriber, null);
+                        break;
+                    }
+                }
+                if (next.audience().test(principal)) {
+                    send(subscriber, next.event());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Live update delivery failed: tenant={}, user={}", subscriber.tenantId, subscriber.userId, e);
+            close(subscriber, e);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (subscriber.isClosed()) {
+            finish(subscriber);
+        } else if (!subscriber.outbox.isEmpty()) {
+            // poll() boş döndükten sonra gelen event
+            schedule(subscriber);
+        }
+    }
+
+    private Optional<User> currentPrincipal(Subscriber subscriber) {
+        return principalCache.resolve(subscriber.userId, subscriber.tokenVersion)
+                .filter(User::isActive)
+                .filter(user -> subscriber.tenantId.equals(user.getOrganizationId()));
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        subscriber.sendStartedNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // İstemci bağlantıyı kapatmış — aboneyi düşür
+            close(subscriber, e);
+        } finally {
+            subscriber.sendStartedNanos = 0;
+        }
+    }
+
+    /**
+     * Removes the subscriber so nothing more is queued for it. The emitter
+     * is completed by {@link #finish} on the sender side — completing here
+     * would wait for a send that may be blocked on this very client.
+     */
+    private void close(Subscriber subscriber, Throwable error) {
+        if (!subscriber.markClosed(error)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.tenantId, (id, tenantSubscribers) -> {
+            tenantSubscribers.remove(subscriber);
+            return tenantSubscribers.isEmpty() ? null : tenantSubscribers;
+        });
+        subscriber.outbox.clear();
+
+        if (subscriber.draining.compareAndSet(false, true)) {
+            // Çalışan drain yok — emitter'ı şimdi kapat
+            finish(subscriber);
+        }
+    }
+
+    private void finish(Subscriber subscriber) {
+        if (!subscriber.completed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (subscriber.closeError != null) {
+                subscriber.emitter.completeWithError(subscriber.closeError);
+            } else {
+                subscriber.emitter.complete();
+            }
+        } catch (RuntimeException e) {
+            log.debug("Live update emitter already closed: user={}", subscriber.userId);
+        }
+    }
+
+    private static Predicate<User> ownerOrViewAll(UUID ownerId) {
+        return user -> user.getRoleEnum().hasPermission(Permission.ENTRY_VIEW_ALL)
+                || (ownerId != null && ownerId.equals(user.getUserId()));
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.values().forEach(tenantSubscribers ->
+                tenantSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private record Outgoing(SseEmitter.SseEventBuilder event, Predicate<User> audience) {}
+
+    /**
+     * One open stream. Identity-based equality (set membership).
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long tenantId;
+        private final UUID userId;
+        private final int tokenVersion;
+        private final BlockingQueue<Outgoing> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile Throwable closeError;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, Long tenantId, UUID userId, int tokenVersion, int maxPendingEvents) {
+            this.emitter = emitter;
+            this.tenantId = tenantId;
+            this.userId = userId;
+            this.tokenVersion = tokenVersion;
+            this.outbox = new ArrayBlockingQueue<>(maxPendingEvents);
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        // closeError, closed'dan önce yazılır — closed'ı gören hatayı da görür
+        synchronized boolean markClosed(Throwable error) {
+            if (closed) {
+                return false;
+            }
+            closeError = error;
+            closed = true;
+            return true;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.marine.management.modules.finance.application;
 import com.marine.management.modules.finance.domain.entities.FinancialEntry;
 import com.marine.management.modules.finance.domain.entities.Payment;
 import com.marine.management.modules.finance.domain.enums.PaymentMethod;
+import com.marine.management.modules.finance.domain.events.PaymentChangedEvent;
 import com.marine.management.modules.finance.domain.vo.Money;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
 import com.marine.management.modules.finance.infrastructure.PaymentRepository;
@@ -15,6 +16,7 @@ import com.marine.management.shared.security.EntryAccessPolicy;
 import com.marine.management.shared.security.Permission;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,15 +35,18 @@ public class PaymentService {
     private final FinancialEntryRepository entryRepository;
     private final PaymentRepository paymentRepository;
     private final EntryAccessPolicy accessPolicy;  // 
+    private final ApplicationEventPublisher eventPublisher;
 
     public PaymentService(
             FinancialEntryRepository entryRepository,
             PaymentRepository paymentRepository,
-            EntryAccessPolicy accessPolicy
+            EntryAccessPolicy accessPolicy,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.entryRepository = entryRepository;
         this.paymentRepository = paymentRepository;
         this.accessPolicy = accessPolicy;
+        this.eventPublisher = eventPublisher;
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -90,6 +95,7 @@ public class PaymentService {
         // addPayment() adds to collection + updates paidBaseAmount/status via recordPayment()
         entry.addPayment(payment);
         entryRepository.save(entry);
+        publishPaymentChanged(entry);
 
         logger.info("Payment recorded: entry={}, amount={}, date={}, status={}, by={}",
                 entryId, amount, paymentDate, entry.getStatus(), recorder.getUsername());
@@ -172,6 +178,7 @@ public class PaymentService {
         // removePayment() removes from collection + reverses paidBaseAmount/status
         entry.removePayment(payment);
         entryRepository.save(entry);
+        publishPaymentChanged(entry);
 
         logger.warn("Payment deleted (REVERSAL): id={}, entry={}, amount={}, by={}",
                 paymentId, entry.getEntryNumber(), payment.getAmount(), deleter.getUsername());
@@ -284,6 +291,16 @@ public class PaymentService {
                 .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + id));
     }
 
+    // Dinleyiciler AFTER_COMMIT — rollback olursa yayınlanmaz
+    private void publishPaymentChanged(FinancialEntry entry) {
+        eventPublisher.publishEvent(new PaymentChangedEvent(
+                TenantContext.getCurrentTenantId(),
+                entry.getEntryId(),
+                entry.getCreatedById(),
+                entry.getStatus()
+        ));
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // INNER CLASSES
     // ═══════════════════════════════════════════════════════════════════════════
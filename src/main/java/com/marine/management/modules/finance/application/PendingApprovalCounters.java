@@ -0,0 +1,164 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.events.FinancialEntryStatusChangedEvent;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository.StatusCountProjection;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.multitenant.TenantContext;
+import com.marine.management.shared.security.EntryAccessPolicy;
+import com.marine.management.shared.security.EntryAccessPolicy.PendingScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory pending counters for the approval badge (/pending/count).
+ *
+ * Per tenant: DRAFT, PENDING_CAPTAIN and PENDING_MANAGER totals, plus the
+ * same per creator (crew sees only own drafts). The user's scope comes from
+ * EntryAccessPolicy.getPendingScope — the same scope as the pending queue.
+ *
+ * KEEPING CURRENT:
+ * - FinancialEntryStatusChangedEvent (every JPA status transition: submit,
+ *   approveByCaptain, approveByManager, reject, create, delete) is applied
+ *   after commit — rolled back transitions never touch the counters.
+ * - A tenant not loaded yet is loaded with one grouped query on its first
+ *   read; PendingCounterReconciliationJob reloads all tenants on startup
+ *   and periodically, which also corrects drift from an event racing a load.
+ */
+@Component
+public class PendingApprovalCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingApprovalCounters.class);
+
+    static final Set<EntryStatus> COUNTED_STATUSES = EnumSet.of(
+            EntryStatus.DRAFT,
+            EntryStatus.PENDING_CAPTAIN,
+            EntryStatus.PENDING_MANAGER
+    );
+
+    private final FinancialEntryRepository entryRepository;
+    private final EntryAccessPolicy accessPolicy;
+
+    private final Map<Long, TenantCounters> tenants = new ConcurrentHashMap<>();
+
+    public PendingApprovalCounters(FinancialEntryRepository entryRepository, EntryAccessPolicy accessPolicy) {
+        this.entryRepository = entryRepository;
+        this.accessPolicy = accessPolicy;
+    }
+
+    /**
+     * Pending count for the user's badge — sum over the user's pending scope
+     * (EntryAccessPolicy.getPendingScope, the same scope as the queue).
+     *
+     * Must run inside a tenant-filtered transaction (ApprovalService) —
+     * the first read of a tenant loads it from the database.
+     */
+    public long countFor(User user) {
+        PendingScope scope = accessPolicy.getPendingScope(user);
+        if (scope.isEmpty()) {
+            return 0;
+        }
+
+        TenantCounters counters = countersOf(TenantContext.getCurrentTenantId());
+
+        long total = 0;
+        for (EntryStatus status : scope.statuses()) {
+            total += scope.createdById() == null
+                    ? counters.total(status)
+                    : counters.byCreator(status, scope.createdById());
+        }
+        return total;
+    }
+
+    /**
+     * Reloads the current tenant's counters from the database.
+     */
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        Long tenantId = TenantContext.getCurrentTenantId();
+        tenants.put(tenantId, load(tenantId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(FinancialEntryStatusChangedEvent event) {
+        TenantCounters counters = tenants.get(event.tenantId());
+        if (counters == null) {
+            return; // henüz yüklenmedi — ilk okumada DB'den gelir
+        }
+        counters.add(event.previousStatus(), event.createdById(), -1);
+        counters.add(event.newStatus(), event.createdById(), 1);
+    }
+
+    private TenantCounters countersOf(Long tenantId) {
+        TenantCounters counters = tenants.get(tenantId);
+        if (counters != null) {
+            return counters;
+        }
+        // Sorgu computeIfAbsent dışında — map kilidi DB süresince tutulmasın
+        TenantCounters loaded = load(tenantId);
+        TenantCounters existing = tenants.putIfAbsent(tenantId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private TenantCounters load(Long tenantId) {
+        List<StatusCountProjection> rows = entryRepository.countByStatusAndCreator(COUNTED_STATUSES);
+
+        TenantCounters counters = new TenantCounters();
+        for (StatusCountProjection row : rows) {
+            counters.add(row.getStatus(), row.getCreatedById(), row.getTotal());
+        }
+
+        log.debug("Pending counters loaded for tenant {}: {} groups", tenantId, rows.size());
+        return counters;
+    }
+
+    private static final class TenantCounters {
+
+        private final Map<EntryStatus, AtomicLong> totals = new EnumMap<>(EntryStatus.class);
+        private final Map<EntryStatus, Map<UUID, AtomicLong>> byCreator = new EnumMap<>(EntryStatus.class);
+
+        TenantCounters() {
+            // Yapı sabit, yalnızca değerler değişir — EnumMap eşzamanlı okunabilir
+            COUNTED_STATUSES.forEach(status -> {
+                totals.put(status, new AtomicLong());
+                byCreator.put(status, new ConcurrentHashMap<>());
+            });
+        }
+
+        void add(EntryStatus status, UUID createdById, long delta) {
+            AtomicLong total = status != null ? totals.get(status) : null;
+            if (total == null) {
+                return; // sayılmayan status (APPROVED, PAID, REJECTED ...)
+            }
+            total.addAndGet(delta);
+            if (createdById != null) {
+                byCreator.get(status).computeIfAbsent(createdById, id -> new AtomicLong()).addAndGet(delta);
+            }
+        }
+
+        long total(EntryStatus status) {
+            AtomicLong total = totals.get(status);
+            return total != null ? Math.max(0, total.get()) : 0;
+        }
+
+        long byCreator(EntryStatus status, UUID createdById) {
+            Map<UUID, AtomicLong> creators = byCreator.get(status);
+            AtomicLong count = creators != null ? creators.get(createdById) : null;
+            return count != null ? Math.max(0, count.get()) : 0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.shared.multitenant.TenantAwareScheduledTask;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads PendingApprovalCounters from financial_entries for every active
+ * tenant: once on startup (badge polls never hit the table cold) and on
+ * app.approval.pending-counters.reconcile-cron to correct any drift.
+ */
+@Component
+public class PendingCounterReconciliationJob extends TenantAwareScheduledTask {
+
+    private final PendingApprovalCounters pendingApprovalCounters;
+
+    public PendingCounterReconciliationJob(PendingApprovalCounters pendingApprovalCounters) {
+        this.pendingApprovalCounters = pendingApprovalCounters;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileAll();
+    }
+
+    @Scheduled(cron = "${app.approval.pending-counters.reconcile-cron:0 0 * * * *}")
+    public void reconcileAll() {
+        // reconcile() @Transactional — proxy üzerinden, tenant filtresi aktif
+        executeForAllTenants(tenant -> pendingApprovalCounters.reconcile());
+    }
+}
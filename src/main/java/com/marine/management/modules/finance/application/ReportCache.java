@@ -0,0 +1,218 @@
+package com.marine.management.modules.finance.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.marine.management.modules.finance.domain.events.FinancialEntryReportingChangedEvent;
+import com.marine.management.modules.finance.domain.events.ReferenceDataChangedEvent;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Tenant-scoped cache for computed report results.
+ *
+ * KEY: tenant + report type + period + crew filter + variant
+ * (entry type / currency etc.).
+ *
+ * INVALIDATION:
+ * - FinancialEntryReportingChangedEvent (after commit) evicts only the
+ *   entries whose period the changed entry date can affect.
+ * - Reports with a carry-over balance (annual / period breakdown) depend on
+ *   all history before their start, so any change up to their end date evicts them.
+ * - ReferenceDataChangedEvent (main category / who renamed, after commit)
+ *   clears every tenant — the names are shared reference data.
+ *
+ * Cached values are shared between requests; report DTOs are immutable.
+ *
+ * EXPIRY:
+ * - Periods ending before this year (closed years) never expire — only
+ *   invalidation or size eviction removes them.
+ * - Open periods expire after {@link #OPEN_PERIOD_TTL} as a safety net.
+ *
+ * RACE GUARD:
+ * A per-tenant generation is bumped on every invalidation. A result computed
+ * while the generation moved is returned but not kept in the cache, so a
+ * report read before a commit cannot outlive the eviction for that commit.
+ */
+@Component
+public class ReportCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportCache.class);
+
+    static final Duration OPEN_PERIOD_TTL = Duration.ofMinutes(15);
+    private static final long MAX_ENTRIES = 1_000;
+
+    public enum ReportType {
+        ANNUAL_BREAKDOWN(true),
+        PERIOD_BREAKDOWN(true),
+        TREE(false),
+        PIVOT(false),
+        DASHBOARD_SUMMARY(false);
+
+        private final boolean includesCarryOver;
+
+        ReportType(boolean includesCarryOver) {
+            this.includesCarryOver = includesCarryOver;
+        }
+
+        public boolean includesCarryOver() {
+            return includesCarryOver;
+        }
+    }
+
+    record Key(
+            Long tenantId,
+            ReportType type,
+            LocalDate start,
+            LocalDate end,
+            UUID crewMemberId,
+            String variant
+    ) {
+        boolean isAffectedBy(LocalDate changedDate) {
+            if (changedDate.isAfter(end)) {
+                return false;
+            }
+            return type.includesCarryOver() || !changedDate.isBefore(start);
+        }
+
+        boolean isClosed(LocalDate today) {
+            return end.getYear() < today.getYear();
+        }
+    }
+
+    private final Cache<Key, Object> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfter(new Expiry<Key, Object>() {
+                @Override
+                public long expireAfterCreate(Key key, Object value, long currentTime) {
+                    return key.isClosed(LocalDate.now()) ? Long.MAX_VALUE : OPEN_PERIOD_TTL.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Key key, Object value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(Key key, Object value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached report for the current tenant, computing it on a miss.
+     *
+     * @param crewMemberId crew filter (null = all users)
+     * @param variant      any further discriminator (entry type, currency), may be null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(
+            ReportType type,
+            LocalDate start,
+            LocalDate end,
+            UUID crewMemberId,
+            String variant,
+            Supplier<T> loader
+    ) {
+        Long tenantId = TenantContext.getCurrentTenantId();
+        Key key = new Key(tenantId, type, start, end, crewMemberId, variant);
+
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        AtomicLong generation = generationOf(tenantId);
+        long before = generation.get();
+
+        T value = Objects.requireNonNull(loader.get(), "Report loader returned null");
+
+        cache.put(key, value);
+        if (generation.get() != before) {
+            // Hesaplama sırasında invalidation oldu — sonucu cache'te tutma
+            cache.invalidate(key);
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntryChanged(FinancialEntryReportingChangedEvent event) {
+        evict(event.tenantId(), event.affectedDates());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        evictAll();
+        log.debug("Report cache cleared after {} {} changed", event.referenceType(), event.referenceId());
+    }
+
+    /**
+     * Evicts every cached report of the tenant that the given entry dates can affect.
+     */
+    public void evict(Long tenantId, Collection<LocalDate> changedDates) {
+        generationOf(tenantId).incrementAndGet();
+        cache.asMap().keySet().removeIf(key ->
+                key.tenantId().equals(tenantId)
+                        && changedDates.stream().anyMatch(key::isAffectedBy)
+        );
+        log.debug("Report cache evicted: tenantId={} dates={}", tenantId, changedDates);
+    }
+
+    /**
+     * Evicts every cached report of the tenant (e.g. category renamed).
+     */
+    public void evictTenant(Long tenantId) {
+        generationOf(tenantId).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        log.debug("Report cache cleared for tenantId={}", tenantId);
+    }
+
+    /**
+     * Evicts every cached report of every tenant.
+     */
+    public void evictAll() {
+        // Hesaplaması süren raporlar generationOf ile kayıtlıdır — hepsi geçersiz
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Clears the tenant's reports once the current transaction commits
+     * (immediately when no transaction is active).
+     */
+    public void evictTenantAfterCommit(Long tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictTenant(tenantId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictTenant(tenantId);
+            }
+        });
+    }
+
+    private AtomicLong generationOf(Long tenantId) {
+        return generations.computeIfAbsent(tenantId, id -> new AtomicLong());
+    }
+}
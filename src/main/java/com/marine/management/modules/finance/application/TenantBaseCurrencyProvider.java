@@ -1,6 +1,6 @@
 package com.marine.management.modules.finance.application;
 
-import com.marine.management.modules.organization.infrastructure.OrganizationRepository;
+import com.marine.management.modules.organization.application.TenantSettingsProvider;
 import com.marine.management.shared.multitenant.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,8 +9,8 @@ import org.springframework.stereotype.Component;
 /**
  * Provides the base currency for the current tenant.
  *
- * Reads the tenant's selected base currency from the Organization entity,
- * falling back to EUR only if the organization is not found.
+ * Reads the tenant's selected base currency from the cached tenant settings
+ * (TenantSettingsProvider), falling back to EUR only if the organization is not found.
  */
 @Component
 public class TenantBaseCurrencyProvider {
@@ -18,10 +18,10 @@ public class TenantBaseCurrencyProvider {
     private static final Logger log = LoggerFactory.getLogger(TenantBaseCurrencyProvider.class);
     private static final String FALLBACK_CURRENCY = "EUR";
 
-    private final OrganizationRepository organizationRepository;
+    private final TenantSettingsProvider tenantSettingsProvider;
 
-    public TenantBaseCurrencyProvider(OrganizationRepository organizationRepository) {
-        this.organizationRepository = organizationRepository;
+    public TenantBaseCurrencyProvider(TenantSettingsProvider tenantSettingsProvider) {
+        this.tenantSettingsProvider = tenantSettingsProvider;
     }
 
     /**
@@ -32,9 +32,9 @@ public class TenantBaseCurrencyProvider {
     public String getCurrentTenantBaseCurrency() {
         Long tenantId = TenantContext.getCurrentTenantId();
 
-        return organizationRepository.findById(tenantId)
-                .map(org -> {
-                    String currency = org.getBaseCurrency();
+        return tenantSettingsProvider.get(tenantId)
+                .map(settings -> {
+                    String currency = settings.baseCurrency();
                     if (currency == null || currency.isBlank()) {
                         log.warn("Organization {} has no base currency set, falling back to {}", tenantId, FALLBACK_CURRENCY);
                         return FALLBACK_CURRENCY;
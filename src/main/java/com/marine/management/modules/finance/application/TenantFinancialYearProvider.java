@@ -0,0 +1,44 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.organization.application.TenantSettingsProvider;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides the financial year start month for the current tenant.
+ *
+ * Reads Organization.financialYearStartMonth (set during onboarding) from the
+ * cached tenant settings, falling back to January if the organization is not found.
+ */
+@Component
+public class TenantFinancialYearProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantFinancialYearProvider.class);
+    private static final int FALLBACK_START_MONTH = 1;
+
+    private final TenantSettingsProvider tenantSettingsProvider;
+
+    public TenantFinancialYearProvider(TenantSettingsProvider tenantSettingsProvider) {
+        this.tenantSettingsProvider = tenantSettingsProvider;
+    }
+
+    /**
+     * Returns the month (1-12) the current tenant's financial year starts in.
+     */
+    public int getCurrentTenantFinancialYearStartMonth() {
+        Long tenantId = TenantContext.getCurrentTenantId();
+
+        return tenantSettingsProvider.get(tenantId)
+                .map(settings -> {
+                    Integer startMonth = settings.financialYearStartMonth();
+                    return startMonth != null ? startMonth : FALLBACK_START_MONTH;
+                })
+                .orElseGet(() -> {
+                    log.warn("Organization not found for tenantId={}, financial year starts in month {}",
+                            tenantId, FALLBACK_START_MONTH);
+                    return FALLBACK_START_MONTH;
+                });
+    }
+}
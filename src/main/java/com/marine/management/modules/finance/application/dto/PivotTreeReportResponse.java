@@ -1,13 +1,37 @@
 package com.marine.management.modules.finance.application.dto;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Pivot report over a month range.
+ *
+ * @param year       year of the first column (calendar-year reports: the report year)
+ * @param startMonth first column, "yyyy-MM"
+ * @param endMonth   last column, "yyyy-MM"
+ * @param columns    one "yyyy-MM" key per month of the range
+ */
 public record PivotTreeReportResponse(
         int year,
+        String startMonth,
+        String endMonth,
         String currency,
         List<String> columns,
         Map<String, BigDecimal> columnTotals,
         List<PivotTreeNodeDTO> rows
-) { }
\ No newline at end of file
+) {
+    /**
+     * Cached by ReportCache and shared between requests — kept immutable
+     * (column order preserved).
+     */
+    public PivotTreeReportResponse {
+        columns = columns != null ? List.copyOf(columns) : List.of();
+        columnTotals = columnTotals != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(columnTotals))
+                : Collections.emptyMap();
+        rows = rows != null ? List.copyOf(rows) : List.of();
+    }
+}
@@ -41,12 +41,12 @@ public record TreeNodeDTO(
 ) {
 
     /**
-     * Compact constructor with null-safe default for children.
+     * Compact constructor with null-safe, immutable children.
      */
     public TreeNodeDTO {
-        if (children == null) {
-            children = Collections.emptyList();
-        }
+        children = children != null
+                ? List.copyOf(children)
+                : Collections.emptyList();
     }
 
     /**
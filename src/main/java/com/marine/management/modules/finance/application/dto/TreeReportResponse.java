@@ -8,4 +8,11 @@ public record TreeReportResponse(
         String currency,
         BigDecimal totalAmount,
         List<TreeNodeDTO> nodes
-) { }
\ No newline at end of file
+) {
+    /**
+     * Cached by ReportCache and shared between requests — kept immutable.
+     */
+    public TreeReportResponse {
+        nodes = nodes != null ? List.copyOf(nodes) : List.of();
+    }
+}
\ No newline at end of file
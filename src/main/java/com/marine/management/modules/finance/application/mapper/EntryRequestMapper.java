@@ -2,6 +2,7 @@ package com.marine.management.modules.finance.application.mapper;
 
 import com.marine.management.modules.finance.application.commands.*;
 import com.marine.management.modules.finance.infrastructure.query.EntrySearchCriteria;
+import com.marine.management.modules.finance.infrastructure.query.SortableFields;
 import com.marine.management.modules.finance.presentation.dto.MoneyDto;
 import com.marine.management.modules.finance.presentation.dto.controller.*;
 import com.marine.management.modules.users.domain.User;
@@ -161,6 +162,29 @@ public class EntryRequestMapper {
                 .sortDirection(request.sortDirection())
                 .page(request.page())
                 .size(request.size())
+                .cursor(request.cursor())
+                .build();
+    }
+
+    /**
+     * Text search: ranked by relevance unless the client picks a sort column.
+     */
+    public EntrySearchCriteria toTextSearchCriteria(EntrySearchRequest request) {
+        if (request.sortColumn() != null && !request.sortColumn().isBlank()) {
+            return toSearchCriteria(request);
+        }
+        return EntrySearchCriteria.builder()
+                .categoryId(request.categoryId())
+                .entryType(request.entryType())
+                .whoId(request.whoId())
+                .mainCategoryId(request.mainCategoryId())
+                .status(request.status())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .searchTerm(request.searchTerm())
+                .sort(SortableFields.RELEVANCE_SORT, request.sortDirection())
+                .page(request.page())
+                .size(request.size())
                 .build();
     }
 
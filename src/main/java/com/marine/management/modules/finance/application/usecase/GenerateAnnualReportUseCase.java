@@ -1,18 +1,20 @@
 package com.marine.management.modules.finance.application.usecase;
 
+import com.marine.management.modules.finance.application.CarryOverBalanceService;
+import com.marine.management.modules.finance.application.ReportCache;
 import com.marine.management.modules.finance.application.TenantBaseCurrencyProvider;
 import com.marine.management.modules.finance.application.mapper.AnnualReportMapper;
 import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
 import com.marine.management.modules.finance.domain.model.AnnualReport;
 import com.marine.management.modules.finance.domain.model.CategoryYearSummary;
 import com.marine.management.modules.finance.domain.model.MonthlyTotal;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialMonthlyRollupRepository;
 import com.marine.management.modules.finance.presentation.dto.reports.AnnualBreakdownDto;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.marine.management.modules.finance.domain.enums.EntryStatus;
-
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -27,8 +29,9 @@ import java.util.Objects;
  *
  * <p>Flow:
  * <ol>
- *   <li>Fetch category breakdowns from database (Infrastructure)</li>
- *   <li>Fetch monthly income/expense totals (Infrastructure)</li>
+ *   <li>Fetch carry-over balance from the latest checkpoint (Application)</li>
+ *   <li>Fetch category breakdowns from the monthly rollup (Infrastructure)</li>
+ *   <li>Fetch monthly income/expense totals from the monthly rollup (Infrastructure)</li>
  *   <li>Build domain model (Domain)</li>
  *   <li>Map to DTO (Application)</li>
  * </ol>
@@ -39,18 +42,24 @@ public class GenerateAnnualReportUseCase {
 
     private static final int MIN_YEAR = 2000;
 
-    private final FinancialEntryReportRepository reportRepository;
+    private final FinancialMonthlyRollupRepository rollupRepository;
+    private final CarryOverBalanceService carryOverBalanceService;
     private final AnnualReportMapper annualReportMapper;
     private final TenantBaseCurrencyProvider tenantBaseCurrencyProvider;
+    private final ReportCache reportCache;
 
     public GenerateAnnualReportUseCase(
-            FinancialEntryReportRepository reportRepository,
+            FinancialMonthlyRollupRepository rollupRepository,
+            CarryOverBalanceService carryOverBalanceService,
             AnnualReportMapper annualReportMapper,
-            TenantBaseCurrencyProvider tenantBaseCurrencyProvider
+            TenantBaseCurrencyProvider tenantBaseCurrencyProvider,
+            ReportCache reportCache
     ) {
-        this.reportRepository = Objects.requireNonNull(reportRepository);
+        this.rollupRepository = Objects.requireNonNull(rollupRepository);
+        this.carryOverBalanceService = Objects.requireNonNull(carryOverBalanceService);
         this.annualReportMapper = Objects.requireNonNull(annualReportMapper);
         this.tenantBaseCurrencyProvider = Objects.requireNonNull(tenantBaseCurrencyProvider);
+        this.reportCache = Objects.requireNonNull(reportCache);
     }
 
     /**
@@ -63,16 +72,27 @@ public class GenerateAnnualReportUseCase {
     public AnnualBreakdownDto execute(int year) {
         validateYear(year);
 
+        return reportCache.get(
+                ReportCache.ReportType.ANNUAL_BREAKDOWN,
+                LocalDate.of(year, 1, 1),
+                LocalDate.of(year, 12, 31),
+                null,
+                null,
+                () -> generate(year)
+        );
+    }
+
+    private AnnualBreakdownDto generate(int year) {
         LocalDate periodStart = LocalDate.of(year, 1, 1);
 
         // Fetch data from database
-        BigDecimal carryOver = reportRepository.findCarryOverBalance(periodStart, EntryStatus.ACTUAL_STATUSES);
+        BigDecimal carryOver = carryOverBalanceService.getCarryOverBalance(periodStart);
 
         List<FinancialEntryReportRepository.CategoryMonthBreakdownProjection> categoryBreakdowns =
-                reportRepository.findCategoryMonthBreakdown(RecordType.EXPENSE, year, EntryStatus.ACTUAL_STATUSES);
+                rollupRepository.findCategoryMonthBreakdown(RecordType.EXPENSE, year, ReportingCategory.ACTUAL);
 
         List<FinancialEntryReportRepository.MonthlyIncomeExpenseProjection> monthlyTotals =
-                reportRepository.findMonthlyIncomeExpense(year, EntryStatus.ACTUAL_STATUSES);
+                rollupRepository.findMonthlyIncomeExpense(year, ReportingCategory.ACTUAL);
 
         // Build domain model
         String baseCurrency = tenantBaseCurrencyProvider.getCurrentTenantBaseCurrency();
@@ -1,13 +1,17 @@
 package com.marine.management.modules.finance.application.usecase;
 
+import com.marine.management.modules.finance.application.CarryOverBalanceService;
+import com.marine.management.modules.finance.application.ReportCache;
 import com.marine.management.modules.finance.application.TenantBaseCurrencyProvider;
 import com.marine.management.modules.finance.application.mapper.PeriodReportMapper;
 import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
 import com.marine.management.modules.finance.domain.model.MonthlyBreakdown;
 import com.marine.management.modules.finance.domain.model.MonthlyTotal;
 import com.marine.management.modules.finance.domain.model.PeriodReport;
 import com.marine.management.modules.finance.domain.vo.Period;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialMonthlyRollupRepository;
 import com.marine.management.modules.finance.presentation.dto.reports.PeriodBreakdownDto;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,28 +30,40 @@ import java.util.*;
  * <p>Flow:
  * <ol>
  *   <li>Fetch carry-over balance (Infrastructure)</li>
- *   <li>Fetch category breakdowns from database (Infrastructure)</li>
+ *   <li>Fetch category breakdowns (Infrastructure)</li>
  *   <li>Fetch monthly income/expense totals (Infrastructure)</li>
  *   <li>Build domain model (Domain)</li>
  *   <li>Map to DTO (Application)</li>
  * </ol>
+ *
+ * <p>Month-aligned periods (1st of a month → last day of a month) are served
+ * from the monthly rollup; arbitrary day ranges fall back to raw entries.
  */
 @Service
 @Transactional(readOnly = true)
 public class GeneratePeriodReportUseCase {
 
     private final FinancialEntryReportRepository reportRepository;
+    private final FinancialMonthlyRollupRepository rollupRepository;
+    private final CarryOverBalanceService carryOverBalanceService;
     private final PeriodReportMapper periodReportMapper;
     private final TenantBaseCurrencyProvider tenantBaseCurrencyProvider;
+    private final ReportCache reportCache;
 
     public GeneratePeriodReportUseCase(
             FinancialEntryReportRepository reportRepository,
+            FinancialMonthlyRollupRepository rollupRepository,
+            CarryOverBalanceService carryOverBalanceService,
             PeriodReportMapper periodReportMapper,
-            TenantBaseCurrencyProvider tenantBaseCurrencyProvider
+            TenantBaseCurrencyProvider tenantBaseCurrencyProvider,
+            ReportCache reportCache
     ) {
         this.reportRepository = Objects.requireNonNull(reportRepository);
+        this.rollupRepository = Objects.requireNonNull(rollupRepository);
+        this.carryOverBalanceService = Objects.requireNonNull(carryOverBalanceService);
         this.periodReportMapper = Objects.requireNonNull(periodReportMapper);
         this.tenantBaseCurrencyProvider = Objects.requireNonNull(tenantBaseCurrencyProvider);
+        this.reportCache = Objects.requireNonNull(reportCache);
     }
 
     /**
@@ -65,17 +81,39 @@ public class GeneratePeriodReportUseCase {
 
         Period period = Period.of(startDate, endDate);
 
-        // Fetch carry-over balance: net of all approved entries before this period
-        BigDecimal carryOver = reportRepository.findCarryOverBalance(period.startDate(), EntryStatus.ACTUAL_STATUSES);
-
-        // Fetch data from database
-        List<FinancialEntryReportRepository.CategoryMonthBreakdownProjection> categoryBreakdowns =
-                reportRepository.findCategoryMonthBreakdownByPeriod(
-                        RecordType.EXPENSE, period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES
-                );
+        return reportCache.get(
+                ReportCache.ReportType.PERIOD_BREAKDOWN,
+                period.startDate(),
+                period.endDate(),
+                null,
+                null,
+                () -> generate(period)
+        );
+    }
 
-        List<FinancialEntryReportRepository.MonthlyTotalProjection> monthlyTotals =
-                reportRepository.findMonthlyTotals(period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES);
+    private PeriodBreakdownDto generate(Period period) {
+        // Fetch carry-over balance: net of all approved entries before this period
+        BigDecimal carryOver = carryOverBalanceService.getCarryOverBalance(period.startDate());
+
+        // Fetch data: rollup for whole months, raw entries for partial months
+        List<FinancialEntryReportRepository.CategoryMonthBreakdownProjection> categoryBreakdowns;
+        List<FinancialEntryReportRepository.MonthlyTotalProjection> monthlyTotals;
+
+        if (period.isMonthAligned()) {
+            categoryBreakdowns = rollupRepository.findCategoryMonthBreakdown(
+                    RecordType.EXPENSE, period.getStartMonth(), period.getEndMonth(), ReportingCategory.ACTUAL
+            );
+            monthlyTotals = rollupRepository.findMonthlyTotals(
+                    period.getStartMonth(), period.getEndMonth(), ReportingCategory.ACTUAL
+            );
+        } else {
+            categoryBreakdowns = reportRepository.findCategoryMonthBreakdownByPeriod(
+                    RecordType.EXPENSE, period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES
+            );
+            monthlyTotals = reportRepository.findMonthlyTotals(
+                    period.startDate(), period.endDate(), EntryStatus.ACTUAL_STATUSES
+            );
+        }
 
         // Build domain model
         String baseCurrency = tenantBaseCurrencyProvider.getCurrentTenantBaseCurrency();
@@ -1,14 +1,19 @@
 package com.marine.management.modules.finance.application.usecase;
 
+import com.marine.management.modules.finance.application.ReportCache;
+import com.marine.management.modules.finance.application.TenantFinancialYearProvider;
 import com.marine.management.modules.finance.application.dto.PivotTreeReportResponse;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.PivotRangeType;
 import com.marine.management.modules.finance.domain.enums.RecordType;
 import com.marine.management.modules.finance.domain.model.PivotReportProjection;
 import com.marine.management.modules.finance.domain.service.PivotReportBuilder;
+import com.marine.management.modules.finance.domain.vo.MonthRange;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,6 +23,10 @@ import java.util.Objects;
  * Produces hierarchical pivot view of financial data grouped by category,
  * subcategory, and who, with monthly breakdown.
  *
+ * <p>Columns are a month range: calendar year, financial year, rolling
+ * 12 months or a custom range up to {@link MonthRange#MAX_MONTHS} months.
+ * The whole range is fetched in one grouped query (year-month buckets).
+ *
  * <p>Flow:
  * <ol>
  *   <li>Fetch pivot projections from database (Infrastructure)</li>
@@ -32,13 +41,19 @@ public class GeneratePivotTreeUseCase {
 
     private final FinancialEntryReportRepository reportRepository;
     private final PivotReportBuilder pivotBuilder;
+    private final ReportCache reportCache;
+    private final TenantFinancialYearProvider financialYearProvider;
 
     public GeneratePivotTreeUseCase(
             FinancialEntryReportRepository reportRepository,
-            PivotReportBuilder pivotBuilder
+            PivotReportBuilder pivotBuilder,
+            ReportCache reportCache,
+            TenantFinancialYearProvider financialYearProvider
     ) {
         this.reportRepository = Objects.requireNonNull(reportRepository);
+        this.reportCache = Objects.requireNonNull(reportCache);
         this.pivotBuilder = Objects.requireNonNull(pivotBuilder);
+        this.financialYearProvider = Objects.requireNonNull(financialYearProvider);
     }
 
     /**
@@ -53,18 +68,79 @@ public class GeneratePivotTreeUseCase {
      */
     public PivotTreeReportResponse execute(int year, RecordType entryType, String currency) {
         validateYear(year);
+        return execute(MonthRange.ofCalendarYear(year), entryType, currency);
+    }
+
+    /**
+     * Generates pivot tree report over a month range.
+     *
+     * @param range Month range (max {@link MonthRange#MAX_MONTHS} months)
+     * @param entryType INCOME or EXPENSE (not null)
+     * @param currency Currency code, e.g., EUR, USD (not null)
+     * @return Pivot tree report with one column per month of the range
+     */
+    public PivotTreeReportResponse execute(MonthRange range, RecordType entryType, String currency) {
+        Objects.requireNonNull(range, "Month range cannot be null");
         Objects.requireNonNull(entryType, "Entry type cannot be null");
         Objects.requireNonNull(currency, "Currency cannot be null");
 
-        // Fetch pivot projections
+        return reportCache.get(
+                ReportCache.ReportType.PIVOT,
+                range.getStartDate(),
+                range.getEndDate(),
+                null,
+                entryType + ":" + currency,
+                () -> generate(range, entryType, currency)
+        );
+    }
+
+    /**
+     * Resolves the report columns from request parameters.
+     *
+     * @param type Range type; null = CUSTOM when from/to are given, else CALENDAR_YEAR
+     * @param year Calendar / financial year (start year); null = current
+     * @param from First month (CUSTOM only)
+     * @param to Last month (CUSTOM only)
+     * @throws IllegalArgumentException if the parameters do not form a valid range
+     */
+    public MonthRange resolveRange(PivotRangeType type, Integer year, YearMonth from, YearMonth to) {
+        PivotRangeType resolvedType = type != null
+                ? type
+                : (from != null || to != null ? PivotRangeType.CUSTOM : PivotRangeType.CALENDAR_YEAR);
+
+        return switch (resolvedType) {
+            case CALENDAR_YEAR -> {
+                int calendarYear = year != null ? year : YearMonth.now().getYear();
+                validateYear(calendarYear);
+                yield MonthRange.ofCalendarYear(calendarYear);
+            }
+            case FINANCIAL_YEAR -> {
+                int startMonth = financialYearProvider.getCurrentTenantFinancialYearStartMonth();
+                yield year != null
+                        ? MonthRange.ofFinancialYear(year, startMonth)
+                        : MonthRange.financialYearContaining(YearMonth.now(), startMonth);
+            }
+            case ROLLING_12_MONTHS -> MonthRange.rollingTwelveMonths(YearMonth.now());
+            case CUSTOM -> {
+                if (from == null || to == null) {
+                    throw new IllegalArgumentException("Custom pivot range requires both from and to months");
+                }
+                yield MonthRange.of(from, to);
+            }
+        };
+    }
+
+    private PivotTreeReportResponse generate(MonthRange range, RecordType entryType, String currency) {
+        // Fetch pivot projections — whole range in one grouped scan
         List<PivotReportProjection> projections = reportRepository.findPivotProjections(
                 entryType,
-                year,
+                range.getStartDate(),
+                range.getEndExclusive(),
                 EntryStatus.ACTUAL_STATUSES
         );
 
         // Build pivot tree structure
-        return pivotBuilder.buildPivotReport(year, currency, projections);
+        return pivotBuilder.buildPivotReport(range, currency, projections);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.marine.management.modules.finance.application.usecase;
 
+import com.marine.management.modules.finance.application.ReportCache;
 import com.marine.management.modules.finance.application.dto.TreeReportResponse;
 import com.marine.management.modules.finance.application.mapper.TreeReportMapper;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
@@ -32,13 +33,16 @@ public class GenerateTreeReportUseCase {
 
     private final FinancialEntryReportRepository reportRepository;
     private final TreeReportMapper treeReportMapper;
+    private final ReportCache reportCache;
 
     public GenerateTreeReportUseCase(
             FinancialEntryReportRepository reportRepository,
-            TreeReportMapper treeReportMapper
+            TreeReportMapper treeReportMapper,
+            ReportCache reportCache
     ) {
         this.reportRepository = reportRepository;
         this.treeReportMapper = treeReportMapper;
+        this.reportCache = reportCache;
     }
 
     /**
@@ -60,6 +64,17 @@ public class GenerateTreeReportUseCase {
         Objects.requireNonNull(recordType, "RecordType cannot be null");
         Objects.requireNonNull(currency, "Currency cannot be null");
 
+        return reportCache.get(
+                ReportCache.ReportType.TREE,
+                period.startDate(),
+                period.endDate(),
+                null,
+                recordType + ":" + currency,
+                () -> generate(period, recordType, currency)
+        );
+    }
+
+    private TreeReportResponse generate(Period period, RecordType recordType, String currency) {
         // Fetch projections from database
         List<TreeReportProjection> projections = reportRepository.findTreeProjections(
                 recordType,
@@ -33,6 +33,7 @@ import java.util.*;
  * Note: Permission checks are handled by EntryAccessPolicy in the service layer.
  */
 @Entity
+@EntityListeners(FinancialEntryReportingListener.class)
 @Audited
 @AuditOverrides({
         @AuditOverride(name = "version", isAudited = false),
@@ -180,6 +181,11 @@ public class FinancialEntry extends BaseTenantEntity {
     @Column(name = "receipt_number", length = 100)
     private String receiptNumber;
 
+    // Metin araması — DB generated kolon (V005), trigram index'li; sadece okunur
+    @NotAudited
+    @Column(name = "search_text", columnDefinition = "text", insertable = false, updatable = false)
+    private String searchText;
+
     // Exchange rate
     @Column(name = "exchange_rate", precision = 19, scale = 6)
     private BigDecimal exchangeRate;
@@ -207,6 +213,10 @@ public class FinancialEntry extends BaseTenantEntity {
     @OneToMany(mappedBy = "entry", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private List<EntryApproval> approvals = new ArrayList<>();
 
+    // Son yüklenen/yazılan haliyle rapor alanları — rapor cache invalidation için
+    @Transient
+    private ReportingState persistedReportingState;
+
     protected FinancialEntry() {}
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -569,9 +579,7 @@ public class FinancialEntry extends BaseTenantEntity {
                     baseCurrency
             );
 
-            this.baseAmount = this.originalAmount.convertUsing(rate, baseCurrency);
-            this.exchangeRate = rate;
-            this.exchangeRateDate = this.entryDate;
+            applyBaseRate(rate, baseCurrency);
 
         } catch (Exception e) {
             throw new ExchangeRateCalculationException(
@@ -580,6 +588,21 @@ public class FinancialEntry extends BaseTenantEntity {
         }
     }
 
+    /**
+     * Sets base amount from an already resolved original → base rate of the
+     * entry date. Batch path (CurrencyConversionService.resolveRates).
+     */
+    public void applyBaseRate(BigDecimal rate, String baseCurrency) {
+        Objects.requireNonNull(rate, "Exchange rate cannot be null");
+        Objects.requireNonNull(baseCurrency, "Base currency cannot be null");
+
+        this.baseAmount = this.originalAmount.isCurrency(baseCurrency)
+                ? this.originalAmount
+                : this.originalAmount.convertUsing(rate, baseCurrency);
+        this.exchangeRate = rate;
+        this.exchangeRateDate = this.entryDate;
+    }
+
     public void updateExchangeRate(BigDecimal rate, LocalDate rateDate) {
         if (rate == null || rate.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Exchange rate must be positive");
@@ -735,6 +758,55 @@ public class FinancialEntry extends BaseTenantEntity {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // REPORTING STATE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Report-relevant fields of an entry. Two states differing only in
+     * description, tags, receipt etc. are equal, so such edits do not
+     * invalidate cached reports.
+     */
+    public record ReportingState(
+            EntryStatus status,
+            RecordType entryType,
+            BigDecimal baseAmount,
+            LocalDate entryDate,
+            UUID categoryId,
+            UUID tenantMainCategoryId,
+            UUID tenantWhoId,
+            boolean deleted
+    ) {}
+
+    public ReportingState currentReportingState() {
+        return new ReportingState(
+                status,
+                entryType,
+                baseAmount != null ? baseAmount.getAmount() : null,
+                entryDate,
+                category != null ? category.getId() : null,
+                tenantMainCategory != null ? tenantMainCategory.getId() : null,
+                tenantWho != null ? tenantWho.getId() : null,
+                isDeleted()
+        );
+    }
+
+    /**
+     * State as last read from / written to the database; null for new entries.
+     */
+    public ReportingState persistedReportingState() {
+        return persistedReportingState;
+    }
+
+    // Entity listener callback'lerinden SONRA çalışır (JPA sırası),
+    // listener eski state'i görmüş olur.
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void capturePersistedReportingState() {
+        this.persistedReportingState = currentReportingState();
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // GETTERS
     // ═══════════════════════════════════════════════════════════════════════════
@@ -0,0 +1,95 @@
+package com.marine.management.modules.finance.domain.entities;
+
+import com.marine.management.modules.finance.domain.entities.FinancialEntry.ReportingState;
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.events.FinancialEntryReportingChangedEvent;
+import com.marine.management.modules.finance.domain.events.FinancialEntryStatusChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * JPA Entity Listener that publishes {@link FinancialEntryReportingChangedEvent}
+ * whenever a flushed change can alter report results.
+ *
+ * Entity seviyesinde dinlenir, böylece tüm yazma yolları (createEntry,
+ * approve, reject, recordPayment, softDelete, import ...) tek noktadan
+ * yakalanır. Açıklama/etiket gibi rapora girmeyen düzenlemeler event üretmez.
+ *
+ * Status (veya silinme) değiştiğinde ayrıca {@link FinancialEntryStatusChangedEvent}
+ * yayınlanır — pending sayaçları bunu dinler.
+ *
+ * Instantiated by Hibernate through Spring's bean container, so constructor
+ * injection works as for any other bean.
+ */
+public class FinancialEntryReportingListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FinancialEntryReportingListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void postPersist(FinancialEntry entry) {
+        publish(entry, null, entry.currentReportingState());
+        publishStatus(entry, null, statusOf(entry.currentReportingState()));
+    }
+
+    @PostUpdate
+    public void postUpdate(FinancialEntry entry) {
+        ReportingState before = entry.persistedReportingState();
+        ReportingState after = entry.currentReportingState();
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        publish(entry, before, after);
+        publishStatus(entry, statusOf(before), statusOf(after));
+    }
+
+    @PostRemove
+    public void postRemove(FinancialEntry entry) {
+        publish(entry, entry.persistedReportingState(), entry.currentReportingState());
+        publishStatus(entry, statusOf(entry.persistedReportingState()), null);
+    }
+
+    private void publish(FinancialEntry entry, ReportingState before, ReportingState after) {
+        Set<LocalDate> dates = new HashSet<>();
+        if (before != null && before.entryDate() != null) dates.add(before.entryDate());
+        if (after != null && after.entryDate() != null) dates.add(after.entryDate());
+        if (dates.isEmpty()) {
+            return;
+        }
+
+        eventPublisher.publishEvent(new FinancialEntryReportingChangedEvent(
+                entry.getTenantId(),
+                entry.getEntryId(),
+                dates
+        ));
+    }
+
+    private void publishStatus(FinancialEntry entry, EntryStatus before, EntryStatus after) {
+        if (before == after) {
+            return;
+        }
+
+        eventPublisher.publishEvent(new FinancialEntryStatusChangedEvent(
+                entry.getTenantId(),
+                entry.getEntryId(),
+                entry.getCreatedById(),
+                before,
+                after
+        ));
+    }
+
+    // Silinmiş entry sayılmaz — status'u yokmuş gibi
+    private static EntryStatus statusOf(ReportingState state) {
+        return state == null || state.deleted() ? null : state.status();
+    }
+}
@@ -0,0 +1,84 @@
+package com.marine.management.modules.finance.domain.entities;
+
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Monthly report rollup (read model).
+ *
+ * One row per (tenant, year, month, entry type, reporting category,
+ * category, main category, who) bucket, holding the base amount total
+ * and entry count of the matching financial entries.
+ *
+ * WRITE PATH:
+ * - Maintained exclusively by the financial_entries trigger (V003),
+ *   inside the same transaction as the entry change.
+ * - Application code never writes here — hence @Immutable.
+ *
+ * TENANT ISOLATION:
+ * - Not a BaseTenantEntity (no audit columns), but carries tenant_id
+ *   and the same tenantFilter so JPQL reads are tenant-scoped.
+ */
+@Entity
+@Immutable
+@Table(name = "financial_monthly_rollup")
+@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
+public class FinancialMonthlyRollup {
+
+    @Id
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "year", nullable = false)
+    private int year;
+
+    @Column(name = "month", nullable = false)
+    private int month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private RecordType entryType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reporting_category", nullable = false, length = 20)
+    private ReportingCategory reportingCategory;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private FinancialCategory category;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_main_category_id")
+    private TenantMainCategory tenantMainCategory;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_who_id")
+    private TenantWhoSelection tenantWho;
+
+    @Column(name = "total", nullable = false, precision = 19, scale = 4)
+    private BigDecimal total;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    protected FinancialMonthlyRollup() {}
+
+    public Long getId() { return id; }
+    public Long getTenantId() { return tenantId; }
+    public int getYear() { return year; }
+    public int getMonth() { return month; }
+    public RecordType getEntryType() { return entryType; }
+    public ReportingCategory getReportingCategory() { return reportingCategory; }
+    public FinancialCategory getCategory() { return category; }
+    public TenantMainCategory getTenantMainCategory() { return tenantMainCategory; }
+    public TenantWhoSelection getTenantWho() { return tenantWho; }
+    public BigDecimal getTotal() { return total; }
+    public long getEntryCount() { return entryCount; }
+}
@@ -12,6 +12,7 @@ import java.util.Objects;
  * - TenantMainCategory links tenants to these categories
  */
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "main_categories")
 public class MainCategory {
 
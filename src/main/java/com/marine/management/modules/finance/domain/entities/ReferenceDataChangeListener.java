@@ -0,0 +1,35 @@
+package com.marine.management.modules.finance.domain.entities;
+
+import com.marine.management.modules.finance.domain.events.ReferenceDataChangedEvent;
+import com.marine.management.modules.finance.domain.events.ReferenceDataChangedEvent.ReferenceType;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA Entity Listener that publishes {@link ReferenceDataChangedEvent}
+ * when a {@link MainCategory} or {@link Who} is updated.
+ *
+ * Adları raporlarda (tree / pivot / breakdown) görünür; entity seviyesinde
+ * dinlenir, böylece admin ekranı, seed veya başka bir yazma yolu fark etmez.
+ *
+ * Instantiated by Hibernate through Spring's bean container, so constructor
+ * injection works as for any other bean.
+ */
+public class ReferenceDataChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReferenceDataChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    public void postUpdate(Object entity) {
+        if (entity instanceof MainCategory mainCategory) {
+            eventPublisher.publishEvent(
+                    new ReferenceDataChangedEvent(ReferenceType.MAIN_CATEGORY, mainCategory.getId()));
+        } else if (entity instanceof Who who) {
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.WHO, who.getId()));
+        }
+    }
+}
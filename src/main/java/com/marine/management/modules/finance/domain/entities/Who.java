@@ -12,6 +12,7 @@ import java.util.Objects;
  * - TenantWhoSelection links tenants to these WHO entries
  */
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "who")
 public class Who {
 
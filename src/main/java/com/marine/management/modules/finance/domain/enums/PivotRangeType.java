@@ -0,0 +1,16 @@
+package com.marine.management.modules.finance.domain.enums;
+
+/**
+ * Column range of a pivot report.
+ *
+ *   CALENDAR_YEAR     → January .. December of the given year (default).
+ *   FINANCIAL_YEAR    → 12 months from the organization's financial year start month.
+ *   ROLLING_12_MONTHS → Last 12 months, current month included.
+ *   CUSTOM            → Explicit from / to months (e.g. 3-year comparison).
+ */
+public enum PivotRangeType {
+    CALENDAR_YEAR,
+    FINANCIAL_YEAR,
+    ROLLING_12_MONTHS,
+    CUSTOM
+}
@@ -0,0 +1,15 @@
+package com.marine.management.modules.finance.domain.events;
+
+import java.util.UUID;
+
+/**
+ * A background Excel import finished successfully (ImportJobRunner).
+ *
+ * importedCount is the number of entries written across all chunks.
+ */
+public record EntriesImportedEvent(
+        Long tenantId,
+        UUID jobId,
+        UUID importedById,
+        int importedCount
+) {}
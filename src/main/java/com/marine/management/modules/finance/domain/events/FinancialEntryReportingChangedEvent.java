@@ -0,0 +1,26 @@
+package com.marine.management.modules.finance.domain.events;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A financial entry changed in a way that can alter report results:
+ * it was created or removed, or its status, amount, date, category,
+ * main category, who or soft-delete flag changed.
+ *
+ * affectedDates holds the entry date before and after the change
+ * (a single date unless the entry was moved to another day).
+ *
+ * Bulk writes (JDBC import) publish one event per batch: entryId is null
+ * and affectedDates holds every entry date of the batch.
+ */
+public record FinancialEntryReportingChangedEvent(
+        Long tenantId,
+        UUID entryId,
+        Set<LocalDate> affectedDates
+) {
+    public FinancialEntryReportingChangedEvent {
+        affectedDates = Set.copyOf(affectedDates);
+    }
+}
@@ -0,0 +1,25 @@
+package com.marine.management.modules.finance.domain.events;
+
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+
+import java.util.UUID;
+
+/**
+ * A financial entry's workflow status changed, or the entry appeared
+ * (created / restored) or disappeared (soft or hard deleted).
+ *
+ * previousStatus is null for a new entry, newStatus is null for a deleted
+ * one. createdById never changes and lets consumers scope per creator
+ * (crew's own drafts).
+ *
+ * Published by FinancialEntryReportingListener, so only JPA writes produce
+ * it; the JDBC import path inserts PAID entries only, which no pending
+ * consumer counts.
+ */
+public record FinancialEntryStatusChangedEvent(
+        Long tenantId,
+        UUID entryId,
+        UUID createdById,
+        EntryStatus previousStatus,
+        EntryStatus newStatus
+) {}
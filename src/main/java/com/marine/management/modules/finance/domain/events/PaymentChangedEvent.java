@@ -0,0 +1,18 @@
+package com.marine.management.modules.finance.domain.events;
+
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+
+import java.util.UUID;
+
+/**
+ * A payment of an entry was recorded or reversed (PaymentService).
+ *
+ * entryStatus is the entry's status after the change (APPROVED,
+ * PARTIALLY_PAID or PAID); createdById is the entry's creator.
+ */
+public record PaymentChangedEvent(
+        Long tenantId,
+        UUID entryId,
+        UUID createdById,
+        EntryStatus entryStatus
+) {}
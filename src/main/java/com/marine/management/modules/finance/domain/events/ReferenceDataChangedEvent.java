@@ -0,0 +1,18 @@
+package com.marine.management.modules.finance.domain.events;
+
+/**
+ * Global reference data shown in reports changed: a main category or who
+ * was renamed or reclassified (technical flag).
+ *
+ * Main categories and whos are shared by every tenant (TenantMainCategory /
+ * TenantWhoSelection only link to them), so the change affects all tenants.
+ */
+public record ReferenceDataChangedEvent(
+        ReferenceType referenceType,
+        Long referenceId
+) {
+    public enum ReferenceType {
+        MAIN_CATEGORY,
+        WHO
+    }
+}
@@ -0,0 +1,31 @@
+package com.marine.management.modules.finance.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Common shape of flat report rows grouped as
+ * Main Category → Category → Who.
+ *
+ * Implemented by {@link TreeReportProjection} and {@link PivotReportProjection}
+ * so both reports share one aggregation pass.
+ */
+public interface HierarchyRow {
+
+    Long mainCategoryId();
+    String mainCategoryNameTr();
+    String mainCategoryNameEn();
+    Boolean mainCategoryTechnical();
+
+    UUID categoryId();
+    String categoryName();
+    String categoryNameEn();
+    Boolean categoryTechnical();
+
+    Long whoId();
+    String whoNameTr();
+    String whoNameEn();
+    Boolean whoTechnical();
+
+    BigDecimal totalAmount();
+}
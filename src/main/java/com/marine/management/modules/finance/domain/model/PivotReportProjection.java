@@ -4,7 +4,8 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
- * Projection for pivot report - monthly breakdown
+ * Projection for pivot report - monthly breakdown.
+ * One row per hierarchy node and year-month bucket.
  */
 public record PivotReportProjection(
         Long mainCategoryId,
@@ -19,6 +20,7 @@ public record PivotReportProjection(
         String whoNameTr,
         String whoNameEn,
         Boolean whoTechnical,
+        Integer year,
         Integer month,
         BigDecimal totalAmount
-) {}
+) implements HierarchyRow {}
@@ -21,4 +21,4 @@ public record TreeReportProjection(
         String whoNameEn,
         Boolean whoTechnical,
         BigDecimal totalAmount
-) {}
\ No newline at end of file
+) implements HierarchyRow {}
\ No newline at end of file
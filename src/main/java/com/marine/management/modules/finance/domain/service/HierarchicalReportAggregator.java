@@ -0,0 +1,319 @@
+package com.marine.management.modules.finance.domain.service;
+
+import com.marine.management.modules.finance.application.dto.PivotTreeNodeDTO;
+import com.marine.management.modules.finance.application.dto.TreeNodeDTO;
+import com.marine.management.modules.finance.domain.enums.NodeType;
+import com.marine.management.modules.finance.domain.model.HierarchyRow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+import static com.marine.management.modules.finance.domain.service.TreeReportConstants.*;
+
+/**
+ * Single-pass aggregation shared by the tree and pivot reports.
+ *
+ * <p>Projections are folded once into a node × column cube:
+ * <pre>
+ * Main Category
+ *   └─ Category
+ *       └─ Who
+ * </pre>
+ * Each row is added to its who, category and main category cells and to the
+ * column totals while it is read, so no level re-streams or re-sums the rows
+ * of its children. Columns are plain int indexes (months of the pivot, a
+ * single column for the tree); column keys are resolved once per report.
+ *
+ * <p>Nodes keep first-seen order; the tree shape sorts by amount when emitted.
+ */
+public final class HierarchicalReportAggregator {
+
+    private static final String TOTAL_KEY = "TOTAL";
+
+    private final int columnCount;
+    private final Map<Long, Node> mainCategories = new LinkedHashMap<>();
+    private final BigDecimal[] columnTotals;
+    private BigDecimal grandTotal = BigDecimal.ZERO;
+
+    private HierarchicalReportAggregator(int columnCount) {
+        this.columnCount = columnCount;
+        this.columnTotals = new BigDecimal[columnCount];
+    }
+
+    /**
+     * Folds the rows into a cube with the given number of columns.
+     *
+     * @param columnOf maps a row to its column index (0 .. columnCount-1)
+     */
+    public static <R extends HierarchyRow> HierarchicalReportAggregator aggregate(
+            List<R> rows,
+            int columnCount,
+            ToIntFunction<? super R> columnOf
+    ) {
+        Objects.requireNonNull(rows, "Projections cannot be null - this indicates a bug");
+
+        HierarchicalReportAggregator cube = new HierarchicalReportAggregator(columnCount);
+        for (R row : rows) {
+            cube.add(row, columnOf.applyAsInt(row));
+        }
+        return cube;
+    }
+
+    /**
+     * Single-column cube for reports without a time axis (tree report).
+     */
+    public static <R extends HierarchyRow> HierarchicalReportAggregator aggregate(List<R> rows) {
+        return aggregate(rows, 1, row -> 0);
+    }
+
+    // ========== Fold ==========
+
+    private void add(HierarchyRow row, int column) {
+        if (column < 0 || column >= columnCount) {
+            throw new IllegalArgumentException("Column out of range: " + column);
+        }
+        BigDecimal amount = row.totalAmount();
+
+        Long mainCatId = row.mainCategoryId() != null ? row.mainCategoryId() : UNASSIGNED_ID;
+        Node mainCat = mainCategories.get(mainCatId);
+        if (mainCat == null) {
+            mainCat = new Node(mainCatId.toString(), columnCount,
+                    row.mainCategoryNameTr(), row.mainCategoryNameEn(), row.mainCategoryTechnical());
+            mainCategories.put(mainCatId, mainCat);
+        }
+
+        Node category = mainCat.children.get(row.categoryId());
+        if (category == null) {
+            category = new Node(row.categoryId().toString(), columnCount,
+                    row.categoryName(),
+                    row.categoryNameEn() != null ? row.categoryNameEn() : row.categoryName(),
+                    row.categoryTechnical());
+            mainCat.children.put(row.categoryId(), category);
+        }
+
+        Long whoId = row.whoId() != null ? row.whoId() : UNASSIGNED_ID;
+        Node who = category.children.get(whoId);
+        if (who == null) {
+            who = new Node(whoId.toString(), columnCount,
+                    row.whoNameTr(), row.whoNameEn(), row.whoTechnical());
+            category.children.put(whoId, who);
+        }
+
+        who.add(column, amount);
+        category.add(column, amount);
+        mainCat.add(column, amount);
+
+        columnTotals[column] = columnTotals[column] == null ? amount : columnTotals[column].add(amount);
+        grandTotal = grandTotal.add(amount);
+    }
+
+    // ========== Tree Shape ==========
+
+    /**
+     * Emits the tree report shape: amounts, percentage of parent, sorted by amount descending.
+     */
+    public List<TreeNodeDTO> toTree() {
+        if (mainCategories.isEmpty()) {
+            return Collections.emptyList(); // Empty result is valid (no data for period)
+        }
+
+        List<TreeNodeDTO> nodes = new ArrayList<>(mainCategories.size());
+        for (Node mainCat : mainCategories.values()) {
+            List<TreeNodeDTO> categoryChildren = new ArrayList<>(mainCat.children.size());
+            for (Node category : mainCat.children.values()) {
+                categoryChildren.add(toCategoryTreeNode(category, mainCat.total));
+            }
+            sortByAmount(categoryChildren);
+
+            BigDecimal percentage = calculatePercentage(mainCat.total, grandTotal);
+            nodes.add(mainCat.isUnassigned()
+                    ? TreeNodeDTO.unassignedMainCategory(mainCat.total, percentage, categoryChildren)
+                    : new TreeNodeDTO(
+                            NodeType.MAIN_CATEGORY.getLevel(),
+                            NodeType.MAIN_CATEGORY.getTypeName(),
+                            mainCat.id,
+                            mainCat.name,
+                            mainCat.nameEn,
+                            mainCat.total,
+                            percentage,
+                            mainCat.technical,
+                            categoryChildren.size(),
+                            categoryChildren
+                    ));
+        }
+        sortByAmount(nodes);
+        return nodes;
+    }
+
+    private TreeNodeDTO toCategoryTreeNode(Node category, BigDecimal parentTotal) {
+        List<TreeNodeDTO> whoChildren = new ArrayList<>(category.children.size());
+        for (Node who : category.children.values()) {
+            BigDecimal percentage = calculatePercentage(who.total, category.total);
+            whoChildren.add(who.isUnassigned()
+                    ? TreeNodeDTO.unspecifiedWho(who.total, percentage)
+                    : new TreeNodeDTO(
+                            NodeType.WHO.getLevel(),
+                            NodeType.WHO.getTypeName(),
+                            who.id,
+                            who.name,
+                            who.nameEn,
+                            who.total,
+                            percentage,
+                            who.technical,
+                            0,
+                            Collections.emptyList()
+                    ));
+        }
+        sortByAmount(whoChildren);
+
+        return new TreeNodeDTO(
+                NodeType.CATEGORY.getLevel(),
+                NodeType.CATEGORY.getTypeName(),
+                category.id,
+                category.name,
+                category.nameEn,
+                category.total,
+                calculatePercentage(category.total, parentTotal),
+                category.technical,
+                whoChildren.size(),
+                whoChildren
+        );
+    }
+
+    // ========== Pivot Shape ==========
+
+    /**
+     * Emits the pivot rows. Each node's values hold the non-empty columns plus "TOTAL".
+     *
+     * @param columnKeys key of each column index (e.g. "2025-01")
+     */
+    public List<PivotTreeNodeDTO> toPivotRows(List<String> columnKeys) {
+        requireColumnKeys(columnKeys);
+
+        List<PivotTreeNodeDTO> rows = new ArrayList<>(mainCategories.size());
+        for (Node mainCat : mainCategories.values()) {
+            List<PivotTreeNodeDTO> categoryChildren = new ArrayList<>(mainCat.children.size());
+            for (Node category : mainCat.children.values()) {
+                List<PivotTreeNodeDTO> whoChildren = new ArrayList<>(category.children.size());
+                for (Node who : category.children.values()) {
+                    whoChildren.add(who.isUnassigned()
+                            ? pivotNode(who, 3, "WHO", WHO_UNSPECIFIED_EN, WHO_UNSPECIFIED_EN, null, columnKeys, List.of())
+                            : pivotNode(who, 3, "WHO", who.name, who.nameEn, who.technical, columnKeys, List.of()));
+                }
+                categoryChildren.add(pivotNode(category, 2, "CATEGORY",
+                        category.name, category.nameEn, category.technical, columnKeys, whoChildren));
+            }
+            rows.add(mainCat.isUnassigned()
+                    ? pivotNode(mainCat, 1, "MAIN_CATEGORY",
+                            UNASSIGNED_LABEL_EN, UNASSIGNED_LABEL_EN, null, columnKeys, categoryChildren)
+                    : pivotNode(mainCat, 1, "MAIN_CATEGORY",
+                            mainCat.name, mainCat.nameEn, mainCat.technical, columnKeys, categoryChildren));
+        }
+        return rows;
+    }
+
+    /**
+     * Column totals keyed like the pivot rows, plus the grand total under "TOTAL".
+     */
+    public Map<String, BigDecimal> columnTotals(List<String> columnKeys) {
+        requireColumnKeys(columnKeys);
+        return toKeyedValues(columnTotals, grandTotal, columnKeys);
+    }
+
+    public BigDecimal grandTotal() {
+        return grandTotal;
+    }
+
+    private PivotTreeNodeDTO pivotNode(
+            Node node,
+            int level,
+            String type,
+            String name,
+            String nameEn,
+            Boolean technical,
+            List<String> columnKeys,
+            List<PivotTreeNodeDTO> children
+    ) {
+        return new PivotTreeNodeDTO(
+                node.id,
+                level,
+                type,
+                name,
+                nameEn,
+                technical,
+                toKeyedValues(node.values, node.total, columnKeys),
+                children
+        );
+    }
+
+    private static Map<String, BigDecimal> toKeyedValues(
+            BigDecimal[] values,
+            BigDecimal total,
+            List<String> columnKeys
+    ) {
+        Map<String, BigDecimal> keyed = new HashMap<>();
+        for (int column = 0; column < values.length; column++) {
+            if (values[column] != null) {
+                keyed.put(columnKeys.get(column), values[column]);
+            }
+        }
+        keyed.put(TOTAL_KEY, total);
+        return keyed;
+    }
+
+    private void requireColumnKeys(List<String> columnKeys) {
+        if (columnKeys.size() != columnCount) {
+            throw new IllegalArgumentException(
+                    "Expected " + columnCount + " column keys but got " + columnKeys.size());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private static void sortByAmount(List<TreeNodeDTO> nodes) {
+        nodes.sort(Comparator.comparing(TreeNodeDTO::amount).reversed());
+    }
+
+    private static BigDecimal calculatePercentage(BigDecimal amount, BigDecimal total) {
+        if (total.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return amount
+                .divide(total, PERCENTAGE_DIVISION_SCALE, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(PERCENTAGE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * One cube row: a hierarchy node with its per-column cells and running total.
+     * Labels come from the first projection that reached the node.
+     */
+    private static final class Node {
+        final String id;
+        final String name;
+        final String nameEn;
+        final Boolean technical;
+        final BigDecimal[] values;
+        final Map<Object, Node> children = new LinkedHashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+
+        Node(String id, int columnCount, String name, String nameEn, Boolean technical) {
+            this.id = id;
+            this.name = name;
+            this.nameEn = nameEn;
+            this.technical = technical;
+            this.values = new BigDecimal[columnCount];
+        }
+
+        void add(int column, BigDecimal amount) {
+            values[column] = values[column] == null ? amount : values[column].add(amount);
+            total = total.add(amount);
+        }
+
+        boolean isUnassigned() {
+            return UNASSIGNED_ID.toString().equals(id);
+        }
+    }
+}
@@ -28,7 +28,10 @@ public class EntryNumber {
     }
 
     public static EntryNumber generate(int sequenceNumber) {
-        int year = Year.now().getValue();
+        return generate(Year.now().getValue(), sequenceNumber);
+    }
+
+    public static EntryNumber generate(int year, int sequenceNumber) {
         String formatted = String.format("FE-%04d-%04d", year, sequenceNumber);
         return new EntryNumber(formatted);
     }
@@ -0,0 +1,136 @@
+package com.marine.management.modules.finance.domain.vo;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Inclusive range of whole months, used as the column axis of pivot reports.
+ *
+ * Examples:
+ * - Calendar year: 2025-01 .. 2025-12
+ * - Financial year (start month 4): 2025-04 .. 2026-03
+ * - Rolling 12 months: (current - 11) .. current
+ * - 3-year comparison: 2023-01 .. 2025-12
+ */
+public record MonthRange(YearMonth start, YearMonth end) {
+
+    public static final int MIN_YEAR = 2000;
+    public static final int MAX_MONTHS = 36;
+
+    private static final DateTimeFormatter COLUMN_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    public MonthRange {
+        validateRange(start, end);
+    }
+
+    public static MonthRange of(YearMonth start, YearMonth end) {
+        return new MonthRange(start, end);
+    }
+
+    public static MonthRange ofCalendarYear(int year) {
+        return new MonthRange(YearMonth.of(year, 1), YearMonth.of(year, 12));
+    }
+
+    /**
+     * Financial year that starts in {@code startMonth} of {@code year}.
+     */
+    public static MonthRange ofFinancialYear(int year, int startMonth) {
+        YearMonth start = YearMonth.of(year, startMonth);
+        return new MonthRange(start, start.plusMonths(11));
+    }
+
+    /**
+     * Financial year (by start month) that contains the given month.
+     */
+    public static MonthRange financialYearContaining(YearMonth month, int startMonth) {
+        int startYear = month.getMonthValue() >= startMonth ? month.getYear() : month.getYear() - 1;
+        return ofFinancialYear(startYear, startMonth);
+    }
+
+    /**
+     * Last twelve months, the given month included.
+     */
+    public static MonthRange rollingTwelveMonths(YearMonth current) {
+        return new MonthRange(current.minusMonths(11), current);
+    }
+
+    public int getMonthCount() {
+        return indexOf(end) + 1;
+    }
+
+    /**
+     * Zero-based column index of the month, -1 when outside the range.
+     */
+    public int indexOf(int year, int month) {
+        int index = (year - start.getYear()) * 12 + (month - start.getMonthValue());
+        return index >= 0 && index < getMonthCount() ? index : -1;
+    }
+
+    public int indexOf(YearMonth month) {
+        return (month.getYear() - start.getYear()) * 12 + (month.getMonthValue() - start.getMonthValue());
+    }
+
+    public LocalDate getStartDate() {
+        return start.atDay(1);
+    }
+
+    public LocalDate getEndDate() {
+        return end.atEndOfMonth();
+    }
+
+    /**
+     * First day after the range — upper bound of the half-open [start, endExclusive) filter.
+     */
+    public LocalDate getEndExclusive() {
+        return end.plusMonths(1).atDay(1);
+    }
+
+    public boolean isCalendarYear() {
+        return start.getMonthValue() == 1 && end.equals(YearMonth.of(start.getYear(), 12));
+    }
+
+    /**
+     * Column keys in order ("yyyy-MM"), one per month.
+     */
+    public List<String> columnKeys() {
+        List<String> keys = new ArrayList<>(getMonthCount());
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            keys.add(month.format(COLUMN_FORMAT));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    private static void validateRange(YearMonth start, YearMonth end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Month range cannot be null");
+        }
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start month must be before or equal to end month");
+        }
+        if (start.getYear() < MIN_YEAR) {
+            throw new IllegalArgumentException(
+                    String.format("Start month cannot be before %d-01, got: %s", MIN_YEAR, start)
+            );
+        }
+
+        // Tek sorguda en fazla 3 yıllık karşılaştırma
+        long months = (end.getYear() - start.getYear()) * 12L + (end.getMonthValue() - start.getMonthValue()) + 1;
+        if (months > MAX_MONTHS) {
+            throw new IllegalArgumentException(
+                    String.format("Month range cannot exceed %d months, got: %d", MAX_MONTHS, months)
+            );
+        }
+
+        YearMonth latest = YearMonth.now().plusYears(1);
+        if (end.isAfter(latest)) {
+            throw new IllegalArgumentException(
+                    String.format("End month cannot be more than 1 year in the future (after %s)", latest)
+            );
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.marine.management.modules.finance.domain.vo;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
@@ -89,6 +90,21 @@ public record Period(LocalDate startDate, LocalDate endDate) {
                 endDate.getDayOfYear() == endDate.lengthOfYear();
     }
 
+    // Ay sınırlarına oturuyor mu? (ayın 1'i → ayın son günü; birden fazla ay olabilir)
+    // Aylık rollup yalnızca bu durumda ham kayıtların yerine kullanılabilir.
+    public boolean isMonthAligned() {
+        return startDate.getDayOfMonth() == 1 &&
+                endDate.getDayOfMonth() == endDate.lengthOfMonth();
+    }
+
+    public YearMonth getStartMonth() {
+        return YearMonth.from(startDate);
+    }
+
+    public YearMonth getEndMonth() {
+        return YearMonth.from(endDate);
+    }
+
     public boolean isFullQuarter() { // ✨ YENİ
         int startMonth = startDate.getMonthValue();
         int endMonth = endDate.getMonthValue();
@@ -0,0 +1,177 @@
+package com.marine.management.modules.finance.infrastructure;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * FinancialEntry revizyon okuyucusu — financial_entries_aud üzerinden JDBC.
+ *
+ * Neden AuditReader değil?
+ * forRevisionsOfEntity her revizyonu tam FinancialEntry snapshot'ı olarak
+ * kurar; category / tenantWho / tenantMainCategory adları her revizyon
+ * çifti için ayrı lazy load ile gelir (N+1). Burada:
+ *   - yalnızca timeline'ın karşılaştırdığı audit kolonları okunur
+ *   - revinfo (zaman, kullanıcı) aynı sorguda join edilir
+ *   - referans adları tek sorguda toplu çözülür (findReferenceNames)
+ *   - sayfalama rev üzerinden keyset: rev < :beforeRev ORDER BY rev DESC
+ *     (idx_financial_entries_aud_id_rev_desc)
+ *
+ * Audit tablosunda tenant_id yok; çağıran entry'yi tenant filtresi ve
+ * EntryAccessPolicy ile doğrulamış olmalıdır.
+ */
+@Repository
+public class EntryRevisionReader {
+
+    public static final short REVTYPE_ADD = 0;
+    public static final short REVTYPE_MOD = 1;
+    public static final short REVTYPE_DEL = 2;
+
+    private static final String SELECT_REVISIONS = """
+            SELECT a.rev, a.revtype, r.revtstmp, r.username, r.user_display_name,
+                   a.entry_type,
+                   a.original_amount, a.original_currency, a.base_amount, a.base_currency,
+                   a.approved_base_amount, a.approved_base_currency,
+                   a.paid_base_amount, a.paid_base_currency,
+                   a.entry_date, a.payment_method, a.receipt_number,
+                   a.category_id, a.tenant_who_id, a.tenant_main_category_id
+            FROM financial_entries_aud a
+            JOIN revinfo r ON r.rev = a.rev
+            WHERE a.id = :entryId
+            """;
+
+    /**
+     * Kategori, who ve ana kategori adları tek round-trip'te.
+     * Silinmiş (soft delete) referanslar da dahil — geçmiş eski adı göstermeli.
+     */
+    private static final String SELECT_REFERENCE_NAMES = """
+            SELECT c.id, c.name
+            FROM financial_categories c
+            WHERE c.id IN (:ids)
+            UNION ALL
+            SELECT tw.id, w.name_en
+            FROM tenant_who_selections tw
+            JOIN who w ON w.id = tw.who_id
+            WHERE tw.id IN (:ids)
+            UNION ALL
+            SELECT tm.id, m.name_en
+            FROM tenant_main_categories tm
+            JOIN main_categories m ON m.id = tm.main_category_id
+            WHERE tm.id IN (:ids)
+            """;
+
+    private static final RowMapper<RevisionRow> REVISION_ROW_MAPPER = (rs, rowNum) -> new RevisionRow(
+            rs.getInt("rev"),
+            rs.getShort("revtype"),
+            rs.getLong("revtstmp"),
+            rs.getString("username"),
+            rs.getString("user_display_name"),
+            rs.getString("entry_type"),
+            rs.getBigDecimal("original_amount"),
+            rs.getString("original_currency"),
+            rs.getBigDecimal("base_amount"),
+            rs.getString("base_currency"),
+            rs.getBigDecimal("approved_base_amount"),
+            rs.getString("approved_base_currency"),
+            rs.getBigDecimal("paid_base_amount"),
+            rs.getString("paid_base_currency"),
+            toLocalDate(rs.getDate("entry_date")),
+            rs.getString("payment_method"),
+            rs.getString("receipt_number"),
+            rs.getObject("category_id", UUID.class),
+            rs.getObject("tenant_who_id", UUID.class),
+            rs.getObject("tenant_main_category_id", UUID.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EntryRevisionReader(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * One audit row of an entry with its revision metadata.
+     * Enum columns stay as their stored names.
+     */
+    public record RevisionRow(
+            int revision,
+            short revisionType,
+            long timestamp,
+            String username,
+            String userDisplayName,
+            String entryType,
+            BigDecimal originalAmount,
+            String originalCurrency,
+            BigDecimal baseAmount,
+            String baseCurrency,
+            BigDecimal approvedBaseAmount,
+            String approvedBaseCurrency,
+            BigDecimal paidBaseAmount,
+            String paidBaseCurrency,
+            LocalDate entryDate,
+            String paymentMethod,
+            String receiptNumber,
+            UUID categoryId,
+            UUID tenantWhoId,
+            UUID tenantMainCategoryId
+    ) {}
+
+    /**
+     * All revisions of the entry, oldest first.
+     */
+    public List<RevisionRow> findAll(UUID entryId) {
+        return jdbcTemplate.query(
+                SELECT_REVISIONS + " ORDER BY a.rev ASC",
+                new MapSqlParameterSource("entryId", entryId),
+                REVISION_ROW_MAPPER
+        );
+    }
+
+    /**
+     * Up to {@code limit} revisions older than {@code beforeRevision}
+     * (all when null), newest first.
+     */
+    public List<RevisionRow> findPage(UUID entryId, Integer beforeRevision, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("entryId", entryId)
+                .addValue("limit", limit);
+
+        String sql = SELECT_REVISIONS;
+        if (beforeRevision != null) {
+            sql += " AND a.rev < :beforeRev";
+            params.addValue("beforeRev", beforeRevision);
+        }
+
+        return jdbcTemplate.query(sql + " ORDER BY a.rev DESC LIMIT :limit", params, REVISION_ROW_MAPPER);
+    }
+
+    /**
+     * Display names of category / tenant who / tenant main category ids.
+     * Ids not found are absent from the map.
+     */
+    public Map<UUID, String> findReferenceNames(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, String> names = new HashMap<>();
+        jdbcTemplate.query(SELECT_REFERENCE_NAMES, new MapSqlParameterSource("ids", ids), rs -> {
+            names.put(rs.getObject(1, UUID.class), rs.getString(2));
+        });
+        return names;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
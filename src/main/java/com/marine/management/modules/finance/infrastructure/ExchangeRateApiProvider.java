@@ -0,0 +1,69 @@
+package com.marine.management.modules.finance.infrastructure;
+
+import com.marine.management.modules.finance.application.ExchangeRateProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ExchangeRate-API provider (free, no API key).
+ *
+ * The endpoint only serves the latest rates — the requested date is the
+ * date the rates are stored under.
+ */
+@Component
+@ConditionalOnProperty(name = "app.fx.provider", havingValue = "api", matchIfMissing = true)
+public class ExchangeRateApiProvider implements ExchangeRateProvider {
+
+    private static final String API_URL = "https://api.exchangerate-api.com/v4/latest/EUR";
+
+    private final RestTemplate restTemplate;
+
+    public ExchangeRateApiProvider(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    @Override
+    public Map<String, BigDecimal> fetchBaseRates(LocalDate date, Set<String> currencies) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> response = restTemplate.getForObject(API_URL, Map.class);
+
+        if (response == null || !response.containsKey("rates")) {
+            throw new IllegalStateException("Invalid API response");
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> rates = (Map<String, Object>) response.get("rates");
+
+        Map<String, BigDecimal> result = new HashMap<>();
+        for (String currency : currencies) {
+            Object rateObj = rates.get(currency);
+            if (rateObj != null) {
+                result.put(currency, toBigDecimal(rateObj));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String sourceName() {
+        return "ExchangeRate-API";
+    }
+
+    // Get rate as number (can be Integer or Double)
+    private static BigDecimal toBigDecimal(Object rateObj) {
+        if (rateObj instanceof Integer value) {
+            return new BigDecimal(value);
+        }
+        if (rateObj instanceof Double value) {
+            return BigDecimal.valueOf(value);
+        }
+        return new BigDecimal(rateObj.toString());
+    }
+}
@@ -24,8 +24,17 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long
             String toCurrency
     );
 
+    // En yakın önceki kur (hafta sonu / tatil / henüz prefetch edilmemiş gün)
+    Optional<ExchangeRate> findFirstByFromCurrencyAndToCurrencyAndDateLessThanEqualOrderByDateDesc(
+            String fromCurrency,
+            String toCurrency,
+            LocalDate date
+    );
+
     List<ExchangeRate> findByDate(LocalDate date);
 
+    List<ExchangeRate> findByDateBetween(LocalDate start, LocalDate end);
+
     @Query("SELECT e FROM ExchangeRate e WHERE e.date = :date AND e.fromCurrency = 'EUR' AND e.base = true")
     List<ExchangeRate> findBaseRatesByDate(LocalDate date);
 
@@ -0,0 +1,119 @@
+package com.marine.management.modules.finance.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kapanmış aylar için kümülatif bakiye checkpoint'leri (V004).
+ *
+ * Checkpoint'ler DB trigger'ı tarafından geçersiz kılınır (silinir);
+ * bu sınıf yalnızca okur ve yeni checkpoint yazar.
+ *
+ * Neden JdbcTemplate?
+ * Tablolar tenant_id'yi açıkça taşıyan basit anahtar-değer tablolarıdır;
+ * yazma tarafı FOR UPDATE + koşullu INSERT gerektirir.
+ * TenantEntryCounterRepository ile aynı yaklaşım.
+ */
+@Repository
+public class FinancialBalanceCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FinancialBalanceCheckpointRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record BalanceCheckpoint(YearMonth month, BigDecimal closingBalance) {}
+
+    /**
+     * Geçersiz kılma versiyonu. Rollup okunmadan ÖNCE alınmalı ve
+     * {@link #saveIfUnchanged} çağrısına aynen verilmelidir.
+     *
+     * @return mevcut versiyon (hiç geçersiz kılma olmadıysa 0)
+     */
+    public long currentVersion(Long tenantId) {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM financial_balance_checkpoint_version WHERE tenant_id = ?",
+                Long.class,
+                tenantId
+        );
+        return versions.isEmpty() ? 0L : versions.get(0);
+    }
+
+    /**
+     * Verilen aya eşit veya ondan önceki en son checkpoint.
+     */
+    public Optional<BalanceCheckpoint> findLatestAtOrBefore(Long tenantId, YearMonth month) {
+        List<BalanceCheckpoint> result = jdbcTemplate.query(
+                """
+                SELECT year, month, closing_balance
+                FROM financial_balance_checkpoint
+                WHERE tenant_id = ?
+                  AND year * 100 + month <= ?
+                ORDER BY year DESC, month DESC
+                LIMIT 1
+                """,
+                (rs, rowNum) -> new BalanceCheckpoint(
+                        YearMonth.of(rs.getInt("year"), rs.getInt("month")),
+                        rs.getBigDecimal("closing_balance")
+                ),
+                tenantId,
+                FinancialMonthlyRollupRepository.monthKey(month)
+        );
+        return result.stream().findFirst();
+    }
+
+    /**
+     * Checkpoint'i yalnızca hesaplama sırasında okunan versiyon hâlâ
+     * geçerliyse yazar.
+     *
+     * Versiyon satırı FOR UPDATE ile kilitlenir: eşzamanlı bir geriye
+     * tarihli değişiklik commit olmadıysa burada bekler, commit olduysa
+     * versiyon farklı olacağından eski bakiye yazılmaz.
+     *
+     * Rapor transaction'ı commit olduktan sonra BalanceCheckpointWriter
+     * tarafından kendi transaction'ında çağrılır — rapor isteği ikinci bir
+     * bağlantı tutmaz.
+     *
+     * @return checkpoint yazıldıysa true
+     */
+    @Transactional
+    public boolean saveIfUnchanged(Long tenantId, YearMonth month, BigDecimal closingBalance, long expectedVersion) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO financial_balance_checkpoint_version (tenant_id, version)
+                VALUES (?, 0)
+                ON CONFLICT (tenant_id) DO NOTHING
+                """,
+                tenantId
+        );
+
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM financial_balance_checkpoint_version WHERE tenant_id = ? FOR UPDATE",
+                Long.class,
+                tenantId
+        );
+        if (version == null || version != expectedVersion) {
+            return false;
+        }
+
+        int inserted = jdbcTemplate.update(
+                """
+                INSERT INTO financial_balance_checkpoint (tenant_id, year, month, closing_balance)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (tenant_id, year, month) DO NOTHING
+                """,
+                tenantId,
+                month.getYear(),
+                month.getMonthValue(),
+                closingBalance
+        );
+        return inserted > 0;
+    }
+}
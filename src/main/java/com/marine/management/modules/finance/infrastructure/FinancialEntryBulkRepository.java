@@ -0,0 +1,287 @@
+package com.marine.management.modules.finance.infrastructure;
+
+import com.marine.management.modules.finance.domain.entities.FinancialEntry;
+import com.marine.management.modules.finance.domain.entities.Payment;
+import com.marine.management.modules.finance.domain.vo.Money;
+import com.marine.management.modules.users.domain.User;
+import org.slf4j.MDC;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JDBC batch insert yolu — toplu içe aktarma (Excel import) için.
+ *
+ * Neden JPA değil?
+ * save() her kayıt için entity lifecycle, dirty-check ve ayrı Envers
+ * audit insert'i çalıştırır; persistence context kayıt sayısıyla büyür.
+ * Burada domain nesneleri yine FinancialEntry.create / addPayment ile
+ * kurulur (tüm validasyon domain'de kalır), ama yazma tek bir JDBC
+ * batch'i ile yapılır:
+ *   - financial_entries  → tek batch
+ *   - payments           → tek batch
+ *   - revinfo            → çağrı başına TEK revizyon (source = BATCH)
+ *   - financial_entries_aud → tek batch (revtype = 0 / ADD)
+ *
+ * Entity'ler persist edilmez (managed değil) — JPA listener'ları çalışmaz:
+ * - tenant_id, created_by, zaman damgaları burada yazılır
+ * - FinancialEntryReportingListener event'i ÇAĞIRAN tarafından yayınlanır
+ * - financial_monthly_rollup DB trigger'ı ile güncellenir (JDBC dahil)
+ *
+ * Postgres sürücüsü reWriteBatchedInserts=true ile batch'i çok satırlı
+ * INSERT'e çevirir (application.properties).
+ */
+@Repository
+public class FinancialEntryBulkRepository {
+
+    private static final String SOURCE_BATCH = "BATCH";
+    private static final String MDC_CORRELATION_ID = "correlationId";
+    private static final short REVTYPE_ADD = 0;
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO financial_entries (
+                id, tenant_id, entry_number, status, entry_type,
+                category_id, tenant_who_id, tenant_main_category_id,
+                original_amount, original_currency, base_amount, base_currency,
+                approved_base_amount, approved_base_currency, paid_base_amount, paid_base_currency,
+                exchange_rate, exchange_rate_date, entry_date, payment_method,
+                description, receipt_number, country, city, specific_location, vendor, recipient,
+                version, is_deleted, created_at, created_by_id, updated_at, updated_by_id
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false, ?, ?, ?, ?)
+            """;
+
+    private static final int[] ENTRY_TYPES = {
+            Types.OTHER, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.OTHER, Types.OTHER, Types.OTHER,
+            Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR,
+            Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR,
+            Types.NUMERIC, Types.DATE, Types.DATE, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.OTHER, Types.TIMESTAMP, Types.OTHER
+    };
+
+    private static final String INSERT_PAYMENT = """
+            INSERT INTO payments (
+                id, tenant_id, entry_id, amount, currency, payment_date,
+                payment_reference, payment_method, notes, recorded_by_id, recorded_at,
+                version, is_deleted, created_at, created_by_id, updated_at, updated_by_id
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, false, ?, ?, ?, ?)
+            """;
+
+    private static final int[] PAYMENT_TYPES = {
+            Types.OTHER, Types.BIGINT, Types.OTHER, Types.NUMERIC, Types.VARCHAR, Types.DATE,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.OTHER, Types.TIMESTAMP,
+            Types.TIMESTAMP, Types.OTHER, Types.TIMESTAMP, Types.OTHER
+    };
+
+    private static final String INSERT_ENTRY_AUDIT = """
+            INSERT INTO financial_entries_aud (
+                id, rev, revtype, entry_number, status, entry_type,
+                original_amount, original_currency, base_amount, base_currency,
+                approved_base_amount, approved_base_currency, paid_base_amount, paid_base_currency,
+                entry_date, payment_method, receipt_number, exchange_rate, exchange_rate_date,
+                category_id, tenant_who_id, tenant_main_category_id, created_at, created_by_id
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] ENTRY_AUDIT_TYPES = {
+            Types.OTHER, Types.INTEGER, Types.SMALLINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR,
+            Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR,
+            Types.DATE, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.DATE,
+            Types.OTHER, Types.OTHER, Types.OTHER, Types.TIMESTAMP, Types.OTHER
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FinancialEntryBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Yeni (persist edilmemiş) entry'leri ödemeleriyle birlikte batch olarak yazar
+     * ve hepsi için tek bir Envers revizyonu açar.
+     *
+     * @param entries  FinancialEntry.create ile kurulmuş, henüz kaydedilmemiş entry'ler
+     * @param tenantId mevcut tenant (TenantContext'ten)
+     * @param actor    kayıtları oluşturan kullanıcı (created_by + revinfo)
+     * @return yazılan entry id'leri (entries ile aynı sırada)
+     */
+    public List<UUID> insertAll(List<FinancialEntry> entries, Long tenantId, User actor) {
+        Objects.requireNonNull(tenantId, "Tenant ID cannot be null");
+        Objects.requireNonNull(actor, "Actor cannot be null");
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UUID actorId = actor.getUserId();
+
+        List<UUID> ids = new ArrayList<>(entries.size());
+        List<Object[]> entryRows = new ArrayList<>(entries.size());
+        List<Object[]> paymentRows = new ArrayList<>(entries.size());
+
+        for (FinancialEntry entry : entries) {
+            if (entry.getEntryId() != null) {
+                throw new IllegalArgumentException("Entry already persisted: " + entry.getEntryId());
+            }
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            entryRows.add(entryRow(id, entry, tenantId, actorId, now));
+
+            for (Payment payment : entry.getPayments()) {
+                paymentRows.add(paymentRow(id, payment, tenantId, actorId, now));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entryRows, ENTRY_TYPES);
+        if (!paymentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PAYMENT, paymentRows, PAYMENT_TYPES);
+        }
+
+        int rev = insertRevision(actor);
+        List<Object[]> auditRows = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            auditRows.add(auditRow(ids.get(i), rev, entries.get(i), actorId, now));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_AUDIT, auditRows, ENTRY_AUDIT_TYPES);
+
+        return ids;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ROW MAPPING
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private static Object[] entryRow(UUID id, FinancialEntry entry, Long tenantId, UUID actorId, LocalDateTime now) {
+        return new Object[]{
+                id,
+                tenantId,
+                entry.getEntryNumber().getValue(),
+                entry.getStatus().name(),
+                entry.getEntryType().name(),
+                entry.getCategory().getId(),
+                entry.getTenantWho() != null ? entry.getTenantWho().getId() : null,
+                entry.getTenantMainCategory() != null ? entry.getTenantMainCategory().getId() : null,
+                amountOf(entry.getOriginalAmount()),
+                currencyOf(entry.getOriginalAmount()),
+                amountOf(entry.getBaseAmount()),
+                currencyOf(entry.getBaseAmount()),
+                amountOf(entry.getApprovedBaseAmount()),
+                currencyOf(entry.getApprovedBaseAmount()),
+                amountOf(entry.getPaidBaseAmount()),
+                currencyOf(entry.getPaidBaseAmount()),
+                entry.getExchangeRate(),
+                entry.getExchangeRateDate(),
+                entry.getEntryDate(),
+                entry.getPaymentMethod().name(),
+                entry.getDescription(),
+                entry.getReceiptNumber(),
+                entry.getCountry(),
+                entry.getCity(),
+                entry.getSpecificLocation(),
+                entry.getVendor(),
+                entry.getRecipient(),
+                now,
+                actorId,
+                now,
+                actorId
+        };
+    }
+
+    private static Object[] paymentRow(UUID entryId, Payment payment, Long tenantId, UUID actorId, LocalDateTime now) {
+        return new Object[]{
+                UUID.randomUUID(),
+                tenantId,
+                entryId,
+                amountOf(payment.getAmount()),
+                currencyOf(payment.getAmount()),
+                payment.getPaymentDate(),
+                payment.getPaymentReference(),
+                payment.getPaymentMethod() != null ? payment.getPaymentMethod().name() : null,
+                payment.getNotes(),
+                payment.getRecordedBy().getUserId(),
+                payment.getRecordedAt(),
+                now,
+                actorId,
+                now,
+                actorId
+        };
+    }
+
+    private static Object[] auditRow(UUID id, int rev, FinancialEntry entry, UUID actorId, LocalDateTime now) {
+        return new Object[]{
+                id,
+                rev,
+                REVTYPE_ADD,
+                entry.getEntryNumber().getValue(),
+                entry.getStatus().name(),
+                entry.getEntryType().name(),
+                amountOf(entry.getOriginalAmount()),
+                currencyOf(entry.getOriginalAmount()),
+                amountOf(entry.getBaseAmount()),
+                currencyOf(entry.getBaseAmount()),
+                amountOf(entry.getApprovedBaseAmount()),
+                currencyOf(entry.getApprovedBaseAmount()),
+                amountOf(entry.getPaidBaseAmount()),
+                currencyOf(entry.getPaidBaseAmount()),
+                entry.getEntryDate(),
+                entry.getPaymentMethod().name(),
+                entry.getReceiptNumber(),
+                entry.getExchangeRate(),
+                entry.getExchangeRateDate(),
+                entry.getCategory().getId(),
+                entry.getTenantWho() != null ? entry.getTenantWho().getId() : null,
+                entry.getTenantMainCategory() != null ? entry.getTenantMainCategory().getId() : null,
+                now,
+                actorId
+        };
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ENVERS REVISION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * revinfo satırı — CustomRevisionListener'ın yazdığı alanlarla aynı.
+     *
+     * rev, Hibernate ile aynı revinfo_seq'ten alınır: sequence 50'şer artar,
+     * Hibernate dönen değerin altındaki 50'lik bloğu kullanır; NEXTVAL'ın
+     * kendisini kullanmak onun bloklarıyla çakışmaz.
+     */
+    private int insertRevision(User actor) {
+        Integer rev = jdbcTemplate.queryForObject("SELECT nextval('revinfo_seq')", Integer.class);
+        if (rev == null) {
+            throw new IllegalStateException("revinfo_seq returned null");
+        }
+
+        jdbcTemplate.update(
+                """
+                INSERT INTO revinfo (rev, revtstmp, user_id, username, user_display_name, source, correlation_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """,
+                rev,
+                System.currentTimeMillis(),
+                actor.getUserId(),
+                actor.getUsername(),
+                actor.getFullName(),
+                SOURCE_BATCH,
+                MDC.get(MDC_CORRELATION_ID)
+        );
+        return rev;
+    }
+
+    private static Object amountOf(Money money) {
+        return money != null ? money.getAmount() : null;
+    }
+
+    private static String currencyOf(Money money) {
+        return money != null ? money.getCurrencyCode() : null;
+    }
+}
@@ -219,6 +219,11 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
     // ============================================
     // PIVOT REPORT PROJECTION (RECORD CLASS)
     // ============================================
+    // Yıl filtreleri yarı açık tarih aralığıdır: [start, endExclusive).
+    // EXTRACT(YEAR FROM entry_date) = :year idx_financial_entries_tenant_date_status
+    // index'ini kullanamıyor, tenant'ın tüm satırlarını tarıyordu.
+    // Pivot yıl-ay bucket'larıyla gruplar: çok yıllı / kayan 12 ay aralıkları
+    // tek sorguda gelir (ay sütunu yıl ile birlikte tekildir).
 
     @Query("""
         SELECT new com.marine.management.modules.finance.domain.model.PivotReportProjection(
@@ -234,6 +239,7 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
             w.nameTr,
             w.nameEn,
             w.technical,
+            EXTRACT(YEAR FROM e.entryDate),
             EXTRACT(MONTH FROM e.entryDate),
             SUM(e.baseAmount.amount)
         )
@@ -244,17 +250,19 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
         LEFT JOIN e.tenantWho tw
         LEFT JOIN tw.who w
         WHERE e.entryType = :entryType
-        AND EXTRACT(YEAR FROM e.entryDate) = :year
+        AND e.entryDate >= :start AND e.entryDate < :endExclusive
         AND e.status IN :statuses
         GROUP BY mc.id, mc.nameTr, mc.nameEn, mc.technical,
                  c.id, c.name, c.nameEn, c.technical,
                  w.id, w.nameTr, w.nameEn, w.technical,
-                 EXTRACT(MONTH FROM e.entryDate)
-        ORDER BY mc.nameEn NULLS LAST, c.name, w.nameEn NULLS LAST, EXTRACT(MONTH FROM e.entryDate)
+                 EXTRACT(YEAR FROM e.entryDate), EXTRACT(MONTH FROM e.entryDate)
+        ORDER BY mc.nameEn NULLS LAST, c.name, w.nameEn NULLS LAST,
+                 EXTRACT(YEAR FROM e.entryDate), EXTRACT(MONTH FROM e.entryDate)
     """)
     List<PivotReportProjection> findPivotProjections(
             @Param("entryType") RecordType entryType,
-            @Param("year") int year,
+            @Param("start") LocalDate start,
+            @Param("endExclusive") LocalDate endExclusive,
             @Param("statuses") Set<EntryStatus> statuses
     );
 
@@ -290,14 +298,15 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
         FROM FinancialEntry e
         JOIN e.category c
         WHERE e.entryType = :entryType
-        AND EXTRACT(YEAR FROM e.entryDate) = :year
+        AND e.entryDate >= :start AND e.entryDate < :endExclusive
         AND e.status IN :statuses
         GROUP BY c.id, c.name, EXTRACT(MONTH FROM e.entryDate)
         ORDER BY c.name, month
     """)
     List<CategoryMonthBreakdownProjection> findCategoryMonthBreakdown(
             @Param("entryType") RecordType entryType,
-            @Param("year") int year,
+            @Param("start") LocalDate start,
+            @Param("endExclusive") LocalDate endExclusive,
             @Param("statuses") Set<EntryStatus> statuses
     );
 
@@ -326,13 +335,14 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
                e.entryType as entryType,
                SUM(e.baseAmount.amount) as total
         FROM FinancialEntry e
-        WHERE EXTRACT(YEAR FROM e.entryDate) = :year
+        WHERE e.entryDate >= :start AND e.entryDate < :endExclusive
         AND e.status IN :statuses
         GROUP BY EXTRACT(MONTH FROM e.entryDate), e.entryType
         ORDER BY month
     """)
     List<MonthlyIncomeExpenseProjection> findMonthlyIncomeExpense(
-            @Param("year") int year,
+            @Param("start") LocalDate start,
+            @Param("endExclusive") LocalDate endExclusive,
             @Param("statuses") Set<EntryStatus> statuses
     );
 
@@ -345,14 +355,15 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
                e.entryType as entryType,
                SUM(e.baseAmount.amount) as total
         FROM FinancialEntry e
-        WHERE EXTRACT(YEAR FROM e.entryDate) = :year
+        WHERE e.entryDate >= :start AND e.entryDate < :endExclusive
         AND e.status IN :statuses
         AND (:crewMemberId IS NULL OR e.createdById = :crewMemberId)
         GROUP BY EXTRACT(MONTH FROM e.entryDate), e.entryType
         ORDER BY month
     """)
     List<MonthlyIncomeExpenseProjection> findMonthlyIncomeExpenseForCrew(
-            @Param("year") int year,
+            @Param("start") LocalDate start,
+            @Param("endExclusive") LocalDate endExclusive,
             @Param("statuses") Set<EntryStatus> statuses,
             @Param("crewMemberId") UUID crewMemberId
     );
@@ -366,17 +377,55 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
         JOIN e.tenantMainCategory tmc
         JOIN tmc.mainCategory mc
         WHERE e.entryType = :entryType
-        AND EXTRACT(YEAR FROM e.entryDate) = :year
+        AND e.entryDate >= :start AND e.entryDate < :endExclusive
         AND e.status IN :statuses
         GROUP BY mc.id, EXTRACT(MONTH FROM e.entryDate)
         ORDER BY mc.id, month
     """)
     List<MainCategoryMonthBreakdownProjection> findMainCategoryMonthBreakdown(
             @Param("entryType") RecordType entryType,
-            @Param("year") int year,
+            @Param("start") LocalDate start,
+            @Param("endExclusive") LocalDate endExclusive,
             @Param("statuses") Set<EntryStatus> statuses
     );
 
+    // ============================================
+    // YEAR CONVENIENCE (year → [1 Ocak, ertesi yıl 1 Ocak))
+    // ============================================
+
+    default List<PivotReportProjection> findPivotProjections(
+            RecordType entryType, int year, Set<EntryStatus> statuses) {
+        return findPivotProjections(entryType, yearStart(year), yearStart(year + 1), statuses);
+    }
+
+    default List<CategoryMonthBreakdownProjection> findCategoryMonthBreakdown(
+            RecordType entryType, int year, Set<EntryStatus> statuses) {
+        return findCategoryMonthBreakdown(entryType, yearStart(year), yearStart(year + 1), statuses);
+    }
+
+    default List<MonthlyIncomeExpenseProjection> findMonthlyIncomeExpense(
+            int year, Set<EntryStatus> statuses) {
+        return findMonthlyIncomeExpense(yearStart(year), yearStart(year + 1), statuses);
+    }
+
+    default List<MonthlyIncomeExpenseProjection> findMonthlyIncomeExpenseForCrew(
+            int year, Set<EntryStatus> statuses, UUID crewMemberId) {
+        return findMonthlyIncomeExpenseForCrew(yearStart(year), yearStart(year + 1), statuses, crewMemberId);
+    }
+
+    default List<MainCategoryMonthBreakdownProjection> findMainCategoryMonthBreakdown(
+            RecordType entryType, int year, Set<EntryStatus> statuses) {
+        return findMainCategoryMonthBreakdown(entryType, yearStart(year), yearStart(year + 1), statuses);
+    }
+
+    /**
+     * Same bounds as {@code Period.ofYear(year).startDate()}, without Period's
+     * 10-year look-back rule — annual and pivot reports accept years from 2000.
+     */
+    private static LocalDate yearStart(int year) {
+        return LocalDate.of(year, 1, 1);
+    }
+
     // ============================================
     // AGGREGATES
     // ============================================
@@ -399,6 +448,26 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
             @Param("statuses") Set<EntryStatus> statuses
     );
 
+    /**
+     * Net income - expense in [from, before). Covers the partial month between
+     * the last month checkpoint and a mid-month carry-over date.
+     */
+    @Query("""
+        SELECT COALESCE(SUM(
+            CASE WHEN e.entryType = 'INCOME' THEN e.baseAmount.amount
+                 ELSE -e.baseAmount.amount END
+        ), 0)
+        FROM FinancialEntry e
+        WHERE e.entryDate >= :from
+        AND e.entryDate < :before
+        AND e.status IN :statuses
+    """)
+    BigDecimal findNetBalanceBetween(
+            @Param("from") LocalDate from,
+            @Param("before") LocalDate before,
+            @Param("statuses") Set<EntryStatus> statuses
+    );
+
     @Query("""
         SELECT COALESCE(SUM(e.baseAmount.amount), 0)
         FROM FinancialEntry e
@@ -433,6 +502,73 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
             @Param("crewMemberId") UUID crewMemberId
     );
 
+    // ============================================
+    // DASHBOARD AGGREGATE (tek tarama)
+    // ============================================
+
+    /**
+     * Dashboard summary in a single scan of (tenant_id, entry_date, status).
+     * Income/expense totals and counts only include the given actual statuses;
+     * status buckets cover every entry in the range (DRAFT, pending, approved, paid).
+     */
+    @Query("""
+        SELECT COALESCE(SUM(CASE WHEN e.entryType = 'INCOME' AND e.status IN :statuses
+                                 THEN e.baseAmount.amount ELSE 0 END), 0) as totalIncome,
+               COALESCE(SUM(CASE WHEN e.entryType = 'EXPENSE' AND e.status IN :statuses
+                                 THEN e.baseAmount.amount ELSE 0 END), 0) as totalExpense,
+               COALESCE(SUM(CASE WHEN e.entryType = 'INCOME' AND e.status IN :statuses
+                                 THEN 1 ELSE 0 END), 0) as incomeCount,
+               COALESCE(SUM(CASE WHEN e.entryType = 'EXPENSE' AND e.status IN :statuses
+                                 THEN 1 ELSE 0 END), 0) as expenseCount,
+               COALESCE(SUM(CASE WHEN e.status = 'PAID'
+                                 THEN 1 ELSE 0 END), 0) as paidCount,
+               COALESCE(SUM(CASE WHEN e.status IN ('APPROVED', 'PARTIALLY_PAID')
+                                 THEN 1 ELSE 0 END), 0) as approvedCount,
+               COALESCE(SUM(CASE WHEN e.status = 'DRAFT'
+                                 THEN 1 ELSE 0 END), 0) as draftCount,
+               COALESCE(SUM(CASE WHEN e.status IN ('PENDING_CAPTAIN', 'PENDING_MANAGER')
+                                 THEN 1 ELSE 0 END), 0) as pendingCount
+        FROM FinancialEntry e
+        WHERE e.entryDate BETWEEN :start AND :end
+    """)
+    DashboardAggregateProjection findDashboardAggregate(
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end,
+            @Param("statuses") Set<EntryStatus> statuses
+    );
+
+    /**
+     * Dashboard aggregate filtered by crew member.
+     * When crewMemberId is null, returns the aggregate for all users.
+     */
+    @Query("""
+        SELECT COALESCE(SUM(CASE WHEN e.entryType = 'INCOME' AND e.status IN :statuses
+                                 THEN e.baseAmount.amount ELSE 0 END), 0) as totalIncome,
+               COALESCE(SUM(CASE WHEN e.entryType = 'EXPENSE' AND e.status IN :statuses
+                                 THEN e.baseAmount.amount ELSE 0 END), 0) as totalExpense,
+               COALESCE(SUM(CASE WHEN e.entryType = 'INCOME' AND e.status IN :statuses
+                                 THEN 1 ELSE 0 END), 0) as incomeCount,
+               COALESCE(SUM(CASE WHEN e.entryType = 'EXPENSE' AND e.status IN :statuses
+                                 THEN 1 ELSE 0 END), 0) as expenseCount,
+               COALESCE(SUM(CASE WHEN e.status = 'PAID'
+                                 THEN 1 ELSE 0 END), 0) as paidCount,
+               COALESCE(SUM(CASE WHEN e.status IN ('APPROVED', 'PARTIALLY_PAID')
+                                 THEN 1 ELSE 0 END), 0) as approvedCount,
+               COALESCE(SUM(CASE WHEN e.status = 'DRAFT'
+                                 THEN 1 ELSE 0 END), 0) as draftCount,
+               COALESCE(SUM(CASE WHEN e.status IN ('PENDING_CAPTAIN', 'PENDING_MANAGER')
+                                 THEN 1 ELSE 0 END), 0) as pendingCount
+        FROM FinancialEntry e
+        WHERE e.entryDate BETWEEN :start AND :end
+        AND (:crewMemberId IS NULL OR e.createdById = :crewMemberId)
+    """)
+    DashboardAggregateProjection findDashboardAggregateForCrew(
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end,
+            @Param("statuses") Set<EntryStatus> statuses,
+            @Param("crewMemberId") UUID crewMemberId
+    );
+
     // ============================================
     // PROJECTION INTERFACES (Dashboard için basit interface projections)
     // ============================================
@@ -443,6 +579,17 @@ public interface FinancialEntryReportRepository extends JpaRepository<FinancialE
         BigDecimal getCumulativeBalance();
     }
 
+    interface DashboardAggregateProjection {
+        BigDecimal getTotalIncome();
+        BigDecimal getTotalExpense();
+        Long getIncomeCount();
+        Long getExpenseCount();
+        Long getPaidCount();
+        Long getApprovedCount();
+        Long getDraftCount();
+        Long getPendingCount();
+    }
+
     interface PeriodTotalProjection {
         RecordType getEntryType();
         BigDecimal getTotal();
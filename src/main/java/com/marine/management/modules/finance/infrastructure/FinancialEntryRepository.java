@@ -4,6 +4,8 @@ import com.marine.management.modules.finance.domain.entities.FinancialEntry;
 import com.marine.management.modules.finance.domain.entities.FinancialCategory;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
 import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.presentation.dto.PendingEntryDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -66,6 +68,69 @@ public interface FinancialEntryRepository
      */
     long countByStatus(EntryStatus status);
 
+    /**
+     * Pending counter reconciliation: counts per (status, creator) in one query.
+     */
+    @Query("""
+        SELECT e.status AS status, e.createdById AS createdById, COUNT(e) AS total
+        FROM FinancialEntry e
+        WHERE e.status IN :statuses
+        GROUP BY e.status, e.createdById
+    """)
+    List<StatusCountProjection> countByStatusAndCreator(@Param("statuses") Set<EntryStatus> statuses);
+
+    /**
+     * Pending queue, first page: (entryDate DESC, id DESC), row projection only.
+     * createdById null = all creators (crew passes own id).
+     */
+    @Query("""
+        SELECT new com.marine.management.modules.finance.presentation.dto.PendingEntryDto(
+            e.id, e.entryNumber.value, e.status, e.entryType, c.name,
+            e.originalAmount.amount, e.originalAmount.currencyCode,
+            e.baseAmount.amount, e.baseAmount.currencyCode,
+            e.entryDate, e.description, e.createdById,
+            CONCAT(u.firstName, ' ', u.lastName), e.createdAt
+        )
+        FROM FinancialEntry e
+        JOIN e.category c
+        LEFT JOIN User u ON u.id = e.createdById
+        WHERE e.status IN :statuses
+        AND (:createdById IS NULL OR e.createdById = :createdById)
+        ORDER BY e.entryDate DESC, e.id DESC
+    """)
+    List<PendingEntryDto> findPendingQueue(
+            @Param("statuses") Set<EntryStatus> statuses,
+            @Param("createdById") UUID createdById,
+            Limit limit
+    );
+
+    /**
+     * Pending queue, following pages: rows after (afterDate, afterId).
+     */
+    @Query("""
+        SELECT new com.marine.management.modules.finance.presentation.dto.PendingEntryDto(
+            e.id, e.entryNumber.value, e.status, e.entryType, c.name,
+            e.originalAmount.amount, e.originalAmount.currencyCode,
+            e.baseAmount.amount, e.baseAmount.currencyCode,
+            e.entryDate, e.description, e.createdById,
+            CONCAT(u.firstName, ' ', u.lastName), e.createdAt
+        )
+        FROM FinancialEntry e
+        JOIN e.category c
+        LEFT JOIN User u ON u.id = e.createdById
+        WHERE e.status IN :statuses
+        AND (:createdById IS NULL OR e.createdById = :createdById)
+        AND (e.entryDate < :afterDate OR (e.entryDate = :afterDate AND e.id < :afterId))
+        ORDER BY e.entryDate DESC, e.id DESC
+    """)
+    List<PendingEntryDto> findPendingQueueAfter(
+            @Param("statuses") Set<EntryStatus> statuses,
+            @Param("createdById") UUID createdById,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
     /**
      * Find approved but unpaid entries
      */
@@ -226,40 +291,6 @@ public interface FinancialEntryRepository
             LocalDate endDate
     );
 
-    /**
-     * 🆕 Count by status and date range
-     */
-    @Query("""
-        SELECT COUNT(e)
-        FROM FinancialEntry e
-        WHERE e.status IN :statuses
-        AND e.entryDate BETWEEN :startDate AND :endDate
-    """)
-    long countByStatusInAndEntryDateBetween(
-            @Param("statuses") Set<EntryStatus> statuses,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
-
-    /**
-     * Count by status and date range, optionally filtered by creator (crew member).
-     * When crewMemberId is null, returns counts for all users (manager/captain view).
-     * When crewMemberId is set, returns only that crew member's entries.
-     */
-    @Query("""
-        SELECT COUNT(e)
-        FROM FinancialEntry e
-        WHERE e.status IN :statuses
-        AND e.entryDate BETWEEN :startDate AND :endDate
-        AND (:crewMemberId IS NULL OR e.createdById = :crewMemberId)
-    """)
-    long countByStatusInAndEntryDateBetweenAndCrewMember(
-            @Param("statuses") Set<EntryStatus> statuses,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("crewMemberId") UUID crewMemberId
-    );
-
     // ============================================
     // PROJECTIONS (for lightweight queries)
     // ============================================
@@ -293,4 +324,13 @@ public interface FinancialEntryRepository
         EntryStatus getStatus();
         RecordType getEntryType();
     }
-}
\ No newline at end of file
+
+    /**
+     * Projection for {@link #countByStatusAndCreator}
+     */
+    interface StatusCountProjection {
+        EntryStatus getStatus();
+        UUID getCreatedById();
+        long getTotal();
+    }
+}
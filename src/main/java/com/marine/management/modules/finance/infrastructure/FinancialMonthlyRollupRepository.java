@@ -0,0 +1,121 @@
+package com.marine.management.modules.finance.infrastructure;
+
+import com.marine.management.modules.finance.domain.entities.FinancialMonthlyRollup;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository.CategoryMonthBreakdownProjection;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository.MonthlyIncomeExpenseProjection;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository.MonthlyTotalProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Report queries served from the monthly rollup instead of raw financial_entries.
+ *
+ * Same projection shapes as FinancialEntryReportRepository, so use cases can
+ * switch sources without touching their mapping code. Cost grows with the number
+ * of (month × category × main category × who) buckets, not the number of entries.
+ *
+ * Month ranges are expressed as yyyymm keys (year * 100 + month), inclusive.
+ * Buckets whose entries all moved away (entry_count = 0) are filtered out, so
+ * results match what a GROUP BY over raw entries would return.
+ */
+@Repository
+public interface FinancialMonthlyRollupRepository extends JpaRepository<FinancialMonthlyRollup, Long> {
+
+    // ============================================
+    // MONTHLY TOTALS
+    // ============================================
+
+    @Query("""
+        SELECT r.year as year,
+               r.month as month,
+               r.entryType as entryType,
+               SUM(r.total) as total,
+               SUM(r.entryCount) as entryCount
+        FROM FinancialMonthlyRollup r
+        WHERE r.reportingCategory = :reportingCategory
+        AND (r.year * 100 + r.month) BETWEEN :fromKey AND :toKey
+        GROUP BY r.year, r.month, r.entryType
+        HAVING SUM(r.entryCount) > 0
+        ORDER BY r.year, r.month
+    """)
+    List<MonthlyTotalProjection> findMonthlyTotals(
+            @Param("fromKey") int fromKey,
+            @Param("toKey") int toKey,
+            @Param("reportingCategory") ReportingCategory reportingCategory
+    );
+
+    @Query("""
+        SELECT r.month as month,
+               r.entryType as entryType,
+               SUM(r.total) as total
+        FROM FinancialMonthlyRollup r
+        WHERE r.year = :year
+        AND r.reportingCategory = :reportingCategory
+        GROUP BY r.month, r.entryType
+        HAVING SUM(r.entryCount) > 0
+        ORDER BY r.month
+    """)
+    List<MonthlyIncomeExpenseProjection> findMonthlyIncomeExpense(
+            @Param("year") int year,
+            @Param("reportingCategory") ReportingCategory reportingCategory
+    );
+
+    // ============================================
+    // CATEGORY BREAKDOWNS
+    // ============================================
+
+    /**
+     * Category × month breakdown. Like the raw variant, months of different
+     * years inside the range share the same month bucket.
+     */
+    @Query("""
+        SELECT c.id as categoryId,
+               c.name as categoryName,
+               r.month as month,
+               SUM(r.total) as total
+        FROM FinancialMonthlyRollup r
+        JOIN r.category c
+        WHERE r.entryType = :entryType
+        AND r.reportingCategory = :reportingCategory
+        AND (r.year * 100 + r.month) BETWEEN :fromKey AND :toKey
+        GROUP BY c.id, c.name, r.month
+        HAVING SUM(r.entryCount) > 0
+        ORDER BY c.name, r.month
+    """)
+    List<CategoryMonthBreakdownProjection> findCategoryMonthBreakdown(
+            @Param("entryType") RecordType entryType,
+            @Param("fromKey") int fromKey,
+            @Param("toKey") int toKey,
+            @Param("reportingCategory") ReportingCategory reportingCategory
+    );
+
+    // ============================================
+    // CONVENIENCE (YearMonth → yyyymm key)
+    // ============================================
+
+    default List<MonthlyTotalProjection> findMonthlyTotals(
+            YearMonth from, YearMonth to, ReportingCategory reportingCategory) {
+        return findMonthlyTotals(monthKey(from), monthKey(to), reportingCategory);
+    }
+
+    default List<CategoryMonthBreakdownProjection> findCategoryMonthBreakdown(
+            RecordType entryType, YearMonth from, YearMonth to, ReportingCategory reportingCategory) {
+        return findCategoryMonthBreakdown(entryType, monthKey(from), monthKey(to), reportingCategory);
+    }
+
+    default List<CategoryMonthBreakdownProjection> findCategoryMonthBreakdown(
+            RecordType entryType, int year, ReportingCategory reportingCategory) {
+        return findCategoryMonthBreakdown(entryType, year * 100 + 1, year * 100 + 12, reportingCategory);
+    }
+
+    static int monthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+}
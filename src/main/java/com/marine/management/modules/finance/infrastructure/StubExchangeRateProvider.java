@@ -0,0 +1,72 @@
+package com.marine.management.modules.finance.infrastructure;
+
+import com.marine.management.modules.finance.application.ExchangeRateProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Offline provider: EUR base rates from a properties file (CURRENCY=rate),
+ * same rates for every date. For local development and tests — no network.
+ */
+@Component
+@ConditionalOnProperty(name = "app.fx.provider", havingValue = "stub")
+public class StubExchangeRateProvider implements ExchangeRateProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(StubExchangeRateProvider.class);
+
+    private final Map<String, BigDecimal> rates;
+
+    public StubExchangeRateProvider(
+            ResourceLoader resourceLoader,
+            @Value("${app.fx.stub-rates-file:classpath:fx/stub-rates.properties}") String ratesFile
+    ) {
+        this.rates = load(resourceLoader.getResource(ratesFile));
+        log.info("Stub exchange rate provider: {} currencies from {}", rates.size(), ratesFile);
+    }
+
+    @Override
+    public Map<String, BigDecimal> fetchBaseRates(LocalDate date, Set<String> currencies) {
+        Map<String, BigDecimal> result = new HashMap<>();
+        for (String currency : currencies) {
+            BigDecimal rate = rates.get(currency);
+            if (rate != null) {
+                result.put(currency, rate);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String sourceName() {
+        return "STUB";
+    }
+
+    private static Map<String, BigDecimal> load(Resource resource) {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read stub exchange rates: " + resource, e);
+        }
+
+        Map<String, BigDecimal> loaded = new HashMap<>();
+        properties.forEach((currency, rate) ->
+                loaded.put(currency.toString().trim(), new BigDecimal(rate.toString().trim())));
+        return Map.copyOf(loaded);
+    }
+}
@@ -2,6 +2,8 @@ package com.marine.management.modules.finance.infrastructure;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Tenant ve yıl bazında atomik entry sayacı.
@@ -56,4 +58,75 @@ public class TenantEntryCounterRepository {
         }
         return result;
     }
+
+    /**
+     * Tek round-trip'te {@code count} adet ardışık numara ayırır.
+     * Counter satırı transaction sonuna kadar kilitli kalır; aynı
+     * tenant/yıl için diğer yazıcılar commit'i bekler.
+     *
+     * @return ayrılan bloğun ilk sıra numarası (blok: first .. first + count - 1)
+     */
+    public int reserveBlock(Long tenantId, int year, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Block size must be positive, got: " + count);
+        }
+        Integer last = jdbcTemplate.queryForObject(
+                """
+                INSERT INTO tenant_entry_counter (tenant_id, year, last_seq)
+                VALUES (?, ?, ?)
+                ON CONFLICT (tenant_id, year)
+                DO UPDATE SET last_seq = tenant_entry_counter.last_seq + EXCLUDED.last_seq
+                RETURNING last_seq
+                """,
+                Integer.class,
+                tenantId,
+                year,
+                count
+        );
+        if (last == null) {
+            throw new IllegalStateException(
+                    "tenant_entry_counter RETURNING null — tenantId=%d year=%d"
+                            .formatted(tenantId, year)
+            );
+        }
+        return last - count + 1;
+    }
+
+    /**
+     * {@link #reserveBlock} ile aynı, ama kendi transaction'ında commit eder:
+     * counter satırının kilidi çağıranın (uzun olabilecek) transaction'ı
+     * boyunca tutulmaz. Çağıran rollback olursa ayrılan numaralar geri
+     * dönmez — yalnızca deliğe izin veren (block) modda kullanılır.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reserveCommittedBlock(Long tenantId, int year, int count) {
+        return reserveBlock(tenantId, year, count);
+    }
+
+    /**
+     * Bloğun kullanılmayan kuyruğunu sayaca geri verir (numaralar deliksiz kalsın).
+     * Yalnızca sayaç hâlâ bloğun sonundaysa geri alır — arada başka numara
+     * verildiyse (farklı transaction) delik kabul edilir.
+     *
+     * @param blockLast ayrılan bloğun son numarası
+     * @param unused    bloğun sonundan kullanılmayan numara adedi
+     * @return geri alındıysa true
+     */
+    public boolean releaseTail(Long tenantId, int year, int blockLast, int unused) {
+        if (unused <= 0) {
+            return true;
+        }
+        int updated = jdbcTemplate.update(
+                """
+                UPDATE tenant_entry_counter
+                SET last_seq = last_seq - ?
+                WHERE tenant_id = ? AND year = ? AND last_seq = ?
+                """,
+                unused,
+                tenantId,
+                year,
+                blockLast
+        );
+        return updated == 1;
+    }
 }
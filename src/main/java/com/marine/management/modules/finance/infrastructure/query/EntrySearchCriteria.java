@@ -31,7 +31,8 @@ public record EntrySearchCriteria(
         String sortColumn,
         String sortDirection,
         int page,
-        int size
+        int size,
+        String cursor
 ) {
 
     // ============================================
@@ -55,6 +56,11 @@ public record EntrySearchCriteria(
             size = 20;
         }
 
+        // Keyset cursor: boş token = ilk sayfa
+        if (cursor != null && cursor.isBlank()) {
+            cursor = null;
+        }
+
         // Sanitize search term
         if (searchTerm != null) {
             searchTerm = searchTerm.trim();
@@ -85,6 +91,7 @@ public record EntrySearchCriteria(
         private String sortDirection = "desc";
         private int page = 0;
         private int size = 20;
+        private String cursor;
 
         public Builder categoryId(UUID val) {
             this.categoryId = val;
@@ -164,6 +171,11 @@ public record EntrySearchCriteria(
             return this;
         }
 
+        public Builder cursor(String val) {
+            this.cursor = val;
+            return this;
+        }
+
         public EntrySearchCriteria build() {
             return new EntrySearchCriteria(
                     categoryId,
@@ -177,7 +189,8 @@ public record EntrySearchCriteria(
                     sortColumn,
                     sortDirection,
                     page,
-                    size
+                    size,
+                    cursor
             );
         }
     }
@@ -190,6 +203,17 @@ public record EntrySearchCriteria(
         return searchTerm != null && !searchTerm.isBlank();
     }
 
+    /**
+     * Metin araması alaka skoruna göre sıralanacak mı? (sortColumn = "relevance")
+     */
+    public boolean isRelevanceSort() {
+        return hasTextSearch() && SortableFields.RELEVANCE_SORT.equalsIgnoreCase(sortColumn);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+
     public boolean hasDateFilter() {
         return startDate != null || endDate != null;
     }
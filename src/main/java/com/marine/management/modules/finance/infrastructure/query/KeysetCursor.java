@@ -0,0 +1,134 @@
+package com.marine.management.modules.finance.infrastructure.query;
+
+import com.marine.management.modules.finance.domain.entities.FinancialEntry;
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.PaymentMethod;
+import com.marine.management.shared.exceptions.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Continuation token for keyset (seek) pagination of FinancialEntry lists.
+ *
+ * Son satırın (sort kolonu değeri, id) çiftini taşır; sonraki sayfa
+ * "bu çiftten sonra gelenler" koşuluyla okunur:
+ *
+ *   DESC: (key < :key) OR (key = :key AND id < :id)
+ *   ASC:  (key > :key) OR (key = :key AND id > :id)
+ *
+ * OFFSET yok, COUNT yok — sayfa maliyeti geçmişin derinliğinden bağımsız.
+ *
+ * Token opak bir Base64URL string'dir; client içeriğine bakmamalı.
+ * Sort kolonu token içinde tutulur ve istekteki sort ile eşleşmek zorundadır.
+ */
+public record KeysetCursor(
+        String sortPath,
+        Sort.Direction direction,
+        String key,
+        UUID id
+) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    public KeysetCursor {
+        Objects.requireNonNull(sortPath, "Sort path cannot be null");
+        Objects.requireNonNull(direction, "Direction cannot be null");
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(id, "Id cannot be null");
+    }
+
+    /**
+     * Cursor pointing just after the given entry in the given sort.
+     */
+    public static KeysetCursor after(FinancialEntry entry, String sortPath, Sort.Direction direction) {
+        return new KeysetCursor(sortPath, direction, keyOf(entry, sortPath), entry.getEntryId());
+    }
+
+    // ============================================
+    // ENCODING
+    // ============================================
+
+    public String encode() {
+        // Key en sonda: kategori adı gibi değerler ayırıcı içerebilir
+        String raw = String.join(SEPARATOR, VERSION, sortPath, direction.name(), id.toString(), key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw InvalidCursorException.malformed(null);
+            }
+
+            String sortPath = parts[1];
+            if (!SortableFields.getAllowedFields().contains(sortPath)) {
+                throw InvalidCursorException.malformed(null);
+            }
+
+            KeysetCursor cursor = new KeysetCursor(
+                    sortPath,
+                    Sort.Direction.valueOf(parts[2]),
+                    parts[4],
+                    UUID.fromString(parts[3])
+            );
+            cursor.typedKey(); // key, kolonun tipine parse edilebilmeli
+            return cursor;
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw InvalidCursorException.malformed(e);
+        }
+    }
+
+    /**
+     * Token başka bir sort için üretildiyse sayfa sınırı anlamsızdır.
+     */
+    public void requireSort(String expectedPath, Sort.Direction expectedDirection) {
+        if (!sortPath.equals(expectedPath) || direction != expectedDirection) {
+            throw InvalidCursorException.sortMismatch();
+        }
+    }
+
+    // ============================================
+    // KEY TYPES (SortableFields whitelist ile birebir)
+    // ============================================
+
+    /**
+     * Key parsed to the Java type of the sort column.
+     */
+    public Comparable<?> typedKey() {
+        return switch (sortPath) {
+            case "entryDate" -> LocalDate.parse(key);
+            case "createdAt" -> LocalDateTime.parse(key);
+            case "baseAmount.amount", "originalAmount.amount" -> new BigDecimal(key);
+            case "status" -> EntryStatus.valueOf(key);
+            case "paymentMethod" -> PaymentMethod.valueOf(key);
+            case "entryNumber.value", "category.name" -> key;
+            default -> throw new IllegalArgumentException("Unsupported keyset column: " + sortPath);
+        };
+    }
+
+    private static String keyOf(FinancialEntry entry, String sortPath) {
+        return switch (sortPath) {
+            case "entryDate" -> entry.getEntryDate().toString();
+            case "createdAt" -> entry.getCreatedAt().toString();
+            case "baseAmount.amount" -> entry.getBaseAmount().getAmount().toPlainString();
+            case "originalAmount.amount" -> entry.getOriginalAmount().getAmount().toPlainString();
+            case "status" -> entry.getStatus().name();
+            case "paymentMethod" -> entry.getPaymentMethod().name();
+            case "entryNumber.value" -> entry.getEntryNumber().getValue();
+            case "category.name" -> entry.getCategory().getName();
+            default -> throw new IllegalArgumentException("Unsupported keyset column: " + sortPath);
+        };
+    }
+}
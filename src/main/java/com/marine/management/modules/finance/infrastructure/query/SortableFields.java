@@ -52,6 +52,18 @@ public final class SortableFields {
     public static final String DEFAULT_SORT_COLUMN = "entryDate";
     public static final Sort.Direction DEFAULT_DIRECTION = Sort.Direction.DESC;
 
+    /**
+     * Keyset pagination tie-breaker — sort kolonu eşit olan kayıtları ayırır.
+     */
+    public static final String TIE_BREAKER = "id";
+
+    /**
+     * Metin araması için alaka sıralaması (pg_trgm word_similarity).
+     * Entity path değil — FinancialEntrySpecs.fromCriteria uygular;
+     * metin araması yoksa (veya keyset'te) varsayılan kolona düşer.
+     */
+    public static final String RELEVANCE_SORT = "relevance";
+
     // ============================================
     // PUBLIC API
     // ============================================
@@ -69,6 +81,29 @@ public final class SortableFields {
         return Sort.by(sortDirection, entityPath);
     }
 
+    /**
+     * Keyset sort: istenen kolon + id (tie-breaker, aynı yönde).
+     * (kolon, id) çifti tekil olduğundan sayfa sınırı kararlıdır.
+     */
+    public static Sort createKeysetSort(String column, String direction) {
+        Sort.Direction sortDirection = parseDirection(direction);
+        return Sort.by(sortDirection, toEntityPath(column)).and(Sort.by(sortDirection, TIE_BREAKER));
+    }
+
+    /**
+     * Frontend kolon adının whitelist'teki entity path karşılığı.
+     */
+    public static String resolveEntityPath(String column) {
+        return toEntityPath(column);
+    }
+
+    /**
+     * "asc" / "desc" → Sort.Direction (geçersiz değerler DESC).
+     */
+    public static Sort.Direction resolveDirection(String direction) {
+        return parseDirection(direction);
+    }
+
     /**
      * Verilen kolon adının sort edilebilir olup olmadığını kontrol eder.
      */
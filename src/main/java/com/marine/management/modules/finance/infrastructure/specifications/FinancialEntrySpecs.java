@@ -4,6 +4,8 @@ import com.marine.management.modules.finance.domain.entities.FinancialEntry;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
 import com.marine.management.modules.finance.domain.enums.RecordType;
 import com.marine.management.modules.finance.infrastructure.query.EntrySearchCriteria;
+import com.marine.management.modules.finance.infrastructure.query.KeysetCursor;
+import com.marine.management.modules.finance.infrastructure.query.SortableFields;
 import com.marine.management.modules.users.domain.User;
 import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
@@ -21,6 +23,8 @@ import java.util.UUID;
  */
 public class FinancialEntrySpecs {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     private FinancialEntrySpecs() {}
 
     // ============================================
@@ -207,16 +211,13 @@ public class FinancialEntrySpecs {
     // TEXT SEARCH FILTERS (mevcut - değişiklik yok)
     // ============================================
 
+    // description, receiptNumber, vendor, recipient → search_text (V005)
+    // search_text zaten küçük harfli; LIKE trigram GIN index'i ile çözülür.
+
     public static Specification<FinancialEntry> searchText(String searchTerm) {
         return (root, query, cb) -> {
             if (searchTerm == null || searchTerm.isBlank()) return null;
-            String pattern = "%" + searchTerm.toLowerCase() + "%";
-            return cb.or(
-                    cb.like(cb.lower(root.get("description")), pattern),
-                    cb.like(cb.lower(root.get("receiptNumber")), pattern),
-                    cb.like(cb.lower(root.get("vendor")), pattern),
-                    cb.like(cb.lower(root.get("recipient")), pattern)
-            );
+            return textMatches(root, cb, searchTerm);
         };
     }
 
@@ -232,12 +233,16 @@ public class FinancialEntrySpecs {
      * 2. Category'yi FETCH eder - N+1 önler
      * 3. Tüm filtreleri AND ile birleştirir
      *
-     * Sort işlemi bu method dışında Pageable ile yapılır.
+     * Sort işlemi bu method dışında Pageable ile yapılır
+     * (alaka sıralaması hariç — bkz. EntrySearchCriteria.isRelevanceSort).
      */
     public static Specification<FinancialEntry> fromCriteria(EntrySearchCriteria criteria) {
         return (root, query, cb) -> {
-            // DISTINCT: LEFT JOIN'ler duplicate row üretebilir
-            query.distinct(true);
+            // DISTINCT: LEFT JOIN'ler duplicate row üretebilir.
+            // Alaka sıralamasında kapalı: ORDER BY ifadesi (similarity) DISTINCT
+            // ile select listesinde olmak zorunda; buradaki join'lerin hepsi
+            // to-one olduğundan duplicate üretmezler.
+            query.distinct(!criteria.isRelevanceSort());
 
             // FETCH JOIN: N+1 önleme (count query hariç)
             if (!isCountQuery(query)) {
@@ -282,15 +287,19 @@ public class FinancialEntrySpecs {
                 predicates.add(cb.lessThanOrEqualTo(root.get("entryDate"), criteria.endDate()));
             }
 
-            // Text search filter
+            // Text search filter (trigram index)
             if (criteria.hasTextSearch()) {
-                String pattern = "%" + criteria.searchTerm().toLowerCase() + "%";
-                predicates.add(cb.or(
-                        cb.like(cb.lower(root.get("description")), pattern),
-                        cb.like(cb.lower(root.get("receiptNumber")), pattern),
-                        cb.like(cb.lower(root.get("vendor")), pattern),
-                        cb.like(cb.lower(root.get("recipient")), pattern)
-                ));
+                predicates.add(textMatches(root, cb, criteria.searchTerm()));
+            }
+
+            // Relevance sort: word_similarity DESC, ardından en yeni kayıt.
+            // Service bu durumda Sort.unsorted() verir; count query'de sıralama yok.
+            if (criteria.isRelevanceSort() && !isCountQuery(query)) {
+                query.orderBy(
+                        cb.desc(relevance(root, cb, criteria.searchTerm())),
+                        cb.desc(root.get("entryDate")),
+                        cb.desc(root.get(SortableFields.TIE_BREAKER))
+                );
             }
 
             return predicates.isEmpty()
@@ -398,6 +407,42 @@ public class FinancialEntrySpecs {
         );
     }
 
+    // ============================================
+    // KEYSET PAGINATION
+    // ============================================
+
+    /**
+     * Seek predicate: rows strictly after the cursor in (sort column, id) order.
+     *
+     * SortableFields.createKeysetSort ile aynı sıralama varsayılır.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<FinancialEntry> seekAfter(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+
+            // "baseAmount.amount", "category.name" gibi path'ler
+            Path<?> path = root;
+            for (String segment : cursor.sortPath().split("\\.")) {
+                path = path.get(segment);
+            }
+            Expression<Comparable> key = (Expression<Comparable>) path;
+            Comparable value = cursor.typedKey();
+            Path<UUID> id = root.get(SortableFields.TIE_BREAKER);
+
+            if (cursor.direction().isAscending()) {
+                return cb.or(
+                        cb.greaterThan(key, value),
+                        cb.and(cb.equal(key, value), cb.greaterThan(id, cursor.id()))
+                );
+            }
+            return cb.or(
+                    cb.lessThan(key, value),
+                    cb.and(cb.equal(key, value), cb.lessThan(id, cursor.id()))
+            );
+        };
+    }
+
     // ============================================
     // HELPER METHODS
     // ============================================
@@ -417,6 +462,30 @@ public class FinancialEntrySpecs {
         }
     }
 
+    private static Predicate textMatches(Root<FinancialEntry> root, CriteriaBuilder cb, String searchTerm) {
+        String pattern = "%" + escapeLike(searchTerm.trim().toLowerCase()) + "%";
+        return cb.like(root.get("searchText"), pattern, LIKE_ESCAPE);
+    }
+
+    private static Expression<Double> relevance(Root<FinancialEntry> root, CriteriaBuilder cb, String searchTerm) {
+        return cb.function(
+                "word_similarity",
+                Double.class,
+                cb.literal(searchTerm.trim().toLowerCase()),
+                root.get("searchText")
+        );
+    }
+
+    /**
+     * Kullanıcı terimindeki %, _ ve \ LIKE joker karakteri değil, harf olarak aranır.
+     */
+    private static String escapeLike(String term) {
+        return term
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     /**
      * ✅ YENİ: Count query kontrolü.
      *
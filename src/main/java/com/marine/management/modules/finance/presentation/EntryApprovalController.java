@@ -4,7 +4,9 @@ import com.marine.management.modules.finance.application.ApprovalService;
 import com.marine.management.modules.finance.domain.vo.Money;
 import com.marine.management.modules.finance.presentation.dto.EntryApprovalResponseDto;
 import com.marine.management.modules.finance.presentation.dto.EntryResponseDto;
+import com.marine.management.modules.finance.presentation.dto.PendingEntryDto;
 import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.presentation.CursorPage;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -23,6 +25,7 @@ import java.util.UUID;
  *
  * Endpoints:
  * - GET /pending: Get pending items for current user
+ * - GET /pending/scroll: Pending queue, keyset paginated
  * - POST /{id}/submit: Submit for approval (DRAFT → PENDING_CAPTAIN)
  * - POST /{id}/approve: Approve at current level
  * - POST /{id}/reject: Reject entry
@@ -73,6 +76,20 @@ public class EntryApprovalController {
         return ResponseEntity.ok(approvalService.getPendingForUser(currentUser));
     }
 
+    /**
+     * Pending queue with keyset (cursor) pagination — same scope as /pending.
+     * İlk sayfa: cursor yok; sonraki sayfalar: ?cursor=<nextCursor>
+     */
+    @GetMapping("/pending/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<PendingEntryDto>> scrollPendingForUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(approvalService.scrollPendingForUser(currentUser, cursor, size));
+    }
+
     /**
      * Get pending count for badge display.
      */
@@ -7,6 +7,7 @@ import com.marine.management.modules.finance.domain.enums.EntryStatus;
 import com.marine.management.modules.finance.presentation.dto.*;
 import com.marine.management.modules.finance.presentation.dto.controller.*;
 import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.presentation.CursorPage;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -142,6 +143,28 @@ public class FinancialEntryController {
         return ResponseEntity.ok(entryService.searchIncomes(criteria, currentUser));
     }
 
+    // Keyset (cursor) pagination — infinite scroll, no COUNT query.
+    // İlk sayfa: cursor yok; sonraki sayfalar: ?cursor=<nextCursor> (aynı sort ile)
+    @GetMapping("/expenses/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<EntryResponseDto>> scrollExpenses(
+            @Valid EntrySearchRequest request,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        var criteria = requestMapper.toSearchCriteria(request);
+        return ResponseEntity.ok(entryService.scrollExpenses(criteria, currentUser));
+    }
+
+    @GetMapping("/incomes/scroll")
+    @PreAuthorize("hasAuthority('INCOME_VIEW')")
+    public ResponseEntity<CursorPage<EntryResponseDto>> scrollIncomes(
+            @Valid EntrySearchRequest request,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        var criteria = requestMapper.toSearchCriteria(request);
+        return ResponseEntity.ok(entryService.scrollIncomes(criteria, currentUser));
+    }
+
     // Legacy endpoint - delegates to searchExpenses
     @GetMapping("/search")
     @PreAuthorize("isAuthenticated()")
@@ -156,7 +179,8 @@ public class FinancialEntryController {
     /**
      * GET /search/text — Full-text search across all entries.
      * Angular calls this when a searchTerm is present in the search bar.
-     * Delegates to the generic search with the same criteria.
+     * Delegates to the generic search; results are ranked by relevance
+     * (trigram word similarity) unless a sortColumn is given.
      */
     @GetMapping("/search/text")
     @PreAuthorize("isAuthenticated()")
@@ -164,7 +188,7 @@ public class FinancialEntryController {
             @Valid EntrySearchRequest request,
             @AuthenticationPrincipal User currentUser
     ) {
-        var criteria = requestMapper.toSearchCriteria(request);
+        var criteria = requestMapper.toTextSearchCriteria(request);
         return ResponseEntity.ok(entryService.search(criteria, currentUser));
     }
 
@@ -274,6 +298,19 @@ public class FinancialEntryController {
         return ResponseEntity.ok(historyService.getHistory(id, currentUser));
     }
 
+    // Revizyon bazlı sayfalama — çok düzenlenmiş kayıtlar için.
+    // İlk sayfa: cursor yok; sonraki sayfalar: ?cursor=<nextCursor>
+    @GetMapping("/{id}/history/page")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<EntryHistoryItemDto>> getHistoryPage(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(historyService.getHistoryPage(id, currentUser, cursor, size));
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // USER CAPABILITIES (for frontend)
     // ═══════════════════════════════════════════════════════════════════════════
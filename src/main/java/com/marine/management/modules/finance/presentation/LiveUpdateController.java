@@ -0,0 +1,39 @@
+package com.marine.management.modules.finance.presentation;
+
+import com.marine.management.modules.finance.application.LiveUpdateBroadcaster;
+import com.marine.management.modules.users.domain.User;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event stream of the current tenant (replaces badge / pending
+ * list / dashboard polling).
+ *
+ * Endpoints:
+ * - GET /api/finance/events: text/event-stream with entry-status, payment,
+ *   dashboard and import-completed events (see LiveUpdateBroadcaster)
+ *
+ * Authentication uses the same Bearer header as every other endpoint, so
+ * clients need a fetch-based SSE reader (native EventSource cannot set headers).
+ */
+@RestController
+@RequestMapping("/api/finance/events")
+public class LiveUpdateController {
+
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
+
+    public LiveUpdateController(LiveUpdateBroadcaster liveUpdateBroadcaster) {
+        this.liveUpdateBroadcaster = liveUpdateBroadcaster;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter stream(@AuthenticationPrincipal User currentUser) {
+        return liveUpdateBroadcaster.subscribe(currentUser);
+    }
+}
@@ -6,7 +6,9 @@ import com.marine.management.modules.finance.application.usecase.GenerateAnnualR
 import com.marine.management.modules.finance.application.usecase.GeneratePeriodReportUseCase;
 import com.marine.management.modules.finance.application.usecase.GeneratePivotTreeUseCase;
 import com.marine.management.modules.finance.application.usecase.GenerateTreeReportUseCase;
+import com.marine.management.modules.finance.domain.enums.PivotRangeType;
 import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.vo.MonthRange;
 import com.marine.management.modules.finance.domain.vo.Period;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
 import com.marine.management.modules.finance.presentation.dto.reports.AnnualBreakdownDto;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -100,14 +103,23 @@ public class ReportController {
     // ============================================
     // PIVOT REPORTS
     // ============================================
+    // ?year=2025                         → takvim yılı (varsayılan)
+    // ?range=FINANCIAL_YEAR&year=2025    → organizasyonun mali yılı
+    // ?range=ROLLING_12_MONTHS           → son 12 ay
+    // ?from=2023-01&to=2025-12           → özel aralık (en fazla 36 ay)
 
     @GetMapping("/expense-tree-pivot")
     public ResponseEntity<PivotTreeReportResponse> getExpenseTreePivot(
-            @RequestParam int year,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) PivotRangeType range,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
             @RequestParam(defaultValue = "EUR") String currency
     ) {
+        MonthRange months = generatePivotTreeUseCase.resolveRange(range, year, from, to);
+
         PivotTreeReportResponse response = generatePivotTreeUseCase.execute(
-                year,
+                months,
                 RecordType.EXPENSE,
                 currency
         );
@@ -116,11 +128,16 @@ public class ReportController {
 
     @GetMapping("/income-tree-pivot")
     public ResponseEntity<PivotTreeReportResponse> getIncomeTreePivot(
-            @RequestParam int year,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) PivotRangeType range,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
             @RequestParam(defaultValue = "EUR") String currency
     ) {
+        MonthRange months = generatePivotTreeUseCase.resolveRange(range, year, from, to);
+
         PivotTreeReportResponse response = generatePivotTreeUseCase.execute(
-                year,
+                months,
                 RecordType.INCOME,
                 currency
         );
@@ -0,0 +1,56 @@
+package com.marine.management.modules.finance.presentation.dto;
+
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Approval queue row — only the columns the pending list shows.
+ * Filled by a single JPQL projection (no entity, no lazy associations).
+ */
+public record PendingEntryDto(
+        UUID id,
+        String entryNumber,
+        EntryStatus status,
+        RecordType entryType,
+        String categoryName,
+        MoneyDto originalAmount,
+        MoneyDto baseAmount,
+        LocalDate entryDate,
+        String description,
+        UUID createdById,
+        String createdByName,
+        LocalDateTime createdAt
+) {
+
+    // JPQL constructor - flat fields
+    public PendingEntryDto(
+            UUID id,
+            String entryNumber,
+            EntryStatus status,
+            RecordType entryType,
+            String categoryName,
+            BigDecimal originalAmountValue,
+            String originalCurrency,
+            BigDecimal baseAmountValue,
+            String baseCurrency,
+            LocalDate entryDate,
+            String description,
+            UUID createdById,
+            String createdByName,
+            LocalDateTime createdAt
+    ) {
+        this(
+                id, entryNumber, status, entryType, categoryName,
+                new MoneyDto(originalAmountValue.toPlainString(), originalCurrency),
+                new MoneyDto(baseAmountValue.toPlainString(), baseCurrency),
+                entryDate, description, createdById,
+                createdByName != null ? createdByName : "Unknown",
+                createdAt
+        );
+    }
+}
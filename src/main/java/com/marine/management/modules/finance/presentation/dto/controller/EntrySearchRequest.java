@@ -19,5 +19,6 @@ public record EntrySearchRequest(
         String sortColumn,
         String sortDirection,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
 ) {}
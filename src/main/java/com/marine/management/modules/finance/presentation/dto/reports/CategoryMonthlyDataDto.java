@@ -1,10 +1,21 @@
 package com.marine.management.modules.finance.presentation.dto.reports;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public record CategoryMonthlyDataDto(
         String categoryName,
         Map<String, BigDecimal> monthlyAmounts,  // "1" -> amount, "2" -> amount
         BigDecimal total
-) {}
\ No newline at end of file
+) {
+    /**
+     * Month order preserved; immutable since reports are shared through ReportCache.
+     */
+    public CategoryMonthlyDataDto {
+        monthlyAmounts = monthlyAmounts != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(monthlyAmounts))
+                : Collections.emptyMap();
+    }
+}
\ No newline at end of file
@@ -11,4 +11,12 @@ public record PeriodBreakdownDto(
         BigDecimal grandTotal,
         BigDecimal remainingMoney,
         BigDecimal carryOverBalance
-) {}
\ No newline at end of file
+) {
+    /**
+     * Cached by ReportCache and shared between requests — kept immutable.
+     */
+    public PeriodBreakdownDto {
+        categories = categories != null ? List.copyOf(categories) : List.of();
+        monthlyTotals = monthlyTotals != null ? List.copyOf(monthlyTotals) : List.of();
+    }
+}
\ No newline at end of file
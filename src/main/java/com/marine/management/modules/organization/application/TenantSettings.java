@@ -0,0 +1,32 @@
+package com.marine.management.modules.organization.application;
+
+import com.marine.management.modules.organization.domain.Organization;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable snapshot of the organization settings hot paths read
+ * (entry creation, reports, approval routing).
+ *
+ * Raw values — fallbacks (EUR, January) stay with the callers.
+ */
+public record TenantSettings(
+        Long tenantId,
+        String baseCurrency,
+        Integer financialYearStartMonth,
+        boolean managerApprovalEnabled,
+        BigDecimal approvalLimit,
+        String timezone
+) {
+
+    public static TenantSettings from(Organization organization) {
+        return new TenantSettings(
+                organization.getOrganizationId(),
+                organization.getBaseCurrency(),
+                organization.getFinancialYearStartMonth(),
+                organization.isManagerApprovalEnabled(),
+                organization.getApprovalLimit(),
+                organization.getTimezone()
+        );
+    }
+}
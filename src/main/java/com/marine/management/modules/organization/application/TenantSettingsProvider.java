@@ -0,0 +1,91 @@
+package com.marine.management.modules.organization.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.marine.management.modules.organization.domain.events.OrganizationChangedEvent;
+import com.marine.management.modules.organization.infrastructure.OrganizationRepository;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant cache of organization settings (base currency, financial year,
+ * approval rules, timezone).
+ *
+ * INVALIDATION:
+ * - OrganizationChangedEvent (after commit) evicts the tenant.
+ * - {@link #TTL} bounds staleness for changes made without the event.
+ *
+ * RACE GUARD:
+ * Same as ReportCache: settings loaded while an eviction happened are
+ * returned but not kept.
+ *
+ * Missing organizations are not cached (caller falls back).
+ */
+@Component
+public class TenantSettingsProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantSettingsProvider.class);
+
+    static final Duration TTL = Duration.ofMinutes(10);
+    private static final long MAX_ENTRIES = 10_000;
+
+    private final OrganizationRepository organizationRepository;
+
+    private final Cache<Long, TenantSettings> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public TenantSettingsProvider(OrganizationRepository organizationRepository) {
+        this.organizationRepository = organizationRepository;
+    }
+
+    /**
+     * Settings of the current tenant (TenantContext).
+     */
+    public Optional<TenantSettings> current() {
+        return get(TenantContext.getCurrentTenantId());
+    }
+
+    public Optional<TenantSettings> get(Long tenantId) {
+        TenantSettings cached = cache.getIfPresent(tenantId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long before = generation.get();
+
+        Optional<TenantSettings> loaded = organizationRepository.findById(tenantId)
+                .map(TenantSettings::from);
+
+        loaded.ifPresent(settings -> {
+            cache.put(tenantId, settings);
+            if (generation.get() != before) {
+                // Yükleme sırasında invalidation oldu — sonucu cache'te tutma
+                cache.invalidate(tenantId);
+            }
+        });
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        evict(event.organizationId());
+    }
+
+    public void evict(Long tenantId) {
+        generation.incrementAndGet();
+        cache.invalidate(tenantId);
+        log.debug("Tenant settings evicted: tenantId={}", tenantId);
+    }
+}
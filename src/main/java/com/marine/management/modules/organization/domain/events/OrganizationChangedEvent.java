@@ -0,0 +1,12 @@
+package com.marine.management.modules.organization.domain.events;
+
+/**
+ * An organization's settings or subscription changed (onboarding setup,
+ * base currency, approval rules, subscription status).
+ *
+ * Caches holding organization state (TenantSettingsProvider, PrincipalCache)
+ * evict the organization after commit — or immediately when published
+ * outside a transaction.
+ */
+public record OrganizationChangedEvent(Long organizationId) {
+}
@@ -2,6 +2,7 @@ package com.marine.management.modules.organization.infrastructure;
 
 import com.marine.management.modules.organization.domain.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +17,8 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
 
     //  NEW: Find all active organizations (for scheduled tasks)
     List<Organization> findAllByActiveTrue();
+
+    // FX prefetch: tenant'ların kullandığı base currency'ler
+    @Query("SELECT DISTINCT o.baseCurrency FROM Organization o WHERE o.baseCurrency IS NOT NULL")
+    List<String> findDistinctBaseCurrencies();
 }
\ No newline at end of file
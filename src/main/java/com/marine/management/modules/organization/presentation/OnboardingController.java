@@ -8,6 +8,7 @@ import com.marine.management.modules.finance.infrastructure.WhoRepository;
 import com.marine.management.modules.organization.application.OrganizationOnboardingService;
 import com.marine.management.modules.organization.domain.Organization;
 import com.marine.management.modules.organization.domain.YachtType;
+import com.marine.management.modules.organization.domain.events.OrganizationChangedEvent;
 import com.marine.management.modules.organization.infrastructure.OrganizationRepository;
 import com.marine.management.modules.organization.presentation.dto.SetupRequest;
 import com.marine.management.modules.organization.presentation.dto.SetupResponse;
@@ -17,6 +18,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -40,19 +42,22 @@ public class OnboardingController {
     private final WhoRepository whoRepository;
     private final OrganizationRepository organizationRepository;
     private final TenantReferenceDataInitializer tenantReferenceDataInitializer;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OnboardingController(
             OrganizationOnboardingService onboardingService,
             MainCategoryRepository mainCategoryRepository,
             WhoRepository whoRepository,
             OrganizationRepository organizationRepository,
-            TenantReferenceDataInitializer tenantReferenceDataInitializer
+            TenantReferenceDataInitializer tenantReferenceDataInitializer,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.onboardingService = onboardingService;
         this.mainCategoryRepository = mainCategoryRepository;
         this.whoRepository = whoRepository;
         this.organizationRepository = organizationRepository;
         this.tenantReferenceDataInitializer = tenantReferenceDataInitializer;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -97,7 +102,12 @@ public class OnboardingController {
                 request.approvalLimit()
         );
 
-        organizationRepository.save(organization);
+        try {
+            organizationRepository.save(organization);
+        } finally {
+            // Principal / tenant settings cache'lerindeki kopyaları at (kayıt başarısız olsa da)
+            eventPublisher.publishEvent(new OrganizationChangedEvent(organization.getOrganizationId()));
+        }
 
         // Initialize tenant reference data
         Long tenantId = organization.getOrganizationId();
@@ -4,6 +4,7 @@ import com.marine.management.modules.organization.domain.Organization;
 import com.marine.management.modules.organization.infrastructure.OrganizationRepository;
 import com.marine.management.modules.users.domain.User;
 import com.marine.management.modules.users.infrastructure.UserRepository;
+import com.marine.management.shared.security.PrincipalCache;
 import com.marine.management.shared.security.Role;
 import com.marine.management.shared.multitenant.TenantContext;
 import org.slf4j.Logger;
@@ -28,15 +29,18 @@ public class UserService {
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     public UserService(
             UserRepository userRepository,
             OrganizationRepository organizationRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            PrincipalCache principalCache
     ) {
         this.userRepository = userRepository;
         this.organizationRepository = organizationRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     // ============================================
@@ -217,6 +221,7 @@ public class UserService {
 
         // Update profile
         user.updateProfile(email, firstName, lastName);
+        principalCache.evictUserAfterCommit(userId);
 
         return userRepository.save(user);
     }
@@ -235,6 +240,7 @@ public class UserService {
 
         user.changeRole(newRole);
         User saved = userRepository.save(user);
+        principalCache.evictUserAfterCommit(userId);
 
         log.info("Role changed for user {} to {}", userId, newRole);
 
@@ -249,9 +255,10 @@ public class UserService {
         User user = getUserByIdOrThrow(userId);
 
         String hashedPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(hashedPassword);
+        user.changePassword(hashedPassword);  // token versiyonu artar → eski access token'lar geçersiz
 
         userRepository.save(user);
+        principalCache.evictUserAfterCommit(userId);
 
         log.info("Password changed for user: {}", user.getId());
     }
@@ -263,6 +270,7 @@ public class UserService {
     public User activate(UUID userId) {
         User user = getUserByIdOrThrow(userId);
         user.activate();
+        principalCache.evictUserAfterCommit(userId);
 
         log.info("Activated user: {}", user.getId());
         return userRepository.save(user);
@@ -274,7 +282,8 @@ public class UserService {
     @Transactional
     public User deactivate(UUID userId) {
         User user = getUserByIdOrThrow(userId);
-        user.deactivate();
+        user.deactivate();  // token versiyonu artar → oturumlar hemen düşer
+        principalCache.evictUserAfterCommit(userId);
 
         log.info("Deactivated user: {}", user.getId());
         return userRepository.save(user);
@@ -289,5 +298,6 @@ public class UserService {
 
         log.warn("Deleting user: {}", user.getId());
         userRepository.delete(user);
+        principalCache.evictUserAfterCommit(userId);
     }
 }
\ No newline at end of file
@@ -75,6 +75,10 @@ public class User extends BaseAuditedEntity implements UserDetails, TenantAwareU
     @Column(name = "password_reset_token_expires_at")
     private LocalDateTime passwordResetTokenExpiresAt;
 
+    // Access token versiyonu (JWT "ver" claim) — artınca eski token'lar geçersiz
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
     protected User() {}
 
     private User(String email, String password, Role role, Organization organization) {
@@ -192,6 +196,7 @@ public class User extends BaseAuditedEntity implements UserDetails, TenantAwareU
     }
 
     // BUSINESS METHODS
+    @Override
     public UUID getUserId() {
         return id;
     }
@@ -211,6 +216,7 @@ public class User extends BaseAuditedEntity implements UserDetails, TenantAwareU
 
     public void deactivate() {
         this.isActive = false;
+        revokeTokens();
     }
 
 
@@ -247,6 +253,7 @@ public class User extends BaseAuditedEntity implements UserDetails, TenantAwareU
 
     public void changePassword(String newPassword) {
         this.password = Objects.requireNonNull(newPassword, "Password cannot be null");
+        revokeTokens();
     }
 
     public void changeRole(Role newRole) {
@@ -276,13 +283,28 @@ public class User extends BaseAuditedEntity implements UserDetails, TenantAwareU
     }
 
     /**
-     * Consume the reset token: update password and clear token fields.
+     * Consume the reset token: update password, clear token fields and
+     * revoke every access token issued before the reset.
      * Must be called only after isPasswordResetTokenValid() returns true.
      */
     public void resetPassword(String newHashedPassword) {
         this.password = Objects.requireNonNull(newHashedPassword, "Password cannot be null");
         this.passwordResetToken = null;
         this.passwordResetTokenExpiresAt = null;
+        revokeTokens();
+    }
+
+    /**
+     * Invalidate every access token issued so far (credential change, deactivation).
+     * Role changes don't need this — authorities are read from the principal.
+     */
+    public void revokeTokens() {
+        this.tokenVersion++;
+    }
+
+    @Override
+    public int getTokenVersion() {
+        return tokenVersion;
     }
 
     public boolean isPasswordResetTokenValid() {
@@ -35,6 +35,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u JOIN FETCH u.organization WHERE u.email = :email")
     Optional<User> findByEmailWithOrganization(@Param("email") String email);
 
+    /**
+     * Find user by ID with eager-loaded organization.
+     * Used by PrincipalCache on a miss (JWT "uid" claim).
+     */
+    @Query("SELECT u FROM User u JOIN FETCH u.organization WHERE u.id = :id")
+    Optional<User> findByIdWithOrganization(@Param("id") UUID id);
+
     /**
      * Find user by verification token (used for email verification).
      */
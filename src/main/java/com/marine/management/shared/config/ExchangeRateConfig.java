@@ -1,31 +1,32 @@
 package com.marine.management.shared.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
+/**
+ * Exchange rates are cached in ExchangeRateStore (per day, in memory),
+ * so no Spring cache manager is configured here.
+ *
+ * The FX provider is called from startup (ApplicationReadyEvent) and the
+ * scheduler thread — explicit timeouts keep a hung API from stalling either.
+ */
 @Configuration
-@EnableCaching
 public class ExchangeRateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-
-    @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("exchange-rates");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(24, TimeUnit.HOURS)
-        );
-        return cacheManager;
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            @Value("${app.fx.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${app.fx.read-timeout:10s}") Duration readTimeout
+    ) {
+        return builder
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .build();
     }
 }
@@ -67,6 +67,22 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(
+            InvalidCursorException ex,
+            HttpServletRequest request) {
+        String errorId = UUID.randomUUID().toString();
+        logger.warn("Invalid cursor [ID: {}] at {}: {}", errorId, request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.badRequest()
+                .body(new ErrorResponse(
+                        "Invalid Cursor",   // error
+                        ex.getMessage(),    // message
+                        "INVALID_CURSOR",   // code
+                        errorId             // errorId
+                ));
+    }
+
     @ExceptionHandler(AuthenticationFailedException.class)
     public ResponseEntity<ErrorResponse> handleAuthenticationFailed(
             AuthenticationFailedException ex,
@@ -3,9 +3,10 @@ package com.marine.management.shared.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.marine.management.modules.auth.infrastructure.JwtUtil;
+import com.marine.management.modules.auth.infrastructure.VerifiedToken;
 import com.marine.management.modules.users.domain.User;
-import com.marine.management.modules.users.infrastructure.UserRepository;
 import com.marine.management.shared.presentation.ErrorResponse;
+import com.marine.management.shared.security.PrincipalCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -31,11 +32,15 @@ import java.util.UUID;
  *
  * CRITICAL: This filter runs BEFORE TenantFilter.
  * At this point, tenant context is NOT yet established.
- * Therefore, userRepository.findByEmail() must be GLOBAL (no tenant filter).
+ * Therefore, the user lookup (PrincipalCache) must be GLOBAL (no tenant filter).
  *
  * JWT contains:
  * - subject: user email (from UserDetails.getUsername())
  * - tenantId: organization ID (custom claim)
+ *
+ * The token is verified once per request via JwtUtil.verify(); repeated
+ * requests with the same token are served from JwtUtil's verified-token cache,
+ * and the principal from PrincipalCache instead of a users+organizations query.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -43,13 +48,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     private final ObjectMapper objectMapper;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository,
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, PrincipalCache principalCache,
                                    ObjectMapper objectMapper) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
         this.objectMapper = objectMapper;
         logger.debug("Filter 'jwtAuthenticationFilter' configured for use");
     }
@@ -71,19 +76,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = authHeader.substring(7);
 
-            // ⭐ Extract email from JWT subject (UserDetails.getUsername())
-            String email = jwtUtil.extractUsername(jwt);
+            // ⭐ Single verification: signature + expiry checked once, claims reused below
+            VerifiedToken token = jwtUtil.verify(jwt);
 
-            // ⭐ Extract tenantId from JWT claims
-            Long tenantId = jwtUtil.extractClaim(jwt, claims -> claims.get("tenantId", Long.class));
+            // ⭐ Email from JWT subject (UserDetails.getUsername()), tenantId from claims
+            String email = token.subject();
+            Long tenantId = token.tenantId();
 
             if (email != null && tenantId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // ⭐ GLOBAL EMAIL LOOKUP: No tenant filter at this point
-                User user = userRepository.findByEmail(email).orElse(null);
+                // ⭐ GLOBAL LOOKUP: No tenant filter at this point.
+                // Cached by (uid, ver); revoked tokens (old version) resolve to null
+                User user = principalCache.resolve(token).orElse(null);
 
                 // ⭐ SECURITY: Verify user belongs to the tenantId from JWT
-                if (user != null && user.getOrganizationId().equals(tenantId) && jwtUtil.isTokenValid(jwt, user)) {
+                if (user != null && user.getOrganizationId().equals(tenantId) && jwtUtil.isTokenValid(token, user)) {
 
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
@@ -97,7 +104,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     logger.trace("JWT authentication successful for user: {} in org: {}", email, tenantId);
                 } else if (user == null) {
-                    logger.warn("User not found with email: {}", email);
+                    logger.warn("User not found or token revoked: {}", email);
                 } else if (!user.getOrganizationId().equals(tenantId)) {
                     logger.warn("Tenant mismatch: JWT tenantId={}, User tenantId={}", tenantId, user.getOrganizationId());
                 }
@@ -1,6 +1,7 @@
 package com.marine.management.shared.config;
 
 import com.marine.management.shared.multitenant.TenantFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -72,6 +73,10 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(authz -> authz
+                        // SSE (/api/finance/events): async dispatch'te JWT filtresi tekrar
+                        // çalışmaz; istek ilk dispatch'te zaten doğrulandı
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/api/auth/logout").authenticated()
                         .requestMatchers("/api/auth/**").permitAll()
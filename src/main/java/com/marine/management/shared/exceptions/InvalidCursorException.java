@@ -0,0 +1,27 @@
+package com.marine.management.shared.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Continuation token of a keyset (cursor) page is malformed or does not
+ * belong to the requested sort.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static InvalidCursorException malformed(Throwable cause) {
+        return new InvalidCursorException("Invalid page cursor", cause);
+    }
+
+    public static InvalidCursorException sortMismatch() {
+        return new InvalidCursorException("Page cursor does not match the requested sort");
+    }
+}
@@ -1,5 +1,10 @@
 package com.marine.management.shared.multitenant;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.springframework.jdbc.datasource.DelegatingDataSource;
 
 import javax.sql.DataSource;
@@ -12,17 +17,47 @@ import java.sql.SQLException;
  * TenantContext'ten set'ler. RLS policy'leri (V002) bu değişkeni okur.
  *
  * - Tenant context yoksa '' yazılır → policy'ler hiç satır döndürmez (fail-closed).
- * - Her checkout'ta yeniden yazıldığı için pooled bağlantıda önceki
+ * - Her checkout'ta kontrol edildiği için pooled bağlantıda önceki
  *   request'in tenant'ı sızamaz.
  * - is_local=false (session-level): transaction dışı autocommit sorgular da kapsanır.
+ *
+ * ROUND-TRIP TASARRUFU:
+ * Fiziksel bağlantı başına en son commit'lenmiş değer tutulur; checkout'taki
+ * tenant aynıysa set_config atlanır. Kayıt yalnızca autocommit modunda
+ * yazılan değer için tutulur — transaction içindeki set_config rollback ile
+ * geri alınabileceğinden o durumda kayıt silinir ve bir sonraki checkout
+ * yeniden yazar. Hata durumunda da kayıt silinir, bağlantı kapatılır.
+ *
+ * METRİKLER (Metrics.globalRegistry — BeanPostProcessor içinde oluşturulduğu için):
+ * - tenant.binding.set: set_config gerçekten çalıştı (tenant değişti / yeni bağlantı)
+ * - tenant.binding.skip: aynı tenant, round-trip atlandı
  */
 public class TenantAwareDataSource extends DelegatingDataSource {
 
     private static final String SET_TENANT_SQL =
             "SELECT set_config('app.tenant_id', ?, false)";
 
+    // Fiziksel bağlantı → son uygulanan tenant. weakKeys: identity karşılaştırma,
+    // pool'un kapattığı bağlantılar GC ile düşer.
+    private final Cache<Connection, String> appliedTenants = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    private final Counter bindingSet;
+    private final Counter bindingSkip;
+
     public TenantAwareDataSource(DataSource targetDataSource) {
+        this(targetDataSource, Metrics.globalRegistry);
+    }
+
+    TenantAwareDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
         super(targetDataSource);
+        this.bindingSet = Counter.builder("tenant.binding.set")
+                .description("app.tenant_id written on connection checkout (tenant changed)")
+                .register(meterRegistry);
+        this.bindingSkip = Counter.builder("tenant.binding.skip")
+                .description("app.tenant_id already bound on the physical connection")
+                .register(meterRegistry);
     }
 
     @Override
@@ -43,12 +78,34 @@ public class TenantAwareDataSource extends DelegatingDataSource {
         String tenant = TenantContext.hasTenantContext()
                 ? TenantContext.getCurrentTenantId().toString()
                 : "";
-        try (PreparedStatement ps = conn.prepareStatement(SET_TENANT_SQL)) {
-            ps.setString(1, tenant);
-            ps.execute();
+        Connection physical = null;
+        try {
+            physical = physicalConnection(conn);
+            if (physical != null && tenant.equals(appliedTenants.getIfPresent(physical))) {
+                bindingSkip.increment();
+                return;
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(SET_TENANT_SQL)) {
+                ps.setString(1, tenant);
+                ps.execute();
+            }
+            bindingSet.increment();
+
+            if (physical != null) {
+                if (conn.getAutoCommit()) {
+                    appliedTenants.put(physical, tenant);
+                } else {
+                    // Açık transaction'da rollback değeri geri alabilir — güvenme
+                    appliedTenants.invalidate(physical);
+                }
+            }
         } catch (SQLException e) {
             // set_config başarısızsa bağlantıyı belirsiz tenant durumuyla
             // kullanıma/poola bırakma — kapat ve hatayı yükselt (fail-closed).
+            if (physical != null) {
+                appliedTenants.invalidate(physical);
+            }
             try {
                 conn.close();
             } catch (SQLException ignored) {
@@ -57,4 +114,17 @@ public class TenantAwareDataSource extends DelegatingDataSource {
             throw e;
         }
     }
+
+    /**
+     * Pool proxy'sinin (Hikari) arkasındaki fiziksel bağlantı; her checkout'ta
+     * yeni proxy döndüğü için takip bunun üzerinden yapılır. Unwrap
+     * desteklenmiyorsa null → her checkout'ta set edilir (eski davranış).
+     */
+    private static Connection physicalConnection(Connection conn) {
+        try {
+            return conn.isWrapperFor(Connection.class) ? conn.unwrap(Connection.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
 }
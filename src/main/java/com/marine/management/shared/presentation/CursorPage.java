@@ -0,0 +1,25 @@
+package com.marine.management.shared.presentation;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated list.
+ *
+ * No total count: pass {@code nextCursor} back to get the following page;
+ * it is null on the last page.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int size
+) {
+    public CursorPage {
+        content = content != null ? List.copyOf(content) : List.of();
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext, size);
+    }
+}
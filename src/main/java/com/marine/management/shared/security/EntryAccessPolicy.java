@@ -11,6 +11,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -244,36 +246,65 @@ public class EntryAccessPolicy {
      * - CAPTAIN: All DRAFT + PENDING_CAPTAIN + PENDING_MANAGER (sees everything)
      */
     public Specification<FinancialEntry> getPendingSpecification(User user) {
+        PendingScope scope = getPendingScope(user);
+
+        // No pending items
+        if (scope.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+
+        if (scope.createdById() == null) {
+            return (root, query, cb) -> root.get("status").in(scope.statuses());
+        }
+
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("createdById"), scope.createdById()),
+                root.get("status").in(scope.statuses())
+        );
+    }
+
+    /**
+     * Pending approval scope as plain values (for projection queries).
+     * Same rules as getPendingSpecification.
+     */
+    public PendingScope getPendingScope(User user) {
         Role role = user.getRoleEnum();
 
         // Captain: Sees everything pending (all DRAFTs + all pending approvals)
         if (role.hasPermission(Permission.ENTRY_APPROVE_CAPTAIN)) {
-            return (root, query, cb) -> root.get("status").in(
+            return new PendingScope(EnumSet.of(
                     EntryStatus.DRAFT,            // 🆕 Tüm DRAFT'lar
                     EntryStatus.PENDING_CAPTAIN,
                     EntryStatus.PENDING_MANAGER
-            );
+            ), null);
         }
 
-        logger.info("Role: {}, hasApproveCapt: {}",
-                user.getRoleEnum(),
-                user.getRoleEnum().hasPermission(Permission.ENTRY_APPROVE_CAPTAIN));
-
         // Manager: Only PENDING_MANAGER
         if (role.hasPermission(Permission.ENTRY_APPROVE_MANAGER)) {
-            return (root, query, cb) -> cb.equal(root.get("status"), EntryStatus.PENDING_MANAGER);
+            return new PendingScope(EnumSet.of(EntryStatus.PENDING_MANAGER), null);
         }
 
         // Crew: Own DRAFT entries only (REJECTED removed - it's final)
         if (role.hasPermission(Permission.ENTRY_SUBMIT)) {
-            return (root, query, cb) -> cb.and(
-                    cb.equal(root.get("createdById"), user.getUserId()),
-                    cb.equal(root.get("status"), EntryStatus.DRAFT)  // 🆕 Sadece DRAFT
-            );
+            return new PendingScope(EnumSet.of(EntryStatus.DRAFT), user.getUserId());
         }
 
-        // No pending items
-        return (root, query, cb) -> cb.disjunction();
+        return new PendingScope(Set.of(), null);
+    }
+
+    /**
+     * Statuses in the user's pending list; createdById non-null limits it to
+     * that creator's entries.
+     */
+    public record PendingScope(Set<EntryStatus> statuses, UUID createdById) {
+
+        public PendingScope {
+            statuses = Set.copyOf(statuses);
+        }
+
+        public boolean isEmpty() {
+            return statuses.isEmpty();
+        }
     }
 
     /**
@@ -0,0 +1,157 @@
+package com.marine.management.shared.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.marine.management.modules.auth.infrastructure.VerifiedToken;
+import com.marine.management.modules.organization.domain.events.OrganizationChangedEvent;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.modules.users.infrastructure.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of authenticated principals (User + Organization).
+ *
+ * KEY: user ID + token version (JWT "uid" / "ver" claims).
+ * A token whose version no longer matches the user's is never resolved —
+ * password change, password reset and deactivation bump the version.
+ *
+ * INVALIDATION:
+ * - UserService profile/role/password/activation changes and deletion
+ *   evict the user after commit.
+ * - OrganizationChangedEvent (onboarding setup, subscription) evicts every
+ *   principal of that organization after commit.
+ * - TTL ({@code app.security.principal-cache.ttl}) bounds staleness for
+ *   anything that changes rows without going through these hooks.
+ *
+ * RACE GUARD:
+ * Same as ReportCache: a principal loaded while an eviction happened is
+ * returned but not kept, so a load read before a commit cannot outlive the
+ * eviction for that commit.
+ *
+ * Cached users are detached entities shared between requests of the same
+ * user — treat them as read-only snapshots.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private static final long MAX_ENTRIES = 10_000;
+
+    record Key(UUID userId, int tokenVersion) {}
+
+    private final UserRepository userRepository;
+    private final Cache<Key, User> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            @Value("${app.security.principal-cache.ttl:60s}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Resolves the principal for a verified token.
+     *
+     * @return the user, or empty when the user no longer exists or the
+     *         token was revoked (version mismatch)
+     */
+    public Optional<User> resolve(VerifiedToken token) {
+        if (token.userId() == null) {
+            // "uid" claim'i olmayan eski token — e-posta ile, cache'siz
+            return userRepository.findByEmailWithOrganization(token.subject());
+        }
+
+        return resolve(token.userId(), token.tokenVersion());
+    }
+
+    /**
+     * Resolves the principal by user ID and the token version it was
+     * authenticated with (long-lived connections re-check with this).
+     *
+     * @return the user, or empty when the user no longer exists or the
+     *         version was revoked
+     */
+    public Optional<User> resolve(UUID userId, int tokenVersion) {
+        Key key = new Key(userId, tokenVersion);
+        User cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long before = generation.get();
+
+        Optional<User> loaded = userRepository.findByIdWithOrganization(userId)
+                .filter(user -> user.getTokenVersion() == tokenVersion);
+
+        loaded.ifPresent(user -> {
+            cache.put(key, user);
+            if (generation.get() != before) {
+                // Yükleme sırasında invalidation oldu — sonucu cache'te tutma
+                cache.invalidate(key);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Evicts every cached principal of the user (all token versions).
+     */
+    public void evictUser(UUID userId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+        log.debug("Principal cache evicted: userId={}", userId);
+    }
+
+    /**
+     * Evicts every cached principal belonging to the organization.
+     */
+    public void evictOrganization(Long organizationId) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(user -> organizationId.equals(user.getOrganizationId()));
+        log.debug("Principal cache evicted: organizationId={}", organizationId);
+    }
+
+    /**
+     * Evicts the user once the current transaction commits
+     * (immediately when no transaction is active).
+     */
+    public void evictUserAfterCommit(UUID userId) {
+        afterCommit(() -> evictUser(userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        evictOrganization(event.organizationId());
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.marine.management.shared.security;
 
+import java.util.UUID;
 
 /**
  * Extension of Spring Security UserDetails for multi-tenant systems.
@@ -24,4 +25,15 @@ public interface TenantAwareUserDetails {
      * @return role name (e.g., "ADMIN", "USER")
      */
     String getRole();
+
+    /**
+     * Returns the stable user ID for the JWT "uid" claim (principal cache key).
+     */
+    UUID getUserId();
+
+    /**
+     * Returns the access token version for the JWT "ver" claim.
+     * Tokens carrying an older version are rejected.
+     */
+    int getTokenVersion();
 }
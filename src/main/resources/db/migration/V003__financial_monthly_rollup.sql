@@ -0,0 +1,149 @@
+-- ============================================================
+-- Aylık rapor rollup tablosu
+--
+-- Yıllık/dönem raporları her istekte financial_entries'i yeniden
+-- topluyordu; 5+ yıllık geçmişi olan yatlarda maliyet kayıt sayısıyla
+-- büyüyordu. Bu tablo (tenant, yıl, ay, tür, raporlama kategorisi,
+-- kategori, ana kategori, who) kırılımında base_amount toplamını ve
+-- kayıt sayısını tutar — rapor maliyeti kategori sayısıyla büyür.
+--
+-- Tek yazma yolu trigger'dır: JPA (approveByManager, recordPayment,
+-- reject, softDelete ...), JdbcTemplate ve ileride gelecek toplu
+-- yollar aynı transaction içinde rollup'ı günceller. Uygulama kodu
+-- bu tabloya YAZMAZ (entity @Immutable).
+--
+-- reporting_category = EntryStatus.getReportingCategory():
+--   ACTUAL    → APPROVED, PARTIALLY_PAID, PAID
+--   COMMITTED → PENDING_CAPTAIN, PENDING_MANAGER
+--   DRAFT / REJECTED (NON_FINANCIAL) rollup'a hiç girmez.
+-- ============================================================
+
+CREATE TABLE financial_monthly_rollup (
+    id                       BIGSERIAL PRIMARY KEY,
+    tenant_id                BIGINT        NOT NULL,
+    year                     INT           NOT NULL,
+    month                    INT           NOT NULL,
+    entry_type               VARCHAR(20)   NOT NULL,
+    reporting_category       VARCHAR(20)   NOT NULL,
+    category_id              UUID          NOT NULL,
+    tenant_main_category_id  UUID,
+    tenant_who_id            UUID,
+    total                    NUMERIC(19,4) NOT NULL DEFAULT 0,
+    entry_count              BIGINT        NOT NULL DEFAULT 0,
+    -- NULL ana kategori / who aynı kova sayılmalı (PG15+)
+    CONSTRAINT uq_financial_monthly_rollup UNIQUE NULLS NOT DISTINCT (
+        tenant_id, year, month, entry_type, reporting_category,
+        category_id, tenant_main_category_id, tenant_who_id
+    )
+);
+
+CREATE INDEX idx_financial_monthly_rollup_tenant_period
+    ON financial_monthly_rollup(tenant_id, year, month);
+
+-- Tek satırın rollup'a katkısını ekler (p_sign = 1) veya geri alır (p_sign = -1)
+CREATE FUNCTION financial_rollup_apply(
+    p_tenant_id  BIGINT,
+    p_entry_date DATE,
+    p_entry_type VARCHAR,
+    p_status     VARCHAR,
+    p_category   UUID,
+    p_main_cat   UUID,
+    p_who        UUID,
+    p_amount     NUMERIC,
+    p_sign       INT
+) RETURNS VOID AS $$
+DECLARE
+    v_reporting_category VARCHAR(20);
+BEGIN
+    v_reporting_category := CASE
+        WHEN p_status IN ('APPROVED', 'PARTIALLY_PAID', 'PAID') THEN 'ACTUAL'
+        WHEN p_status IN ('PENDING_CAPTAIN', 'PENDING_MANAGER') THEN 'COMMITTED'
+        ELSE NULL
+    END;
+
+    IF v_reporting_category IS NULL THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO financial_monthly_rollup (
+        tenant_id, year, month, entry_type, reporting_category,
+        category_id, tenant_main_category_id, tenant_who_id,
+        total, entry_count
+    ) VALUES (
+        p_tenant_id,
+        EXTRACT(YEAR FROM p_entry_date)::INT,
+        EXTRACT(MONTH FROM p_entry_date)::INT,
+        p_entry_type,
+        v_reporting_category,
+        p_category, p_main_cat, p_who,
+        p_sign * p_amount,
+        p_sign
+    )
+    ON CONFLICT ON CONSTRAINT uq_financial_monthly_rollup
+    DO UPDATE SET total       = financial_monthly_rollup.total + EXCLUDED.total,
+                  entry_count = financial_monthly_rollup.entry_count + EXCLUDED.entry_count;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION financial_entries_rollup_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    -- Eski katkıyı geri al (soft-delete edilmiş satırın katkısı zaten yok)
+    IF TG_OP IN ('UPDATE', 'DELETE') AND NOT OLD.is_deleted THEN
+        PERFORM financial_rollup_apply(
+            OLD.tenant_id, OLD.entry_date, OLD.entry_type, OLD.status,
+            OLD.category_id, OLD.tenant_main_category_id, OLD.tenant_who_id,
+            OLD.base_amount, -1);
+    END IF;
+
+    -- Yeni katkıyı ekle
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NOT NEW.is_deleted THEN
+        PERFORM financial_rollup_apply(
+            NEW.tenant_id, NEW.entry_date, NEW.entry_type, NEW.status,
+            NEW.category_id, NEW.tenant_main_category_id, NEW.tenant_who_id,
+            NEW.base_amount, 1);
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_financial_entries_rollup_insert_delete
+    AFTER INSERT OR DELETE ON financial_entries
+    FOR EACH ROW EXECUTE FUNCTION financial_entries_rollup_trigger();
+
+-- Hibernate tüm kolonları UPDATE'e yazar; yalnızca rollup'ı etkileyen
+-- kolonlar gerçekten değiştiğinde tetiklenir (açıklama/etiket düzenlemeleri ücretsiz).
+CREATE TRIGGER trg_financial_entries_rollup_update
+    AFTER UPDATE ON financial_entries
+    FOR EACH ROW
+    WHEN (OLD.status                  IS DISTINCT FROM NEW.status
+       OR OLD.entry_type              IS DISTINCT FROM NEW.entry_type
+       OR OLD.entry_date              IS DISTINCT FROM NEW.entry_date
+       OR OLD.base_amount             IS DISTINCT FROM NEW.base_amount
+       OR OLD.category_id             IS DISTINCT FROM NEW.category_id
+       OR OLD.tenant_main_category_id IS DISTINCT FROM NEW.tenant_main_category_id
+       OR OLD.tenant_who_id           IS DISTINCT FROM NEW.tenant_who_id
+       OR OLD.is_deleted              IS DISTINCT FROM NEW.is_deleted)
+    EXECUTE FUNCTION financial_entries_rollup_trigger();
+
+-- Mevcut kayıtlardan backfill
+INSERT INTO financial_monthly_rollup (
+    tenant_id, year, month, entry_type, reporting_category,
+    category_id, tenant_main_category_id, tenant_who_id,
+    total, entry_count
+)
+SELECT e.tenant_id,
+       EXTRACT(YEAR FROM e.entry_date)::INT,
+       EXTRACT(MONTH FROM e.entry_date)::INT,
+       e.entry_type,
+       CASE WHEN e.status IN ('APPROVED', 'PARTIALLY_PAID', 'PAID') THEN 'ACTUAL'
+            ELSE 'COMMITTED' END,
+       e.category_id,
+       e.tenant_main_category_id,
+       e.tenant_who_id,
+       SUM(e.base_amount),
+       COUNT(*)
+FROM financial_entries e
+WHERE e.is_deleted = false
+  AND e.status IN ('APPROVED', 'PARTIALLY_PAID', 'PAID', 'PENDING_CAPTAIN', 'PENDING_MANAGER')
+GROUP BY 1, 2, 3, 4, 5, 6, 7, 8;
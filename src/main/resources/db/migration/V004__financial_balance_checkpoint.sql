@@ -0,0 +1,64 @@
+-- ============================================================
+-- Kapanmış aylar için bakiye checkpoint'leri
+--
+-- findCarryOverBalance dönem başından önceki TÜM ACTUAL kayıtları
+-- topluyordu; maliyet tenant geçmişiyle sınırsız büyüyordu.
+-- Checkpoint = ilgili ayın sonundaki kümülatif net bakiye
+-- (ACTUAL gelir - gider). Carry-over artık:
+--   son checkpoint + sonraki ayların rollup net'i + kısmi ay delta'sı
+--
+-- GEÇERSİZ KILMA:
+-- Kapanmış bir aya (bugünün ayından önce) ACTUAL katkı değiştiğinde
+-- (geriye tarihli kayıt, onay, silme, tutar düzeltme ...) rollup
+-- trigger'ı üzerinden o ay ve sonrasındaki checkpoint'ler silinir.
+-- Açık aydaki değişiklikler checkpoint'lere dokunmaz — ek maliyet yok.
+--
+-- YARIŞ KOŞULU:
+-- Rapor checkpoint yazarken eşzamanlı bir geriye tarihli kayıt
+-- commit olursa eski snapshot'tan hesaplanmış bakiye yazılabilirdi.
+-- financial_balance_checkpoint_version her geçersiz kılmada artar;
+-- uygulama checkpoint'i yalnızca okuduğu versiyon hâlâ geçerliyse
+-- (satır FOR UPDATE ile kilitlenerek) yazar.
+-- ============================================================
+
+CREATE TABLE financial_balance_checkpoint (
+    tenant_id        BIGINT        NOT NULL,
+    year             INT           NOT NULL,
+    month            INT           NOT NULL,
+    closing_balance  NUMERIC(19,4) NOT NULL,
+    created_at       TIMESTAMP     NOT NULL DEFAULT now(),
+    PRIMARY KEY (tenant_id, year, month)
+);
+
+CREATE TABLE financial_balance_checkpoint_version (
+    tenant_id  BIGINT PRIMARY KEY,
+    version    BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE FUNCTION financial_checkpoint_invalidate_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    -- Açık ay (ve ilerisi) hiçbir checkpoint'i etkilemez
+    IF NEW.year * 100 + NEW.month >=
+       EXTRACT(YEAR FROM CURRENT_DATE)::INT * 100 + EXTRACT(MONTH FROM CURRENT_DATE)::INT THEN
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO financial_balance_checkpoint_version (tenant_id, version)
+    VALUES (NEW.tenant_id, 1)
+    ON CONFLICT (tenant_id)
+    DO UPDATE SET version = financial_balance_checkpoint_version.version + 1;
+
+    DELETE FROM financial_balance_checkpoint
+    WHERE tenant_id = NEW.tenant_id
+      AND year * 100 + month >= NEW.year * 100 + NEW.month;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rollup satırları yalnızca INSERT/UPDATE ile değişir (silinmez)
+CREATE TRIGGER trg_financial_monthly_rollup_checkpoint
+    AFTER INSERT OR UPDATE ON financial_monthly_rollup
+    FOR EACH ROW
+    WHEN (NEW.reporting_category = 'ACTUAL')
+    EXECUTE FUNCTION financial_checkpoint_invalidate_trigger();
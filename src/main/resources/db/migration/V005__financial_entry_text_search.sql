@@ -0,0 +1,37 @@
+-- ============================================================
+-- Kayıt metin araması için trigram index
+--
+-- searchText / fromCriteria metin filtresi dört kolonda
+-- lower(kolon) LIKE '%terim%' yapıyordu; baştaki % yüzünden
+-- hiçbir B-tree index kullanılamıyor, her arama tenant'ın tüm
+-- satırlarını tarıyordu (büyük tenant'larda vendor araması saniyeler).
+--
+-- search_text: aranan dört kolonun küçük harfli birleşimi
+-- (description, receipt_number, vendor, recipient). Kolonlar
+-- satır sonu ile ayrılır — tek satırlık arama terimi iki kolonun
+-- sınırından eşleşemez.
+--
+-- GIN (tenant_id, search_text gin_trgm_ops):
+-- - '%terim%' LIKE trigram index ile çözülür (terim >= 3 karakter)
+-- - btree_gin sayesinde tenant_id aynı index'te — başka tenant'ın
+--   satırları bitmap'e hiç girmez
+-- - word_similarity(terim, search_text) ile alaka sıralaması
+--
+-- NOT: Generated kolon eklemek tabloyu yeniden yazar (tek seferlik).
+-- ============================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE financial_entries
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(
+            coalesce(description, '')    || E'\n' ||
+            coalesce(receipt_number, '') || E'\n' ||
+            coalesce(vendor, '')         || E'\n' ||
+            coalesce(recipient, '')
+        )
+    ) STORED;
+
+CREATE INDEX idx_financial_entries_search_trgm
+    ON financial_entries USING gin (tenant_id, search_text gin_trgm_ops);
@@ -0,0 +1,14 @@
+-- ============================================================
+-- Kullanıcı başına access token versiyonu
+--
+-- JWT "ver" claim'i bu değeri taşır. Şifre değişimi, şifre
+-- sıfırlama ve deaktivasyon değeri artırır → o ana kadar
+-- üretilmiş access token'lar bir sonraki istekte reddedilir.
+--
+-- Ayrıca principal cache'inin anahtarıdır (user id + versiyon).
+-- Mevcut satırlar 0 ile başlar; "ver" claim'i olmayan eski
+-- token'lar da 0 kabul edilir.
+-- ============================================================
+
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- ============================================================
+-- Onay kuyruğu (pending queue) için kısmi index
+--
+-- /pending/scroll: status IN (DRAFT, PENDING_CAPTAIN,
+-- PENDING_MANAGER) kayıtlarını (entry_date DESC, id DESC) sırasıyla
+-- keyset ile okur. Bekleyen kayıtlar tablonun küçük bir kısmıdır;
+-- kısmi index yalnızca onları tutar, sayfa okuması sıralama
+-- gerektirmeden index sırasıyla LIMIT'te durur.
+-- Crew kapsamı (kendi DRAFT'ları) created_by_id ile filtrelenir.
+-- ============================================================
+
+CREATE INDEX idx_financial_entries_pending_queue
+    ON financial_entries (tenant_id, entry_date DESC, id DESC)
+    INCLUDE (status, created_by_id)
+    WHERE is_deleted = false
+      AND status IN ('DRAFT', 'PENDING_CAPTAIN', 'PENDING_MANAGER');
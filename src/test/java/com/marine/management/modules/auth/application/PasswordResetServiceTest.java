@@ -0,0 +1,86 @@
+package com.marine.management.modules.auth.application;
+
+import com.marine.management.modules.auth.infrastructure.VerifiedToken;
+import com.marine.management.modules.finance.TestDataBuilder;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.modules.users.infrastructure.UserRepository;
+import com.marine.management.shared.security.PrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PasswordResetService
+ * Tests that a reset revokes access tokens issued before it
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordResetServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PrincipalCache principalCache;
+    private PasswordResetService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userRepository, Duration.ofMinutes(1));
+        service = new PasswordResetService(userRepository, emailService, passwordEncoder, principalCache);
+        user = TestDataBuilder.createCrew(TENANT_ID);
+    }
+
+    @Test
+    void resetPassword_shouldRejectTokenIssuedBeforeReset() {
+        String resetToken = user.generatePasswordResetToken();
+        VerifiedToken issuedBefore = token(user.getTokenVersion());
+        when(userRepository.findByIdWithOrganization(user.getUserId())).thenReturn(Optional.of(user));
+        when(userRepository.findByPasswordResetToken(resetToken)).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode("new-password-1")).thenReturn("$2a$10$newHash");
+
+        // Reset öncesi token geçerli ve cache'te
+        assertThat(principalCache.resolve(issuedBefore)).contains(user);
+
+        service.resetPassword(resetToken, "new-password-1");
+
+        assertThat(principalCache.resolve(issuedBefore)).isEmpty();
+        assertThat(principalCache.resolve(token(user.getTokenVersion()))).contains(user);
+        assertThat(user.getPasswordResetToken()).isNull();
+    }
+
+    @Test
+    void resetPassword_shouldBumpTokenVersion() {
+        int before = user.getTokenVersion();
+        String resetToken = user.generatePasswordResetToken();
+        when(userRepository.findByPasswordResetToken(resetToken)).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$newHash");
+
+        service.resetPassword(resetToken, "new-password-1");
+
+        assertThat(user.getTokenVersion()).isEqualTo(before + 1);
+        verify(userRepository).save(user);
+    }
+
+    private VerifiedToken token(int tokenVersion) {
+        return new VerifiedToken(user.getEmail(), TENANT_ID, "CREW", user.getUserId(), tokenVersion,
+                Instant.now().plusSeconds(60));
+    }
+}
@@ -0,0 +1,148 @@
+package com.marine.management.modules.auth.infrastructure;
+
+import com.marine.management.shared.security.TenantAwareUserDetails;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JwtUtil
+ * Tests single-parse verification, the verified-token cache and error propagation
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKey123456789012345678901234567890";
+    private static final String OTHER_SECRET = "otherSecretKey12345678901234567890123456789";
+    private static final long ONE_HOUR = 3_600_000L;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET, ONE_HOUR, ONE_HOUR);
+    }
+
+    @Test
+    void verify_shouldReturnSubjectTenantAndRole() {
+        String token = jwtUtil.generateToken(new TestUser("captain@yacht.com", 42L, "CAPTAIN"));
+
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        assertThat(verified.subject()).isEqualTo("captain@yacht.com");
+        assertThat(verified.tenantId()).isEqualTo(42L);
+        assertThat(verified.role()).isEqualTo("CAPTAIN");
+    }
+
+    @Test
+    void verify_shouldCarryUserIdAndTokenVersion() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(new TestUser("crew@yacht.com", 1L, "CREW", userId, 3));
+
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.tokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void verify_shouldServeRepeatedTokenFromCache() {
+        String token = jwtUtil.generateToken(new TestUser("crew@yacht.com", 1L, "CREW"));
+
+        VerifiedToken first = jwtUtil.verify(token);
+        VerifiedToken second = jwtUtil.verify(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verify_shouldRejectTokenSignedWithOtherKey() {
+        String foreign = new JwtUtil(OTHER_SECRET, ONE_HOUR, ONE_HOUR)
+                .generateToken(new TestUser("crew@yacht.com", 1L, "CREW"));
+
+        assertThatThrownBy(() -> jwtUtil.verify(foreign)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void verify_shouldThrowExpiredForExpiredToken() {
+        String expired = new JwtUtil(SECRET, -1_000L, ONE_HOUR)
+                .generateToken(new TestUser("crew@yacht.com", 1L, "CREW"));
+
+        assertThatThrownBy(() -> jwtUtil.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+        // Hata cache'lenmez — ikinci deneme de aynı exception'ı verir
+        assertThatThrownBy(() -> jwtUtil.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void verify_shouldRejectMalformedAndEmptyTokens() {
+        assertThatThrownBy(() -> jwtUtil.verify("not.a.jwt")).isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.verify(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void isTokenValid_shouldRequireMatchingSubject() {
+        TestUser user = new TestUser("captain@yacht.com", 42L, "CAPTAIN");
+        VerifiedToken verified = jwtUtil.verify(jwtUtil.generateToken(user));
+
+        assertThat(jwtUtil.isTokenValid(verified, user)).isTrue();
+        assertThat(jwtUtil.isTokenValid(verified, new TestUser("other@yacht.com", 42L, "CAPTAIN"))).isFalse();
+    }
+
+    @Test
+    void constructor_shouldRejectShortSecret() {
+        assertThatThrownBy(() -> new JwtUtil("short", ONE_HOUR, ONE_HOUR))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private record TestUser(String email, Long tenantId, String role, UUID userId, int tokenVersion)
+            implements UserDetails, TenantAwareUserDetails {
+
+        TestUser(String email, Long tenantId, String role) {
+            this(email, tenantId, role, UUID.randomUUID(), 0);
+        }
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return List.of();
+        }
+
+        @Override
+        public String getPassword() {
+            return null;
+        }
+
+        @Override
+        public String getUsername() {
+            return email;
+        }
+
+        @Override
+        public Long getTenantId() {
+            return tenantId;
+        }
+
+        @Override
+        public String getRole() {
+            return role;
+        }
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public int getTokenVersion() {
+            return tokenVersion;
+        }
+    }
+}
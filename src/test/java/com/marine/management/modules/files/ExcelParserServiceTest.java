@@ -0,0 +1,161 @@
+package com.marine.management.modules.files;
+
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ExcelParserService
+ * Tests streaming row parsing, row numbering and repeated passes over one upload
+ */
+class ExcelParserServiceTest {
+
+    private ExcelParserService parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new ExcelParserService();
+    }
+
+    @Test
+    void shouldStreamDataRows_withExcelRowNumbers() throws IOException {
+        List<Integer> rowNumbers = new ArrayList<>();
+        List<ExcelRow> rows = new ArrayList<>();
+
+        try (ExcelParserService.ExcelWorkbook workbook = parser.open(sampleFile())) {
+            int count = workbook.forEachRow((rowNumber, row) -> {
+                rowNumbers.add(rowNumber);
+                rows.add(row);
+            });
+
+            assertThat(count).isEqualTo(2);
+        }
+
+        // Satır 3 (tutar yok) atlanır, satır 4 boş
+        assertThat(rowNumbers).containsExactly(2, 5);
+
+        ExcelRow expense = rows.get(0);
+        assertThat(expense.date()).isEqualTo(LocalDate.of(2022, 1, 15));
+        assertThat(expense.category()).isEqualTo("Fuel");
+        assertThat(expense.entryType()).isEqualTo(RecordType.EXPENSE);
+        assertThat(expense.amount()).isEqualByComparingTo("1500");
+        assertThat(expense.description()).isEqualTo("Diesel");
+
+        ExcelRow income = rows.get(1);
+        assertThat(income.date()).isEqualTo(LocalDate.of(2022, 3, 1));
+        assertThat(income.isIncome()).isTrue();
+        assertThat(income.amount()).isEqualByComparingTo(new BigDecimal("35000.50"));
+    }
+
+    @Test
+    void shouldAllowSeveralPassesOverSameUpload() throws IOException {
+        try (ExcelParserService.ExcelWorkbook workbook = parser.open(sampleFile())) {
+            assertThat(workbook.forEachRow((rowNumber, row) -> { })).isEqualTo(2);
+            assertThat(workbook.forEachRow((rowNumber, row) -> { })).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldTreatSharedStringCellWithoutValueAsEmpty() throws IOException {
+        // Açıklama hücresi (F2) <c r="F2" t="s"/> — değeri olmayan shared string
+        MockMultipartFile file = rewriteSheet(sampleFile(),
+                xml -> xml.replaceAll("<c r=\"F2\"([^>]*)><v>[^<]*</v></c>", "<c r=\"F2\"$1/>"));
+        List<ExcelRow> rows = new ArrayList<>();
+
+        try (ExcelParserService.ExcelWorkbook workbook = parser.open(file)) {
+            assertThat(workbook.forEachRow((rowNumber, row) -> rows.add(row))).isEqualTo(2);
+        }
+
+        assertThat(rows.get(0).category()).isEqualTo("Fuel");
+        assertThat(rows.get(0).description()).isNull();
+    }
+
+    @Test
+    void shouldRejectNonExcelFile() {
+        MockMultipartFile file = new MockMultipartFile("file", "data.csv", "text/csv", new byte[]{1});
+
+        assertThatThrownBy(() -> parser.open(file))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockMultipartFile rewriteSheet(MockMultipartFile file, UnaryOperator<String> rewrite)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boolean rewritten = false;
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(file.getBytes()));
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                byte[] content = in.readAllBytes();
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    String xml = new String(content, StandardCharsets.UTF_8);
+                    String changed = rewrite.apply(xml);
+                    rewritten = !changed.equals(xml);
+                    content = changed.getBytes(StandardCharsets.UTF_8);
+                }
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                zip.write(content);
+                zip.closeEntry();
+            }
+        }
+        assertThat(rewritten).as("sheet XML rewritten").isTrue();
+        return new MockMultipartFile("file", file.getOriginalFilename(), file.getContentType(), out.toByteArray());
+    }
+
+    private static MockMultipartFile sampleFile() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+
+            Sheet sheet = workbook.createSheet("Data");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd.mm.yy"));
+
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Tarih");
+            header.createCell(2).setCellValue("Kategori");
+
+            Row expense = sheet.createRow(1);
+            expense.createCell(0).setCellValue(LocalDate.of(2022, 1, 15));
+            expense.getCell(0).setCellStyle(dateStyle);
+            expense.createCell(1).setCellValue("Yakıt");
+            expense.createCell(2).setCellValue("Fuel");
+            expense.createCell(3).setCellValue("1.500 €");
+            expense.createCell(5).setCellValue("Diesel");
+
+            Row noAmount = sheet.createRow(2);
+            noAmount.createCell(0).setCellValue("02.01.22");
+            noAmount.createCell(1).setCellValue("Not");
+            noAmount.createCell(2).setCellValue("Fuel");
+
+            Row income = sheet.createRow(4);
+            income.createCell(0).setCellValue("01.03.22");
+            income.createCell(1).setCellValue("Charter");
+            income.createCell(2).setCellValue("Charter Income");
+            income.createCell(4).setCellValue(35000.50);
+
+            workbook.write(out);
+            return new MockMultipartFile("file", "import.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+}
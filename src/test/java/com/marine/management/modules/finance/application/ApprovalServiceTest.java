@@ -3,13 +3,18 @@ package com.marine.management.modules.finance.application;
 import com.marine.management.modules.finance.TestDataBuilder;
 import com.marine.management.modules.finance.domain.entities.FinancialEntry;
 import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.RecordType;
 import com.marine.management.modules.finance.domain.vo.Money;
 import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
+import com.marine.management.modules.finance.infrastructure.query.KeysetCursor;
+import com.marine.management.modules.finance.presentation.dto.PendingEntryDto;
 import com.marine.management.modules.organization.domain.Organization;
 import com.marine.management.modules.users.domain.User;
 import com.marine.management.shared.exceptions.EntryNotFoundException;
+import com.marine.management.shared.exceptions.InvalidCursorException;
 import com.marine.management.shared.multitenant.TenantContext;
 import com.marine.management.shared.security.EntryAccessPolicy;
+import com.marine.management.shared.security.EntryAccessPolicy.PendingScope;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +24,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.math.BigDecimal;
@@ -478,10 +485,8 @@ class ApprovalServiceTest {
         FinancialEntry entry1 = TestDataBuilder.createPendingCaptainEntry(crew);
         FinancialEntry entry2 = TestDataBuilder.createPendingCaptainEntry(crew);
 
-        when(entryRepository.findById(entry1.getEntryId()))
-                .thenReturn(Optional.of(entry1));
-        when(entryRepository.findById(entry2.getEntryId()))
-                .thenReturn(Optional.of(entry2));
+        when(entryRepository.findAllById(any()))
+                .thenReturn(java.util.List.of(entry1, entry2));
         doNothing().when(accessPolicy).checkApproveAccess(any(), any());
 
         // When
@@ -493,6 +498,8 @@ class ApprovalServiceTest {
         // Then
         assertThat(result.success()).isEqualTo(2);
         assertThat(result.failed()).isZero();
+        verify(entryRepository, times(1)).findAllById(any());
+        verify(entryRepository, never()).findById(any());
     }
 
     @Test
@@ -501,10 +508,8 @@ class ApprovalServiceTest {
         FinancialEntry entry1 = TestDataBuilder.createPendingCaptainEntry(crew);
         UUID nonExistentId = UUID.randomUUID();
 
-        when(entryRepository.findById(entry1.getEntryId()))
-                .thenReturn(Optional.of(entry1));
-        when(entryRepository.findById(nonExistentId))
-                .thenReturn(Optional.empty());
+        when(entryRepository.findAllById(any()))
+                .thenReturn(java.util.List.of(entry1));
         doNothing().when(accessPolicy).checkApproveAccess(any(), any());
 
         // When
@@ -516,6 +521,141 @@ class ApprovalServiceTest {
         // Then
         assertThat(result.success()).isEqualTo(1);
         assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.results())
+                .extracting(ApprovalService.BulkItemResult::entryId, ApprovalService.BulkItemResult::success)
+                .containsExactly(tuple(entry1.getEntryId(), true), tuple(nonExistentId, false));
+    }
+
+    @Test
+    void shouldBulkApprove_ReportPerEntryStatusAndLeaveInvalidEntriesUnchanged() {
+        // Given
+        FinancialEntry captainLevel = TestDataBuilder.createPendingCaptainEntry(crew);
+        FinancialEntry managerLevel = TestDataBuilder.createPendingManagerEntry(crew);
+        FinancialEntry draft = TestDataBuilder.createDraftEntry(crew);
+
+        when(entryRepository.findAllById(any()))
+                .thenReturn(java.util.List.of(captainLevel, managerLevel, draft));
+        doNothing().when(accessPolicy).checkApproveAccess(any(), any());
+
+        // When
+        var result = approvalService.bulkApprove(
+                java.util.List.of(captainLevel.getEntryId(), managerLevel.getEntryId(), draft.getEntryId()),
+                captain
+        );
+
+        // Then
+        assertThat(result.success()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.results().get(2).error()).contains("not pending");
+        assertThat(managerLevel.getStatus()).isEqualTo(EntryStatus.APPROVED);
+        assertThat(draft.getStatus()).isEqualTo(EntryStatus.DRAFT);
+    }
+
+    @Test
+    void shouldBulkApprove_FailEntriesApproverCannotApprove() {
+        // Given
+        FinancialEntry entry = TestDataBuilder.createPendingCaptainEntry(crew);
+
+        when(entryRepository.findAllById(any()))
+                .thenReturn(java.util.List.of(entry));
+        doThrow(new AccessDeniedException("Only Captain can approve at this level"))
+                .when(accessPolicy).checkApproveAccess(entry, manager);
+
+        // When
+        var result = approvalService.bulkApprove(java.util.List.of(entry.getEntryId()), manager);
+
+        // Then
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(entry.getStatus()).isEqualTo(EntryStatus.PENDING_CAPTAIN);
+    }
+
+    // ============================================
+    // PENDING QUEUE (KEYSET) TESTS
+    // ============================================
+
+    @Test
+    void shouldScrollPending_FirstPageWithNextCursor() {
+        // Given
+        PendingScope scope = new PendingScope(java.util.Set.of(EntryStatus.PENDING_CAPTAIN), null);
+        when(accessPolicy.getPendingScope(captain)).thenReturn(scope);
+        PendingEntryDto newest = pendingRow(java.time.LocalDate.of(2024, 3, 2));
+        PendingEntryDto second = pendingRow(java.time.LocalDate.of(2024, 3, 1));
+        PendingEntryDto extra = pendingRow(java.time.LocalDate.of(2024, 2, 28));
+        when(entryRepository.findPendingQueue(scope.statuses(), null, Limit.of(3)))
+                .thenReturn(java.util.List.of(newest, second, extra));
+
+        // When
+        var page = approvalService.scrollPendingForUser(captain, null, 2);
+
+        // Then
+        assertThat(page.content()).containsExactly(newest, second);
+        assertThat(page.hasNext()).isTrue();
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor());
+        assertThat(next.typedKey()).isEqualTo(second.entryDate());
+        assertThat(next.id()).isEqualTo(second.id());
+    }
+
+    @Test
+    void shouldScrollPending_SeekAfterCursorWithinCrewScope() {
+        // Given
+        PendingScope scope = new PendingScope(java.util.Set.of(EntryStatus.DRAFT), crew.getUserId());
+        when(accessPolicy.getPendingScope(crew)).thenReturn(scope);
+        PendingEntryDto last = pendingRow(java.time.LocalDate.of(2024, 3, 1));
+        String cursor = new KeysetCursor("entryDate", Sort.Direction.DESC,
+                last.entryDate().toString(), last.id()).encode();
+        when(entryRepository.findPendingQueueAfter(any(), any(), any(), any(), any()))
+                .thenReturn(java.util.List.of());
+
+        // When
+        var page = approvalService.scrollPendingForUser(crew, cursor, 20);
+
+        // Then
+        assertThat(page.content()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(entryRepository).findPendingQueueAfter(
+                scope.statuses(), crew.getUserId(), last.entryDate(), last.id(), Limit.of(21));
+    }
+
+    @Test
+    void shouldScrollPending_RejectCursorOfAnotherSort() {
+        when(accessPolicy.getPendingScope(captain))
+                .thenReturn(new PendingScope(java.util.Set.of(EntryStatus.PENDING_CAPTAIN), null));
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC,
+                "2024-03-01T10:00", UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> approvalService.scrollPendingForUser(captain, cursor, 20))
+                .isInstanceOf(InvalidCursorException.class);
+        verify(entryRepository, never()).findPendingQueueAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldScrollPending_EmptyScopeWithoutQuery() {
+        when(accessPolicy.getPendingScope(admin)).thenReturn(new PendingScope(java.util.Set.of(), null));
+
+        var page = approvalService.scrollPendingForUser(admin, null, 20);
+
+        assertThat(page.content()).isEmpty();
+        verify(entryRepository, never()).findPendingQueue(any(), any(), any());
+    }
+
+    @Test
+    void shouldScrollPending_CapOversizedPageAtMaximum() {
+        PendingScope scope = new PendingScope(java.util.Set.of(EntryStatus.PENDING_CAPTAIN), null);
+        when(accessPolicy.getPendingScope(captain)).thenReturn(scope);
+        when(entryRepository.findPendingQueue(scope.statuses(), null, Limit.of(101)))
+                .thenReturn(java.util.List.of());
+
+        var page = approvalService.scrollPendingForUser(captain, null, 500);
+
+        assertThat(page.size()).isEqualTo(100);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    private PendingEntryDto pendingRow(java.time.LocalDate entryDate) {
+        return new PendingEntryDto(UUID.randomUUID(), "EXP-" + entryDate, EntryStatus.PENDING_CAPTAIN,
+                RecordType.EXPENSE, "Fuel", new BigDecimal("10.00"), "EUR", new BigDecimal("10.00"), "EUR",
+                entryDate, null, crew.getUserId(), "Crew Member", null);
     }
 
     // ============================================
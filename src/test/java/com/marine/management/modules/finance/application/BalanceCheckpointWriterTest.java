@@ -0,0 +1,52 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.infrastructure.FinancialBalanceCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BalanceCheckpointWriter
+ * Tests that checkpoint write failures never escape the background task
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceCheckpointWriterTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2023, 12);
+
+    @Mock
+    private FinancialBalanceCheckpointRepository checkpointRepository;
+
+    private BalanceCheckpointWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new BalanceCheckpointWriter(checkpointRepository);
+    }
+
+    @Test
+    void writeAsync_shouldStoreWithReadVersion() {
+        when(checkpointRepository.saveIfUnchanged(TENANT_ID, MONTH, BigDecimal.TEN, 7L)).thenReturn(true);
+
+        writer.writeAsync(TENANT_ID, MONTH, BigDecimal.TEN, 7L);
+
+        verify(checkpointRepository).saveIfUnchanged(TENANT_ID, MONTH, BigDecimal.TEN, 7L);
+    }
+
+    @Test
+    void writeAsync_shouldSwallowDatabaseFailure() {
+        when(checkpointRepository.saveIfUnchanged(TENANT_ID, MONTH, BigDecimal.TEN, 7L))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatCode(() -> writer.writeAsync(TENANT_ID, MONTH, BigDecimal.TEN, 7L)).doesNotThrowAnyException();
+    }
+}
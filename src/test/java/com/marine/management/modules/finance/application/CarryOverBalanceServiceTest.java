@@ -0,0 +1,189 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
+import com.marine.management.modules.finance.infrastructure.FinancialBalanceCheckpointRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialBalanceCheckpointRepository.BalanceCheckpoint;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository.MonthlyTotalProjection;
+import com.marine.management.modules.finance.infrastructure.FinancialMonthlyRollupRepository;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CarryOverBalanceService
+ * Tests checkpoint + rollup delta arithmetic, checkpoint placement and
+ * that checkpoint writes are submitted only after the report commits
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CarryOverBalanceServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @Mock
+    private FinancialEntryReportRepository reportRepository;
+
+    @Mock
+    private FinancialMonthlyRollupRepository rollupRepository;
+
+    @Mock
+    private FinancialBalanceCheckpointRepository checkpointRepository;
+
+    @Mock
+    private BalanceCheckpointWriter checkpointWriter;
+
+    @InjectMocks
+    private CarryOverBalanceService service;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setCurrentTenantId(TENANT_ID);
+        when(checkpointRepository.currentVersion(TENANT_ID)).thenReturn(7L);
+        when(checkpointRepository.findLatestAtOrBefore(eq(TENANT_ID), any())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldSumRollupFromBeginningAndStoreCheckpoint_whenNoCheckpointExists() {
+        List<MonthlyTotalProjection> months = List.of(
+                month(2023, 3, RecordType.INCOME, "1000"),
+                month(2023, 7, RecordType.EXPENSE, "300")
+        );
+        when(rollupRepository.findMonthlyTotals(0, 202312, ReportingCategory.ACTUAL)).thenReturn(months);
+
+        BigDecimal balance = service.getCarryOverBalance(LocalDate.of(2024, 1, 1));
+
+        assertThat(balance).isEqualByComparingTo("700");
+        verify(checkpointWriter).writeAsync(TENANT_ID, YearMonth.of(2023, 12), new BigDecimal("700"), 7L);
+        verify(reportRepository, never()).findNetBalanceBetween(any(), any(), any());
+    }
+
+    @Test
+    void shouldStartFromCheckpointAndAddPartialMonth() {
+        when(checkpointRepository.findLatestAtOrBefore(TENANT_ID, YearMonth.of(2024, 2)))
+                .thenReturn(Optional.of(new BalanceCheckpoint(YearMonth.of(2023, 12), new BigDecimal("500"))));
+        List<MonthlyTotalProjection> months = List.of(month(2024, 1, RecordType.INCOME, "200"));
+        when(rollupRepository.findMonthlyTotals(202401, 202402, ReportingCategory.ACTUAL)).thenReturn(months);
+        when(reportRepository.findNetBalanceBetween(
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 15), EntryStatus.ACTUAL_STATUSES))
+                .thenReturn(new BigDecimal("-50"));
+
+        BigDecimal balance = service.getCarryOverBalance(LocalDate.of(2024, 3, 15));
+
+        assertThat(balance).isEqualByComparingTo("650");
+        verify(checkpointWriter).writeAsync(TENANT_ID, YearMonth.of(2024, 2), new BigDecimal("700"), 7L);
+    }
+
+    @Test
+    void shouldSkipRollup_whenCheckpointCoversLastFullMonth() {
+        when(checkpointRepository.findLatestAtOrBefore(TENANT_ID, YearMonth.of(2023, 12)))
+                .thenReturn(Optional.of(new BalanceCheckpoint(YearMonth.of(2023, 12), new BigDecimal("500"))));
+
+        BigDecimal balance = service.getCarryOverBalance(LocalDate.of(2024, 1, 1));
+
+        assertThat(balance).isEqualByComparingTo("500");
+        verifyNoInteractions(rollupRepository);
+        verify(checkpointWriter, never()).writeAsync(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void shouldNotCheckpointOpenMonth() {
+        YearMonth current = YearMonth.now();
+        YearMonth limit = CarryOverBalanceService.lastCheckpointableMonth(LocalDate.now());
+        List<MonthlyTotalProjection> months = List.of(
+                month(limit.getYear(), limit.getMonthValue(), RecordType.INCOME, "100"),
+                month(current.getYear(), current.getMonthValue(), RecordType.INCOME, "40")
+        );
+        when(rollupRepository.findMonthlyTotals(eq(0), anyInt(), eq(ReportingCategory.ACTUAL))).thenReturn(months);
+
+        BigDecimal balance = service.getCarryOverBalance(current.plusMonths(1).atDay(1));
+
+        assertThat(balance).isEqualByComparingTo("140");
+        verify(checkpointWriter).writeAsync(TENANT_ID, limit, new BigDecimal("100"), 7L);
+    }
+
+    @Test
+    void shouldSubmitCheckpointOnlyAfterCommit() {
+        List<MonthlyTotalProjection> months = List.of(month(2023, 5, RecordType.INCOME, "10"));
+        when(rollupRepository.findMonthlyTotals(0, 202312, ReportingCategory.ACTUAL)).thenReturn(months);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(service.getCarryOverBalance(LocalDate.of(2024, 1, 1))).isEqualByComparingTo("10");
+        verifyNoInteractions(checkpointWriter);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(checkpointWriter).writeAsync(TENANT_ID, YearMonth.of(2023, 12), new BigDecimal("10"), 7L);
+    }
+
+    @Test
+    void shouldNotSubmitCheckpoint_whenReportRollsBack() {
+        List<MonthlyTotalProjection> months = List.of(month(2023, 5, RecordType.INCOME, "10"));
+        when(rollupRepository.findMonthlyTotals(0, 202312, ReportingCategory.ACTUAL)).thenReturn(months);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.getCarryOverBalance(LocalDate.of(2024, 1, 1));
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync ->
+                sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(checkpointWriter);
+    }
+
+    @Test
+    void shouldReturnBalance_whenCheckpointWriteIsRejected() {
+        List<MonthlyTotalProjection> months = List.of(month(2023, 5, RecordType.INCOME, "10"));
+        when(rollupRepository.findMonthlyTotals(0, 202312, ReportingCategory.ACTUAL)).thenReturn(months);
+        doThrow(new TaskRejectedException("queue full"))
+                .when(checkpointWriter).writeAsync(any(), any(), any(), anyLong());
+
+        assertThat(service.getCarryOverBalance(LocalDate.of(2024, 1, 1))).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void lastCheckpointableMonth_shouldWaitOneDayAfterMonthEnd() {
+        assertThat(CarryOverBalanceService.lastCheckpointableMonth(LocalDate.of(2024, 3, 1)))
+                .isEqualTo(YearMonth.of(2024, 1));
+        assertThat(CarryOverBalanceService.lastCheckpointableMonth(LocalDate.of(2024, 3, 2)))
+                .isEqualTo(YearMonth.of(2024, 2));
+    }
+
+    private static MonthlyTotalProjection month(int year, int month, RecordType type, String total) {
+        MonthlyTotalProjection projection = mock(MonthlyTotalProjection.class);
+        when(projection.getYear()).thenReturn(year);
+        when(projection.getMonth()).thenReturn(month);
+        when(projection.getEntryType()).thenReturn(type);
+        when(projection.getTotal()).thenReturn(new BigDecimal(total));
+        when(projection.getEntryCount()).thenReturn(1L);
+        return projection;
+    }
+}
@@ -0,0 +1,85 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.application.CurrencyConversionService.Conversion;
+import com.marine.management.modules.finance.application.CurrencyConversionService.ConversionRequest;
+import com.marine.management.modules.finance.application.CurrencyConversionService.RateKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CurrencyConversionService
+ * Tests distinct rate resolution, range preload and batch conversion order
+ */
+@ExtendWith(MockitoExtension.class)
+class CurrencyConversionServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private CurrencyConversionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CurrencyConversionService(exchangeRateService);
+    }
+
+    @Test
+    void convertAll_shouldResolveEachDistinctKeyOnce() {
+        when(exchangeRateService.getRate(DAY, "USD", "EUR")).thenReturn(new BigDecimal("0.90"));
+        when(exchangeRateService.getRate(DAY.plusDays(1), "USD", "EUR")).thenReturn(new BigDecimal("0.80"));
+
+        List<Conversion> conversions = service.convertAll(List.of(
+                new ConversionRequest(DAY, "USD", new BigDecimal("100")),
+                new ConversionRequest(DAY, "USD", new BigDecimal("10")),
+                new ConversionRequest(DAY.plusDays(1), "USD", new BigDecimal("100")),
+                new ConversionRequest(DAY, "EUR", new BigDecimal("55.55"))
+        ), "EUR");
+
+        assertThat(conversions)
+                .extracting(Conversion::amount)
+                .containsExactly(
+                        new BigDecimal("90.00"),
+                        new BigDecimal("9.00"),
+                        new BigDecimal("80.00"),
+                        new BigDecimal("55.55"));
+        verify(exchangeRateService, times(1)).getRate(DAY, "USD", "EUR");
+        verify(exchangeRateService, times(1)).getRate(DAY.plusDays(1), "USD", "EUR");
+        verify(exchangeRateService, times(1)).preloadRates(DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    void resolveRates_shouldNotLookupTargetCurrency() {
+        Map<RateKey, BigDecimal> rates = service.resolveRates(
+                List.of(new RateKey(DAY, "EUR"), new RateKey(DAY.plusDays(3), "EUR")), "EUR");
+
+        assertThat(rates).containsOnlyKeys(new RateKey(DAY, "EUR"), new RateKey(DAY.plusDays(3), "EUR"));
+        assertThat(rates.values()).containsOnly(BigDecimal.ONE);
+        verifyNoInteractions(exchangeRateService);
+    }
+
+    @Test
+    void resolveRates_shouldSkipPreloadForWideRanges() {
+        LocalDate farDay = DAY.plusYears(3);
+        when(exchangeRateService.getRate(any(), any(), any())).thenReturn(new BigDecimal("1.10"));
+
+        service.resolveRates(List.of(new RateKey(DAY, "EUR"), new RateKey(DAY, "GBP"),
+                new RateKey(farDay, "GBP")), "USD");
+
+        verify(exchangeRateService, never()).preloadRates(any(), any());
+        verify(exchangeRateService, times(3)).getRate(any(), any(), any());
+    }
+}
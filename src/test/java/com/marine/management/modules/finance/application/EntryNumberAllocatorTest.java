@@ -0,0 +1,94 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.vo.EntryNumber;
+import com.marine.management.modules.finance.infrastructure.TenantEntryCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Year;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EntryNumberAllocator
+ * Tests gapless pass-through, block reservation and tail release on shutdown
+ */
+@ExtendWith(MockitoExtension.class)
+class EntryNumberAllocatorTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long OTHER_TENANT_ID = 2L;
+
+    @Mock
+    private TenantEntryCounterRepository entryCounterRepository;
+
+    private int year;
+
+    @BeforeEach
+    void setUp() {
+        year = Year.now().getValue();
+    }
+
+    @Test
+    void gaplessMode_shouldIncrementCounterPerEntry() {
+        EntryNumberAllocator allocator = new EntryNumberAllocator(entryCounterRepository, "gapless", 50);
+        when(entryCounterRepository.nextSequence(TENANT_ID, year)).thenReturn(7, 8);
+
+        assertThat(allocator.next(TENANT_ID).getSequence()).isEqualTo(7);
+        assertThat(allocator.next(TENANT_ID).getSequence()).isEqualTo(8);
+        verify(entryCounterRepository, never()).reserveCommittedBlock(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void blockMode_shouldServeBlockFromMemory() {
+        EntryNumberAllocator allocator = new EntryNumberAllocator(entryCounterRepository, "block", 3);
+        when(entryCounterRepository.reserveCommittedBlock(TENANT_ID, year, 3)).thenReturn(11, 14);
+
+        int[] sequences = new int[4];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = allocator.next(TENANT_ID).getSequence();
+        }
+
+        assertThat(sequences).containsExactly(11, 12, 13, 14);
+        verify(entryCounterRepository, times(2)).reserveCommittedBlock(TENANT_ID, year, 3);
+        verify(entryCounterRepository, never()).nextSequence(anyLong(), anyInt());
+    }
+
+    @Test
+    void blockMode_shouldKeepTenantsApart() {
+        EntryNumberAllocator allocator = new EntryNumberAllocator(entryCounterRepository, "block", 10);
+        when(entryCounterRepository.reserveCommittedBlock(TENANT_ID, year, 10)).thenReturn(1);
+        when(entryCounterRepository.reserveCommittedBlock(OTHER_TENANT_ID, year, 10)).thenReturn(1);
+
+        EntryNumber first = allocator.next(TENANT_ID);
+        EntryNumber other = allocator.next(OTHER_TENANT_ID);
+
+        assertThat(first).isEqualTo(other);
+        assertThat(allocator.next(TENANT_ID).getSequence()).isEqualTo(2);
+    }
+
+    @Test
+    void releaseUnused_shouldReturnUntouchedTail() {
+        EntryNumberAllocator allocator = new EntryNumberAllocator(entryCounterRepository, "block", 50);
+        when(entryCounterRepository.reserveCommittedBlock(TENANT_ID, year, 50)).thenReturn(101);
+        when(entryCounterRepository.releaseTail(TENANT_ID, year, 150, 48)).thenReturn(true);
+
+        allocator.next(TENANT_ID);
+        allocator.next(TENANT_ID);
+        allocator.releaseUnused();
+
+        verify(entryCounterRepository).releaseTail(TENANT_ID, year, 150, 48);
+    }
+
+    @Test
+    void constructor_shouldRejectUnknownMode() {
+        assertThatThrownBy(() -> new EntryNumberAllocator(entryCounterRepository, "fast", 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
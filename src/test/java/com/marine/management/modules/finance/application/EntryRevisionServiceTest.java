@@ -0,0 +1,112 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.application.EntryRevisionService.RevisionPage;
+import com.marine.management.modules.finance.infrastructure.EntryRevisionReader;
+import com.marine.management.modules.finance.infrastructure.EntryRevisionReader.RevisionRow;
+import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDto;
+import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDto.HistoryAction;
+import com.marine.management.modules.finance.presentation.dto.EntryHistoryItemDto.RevisionDetails.FieldChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EntryRevisionService
+ * Tests field diffs, batched reference names and revision paging
+ */
+@ExtendWith(MockitoExtension.class)
+class EntryRevisionServiceTest {
+
+    private static final UUID ENTRY_ID = UUID.randomUUID();
+    private static final UUID FUEL = UUID.randomUUID();
+    private static final UUID PROVISIONS = UUID.randomUUID();
+
+    @Mock
+    private EntryRevisionReader revisionReader;
+
+    private EntryRevisionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EntryRevisionService(revisionReader);
+    }
+
+    @Test
+    void buildRevisionEvents_shouldDiffConsecutiveRevisionsWithOneNameLookup() {
+        when(revisionReader.findAll(ENTRY_ID)).thenReturn(List.of(
+                row(1, EntryRevisionReader.REVTYPE_ADD, "100.00", FUEL),
+                row(2, EntryRevisionReader.REVTYPE_MOD, "120.00", FUEL),
+                row(3, EntryRevisionReader.REVTYPE_MOD, "120.00", PROVISIONS)
+        ));
+        when(revisionReader.findReferenceNames(Set.of(FUEL, PROVISIONS)))
+                .thenReturn(Map.of(FUEL, "Fuel", PROVISIONS, "Provisions"));
+
+        List<EntryHistoryItemDto> events = service.buildRevisionEvents(ENTRY_ID);
+
+        assertThat(events).extracting(EntryHistoryItemDto::action)
+                .containsExactly(HistoryAction.CREATED, HistoryAction.UPDATED, HistoryAction.UPDATED);
+        assertThat(events.get(1).revisionDetails().changes())
+                .containsExactly(new FieldChange("Original Amount", "100.00 EUR", "120.00 EUR"));
+        assertThat(events.get(2).revisionDetails().changes())
+                .containsExactly(new FieldChange("Category", "Fuel", "Provisions"));
+        verify(revisionReader, times(1)).findReferenceNames(any());
+    }
+
+    @Test
+    void buildRevisionPage_shouldUseExtraOlderRowOnlyAsDiffBaseline() {
+        // DESC: 5, 4 sayfada; 3 yalnızca diff tabanı
+        when(revisionReader.findPage(ENTRY_ID, 6, 3)).thenReturn(List.of(
+                row(5, EntryRevisionReader.REVTYPE_MOD, "300.00", FUEL),
+                row(4, EntryRevisionReader.REVTYPE_MOD, "200.00", FUEL),
+                row(3, EntryRevisionReader.REVTYPE_MOD, "100.00", FUEL)
+        ));
+        when(revisionReader.findReferenceNames(any())).thenReturn(Map.of(FUEL, "Fuel"));
+
+        RevisionPage page = service.buildRevisionPage(ENTRY_ID, 6, 2);
+
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.oldestRevision()).isEqualTo(4);
+        assertThat(page.events()).extracting(event -> event.revisionDetails().revisionNumber())
+                .containsExactly(4, 5);
+        assertThat(page.events().get(0).revisionDetails().changes())
+                .containsExactly(new FieldChange("Original Amount", "100.00 EUR", "200.00 EUR"));
+    }
+
+    @Test
+    void buildRevisionPage_shouldEndAtFirstRevision() {
+        when(revisionReader.findPage(ENTRY_ID, null, 21)).thenReturn(List.of(
+                row(2, EntryRevisionReader.REVTYPE_DEL, null, null),
+                row(1, EntryRevisionReader.REVTYPE_ADD, "100.00", FUEL)
+        ));
+
+        RevisionPage page = service.buildRevisionPage(ENTRY_ID, null, 20);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.oldestRevision()).isEqualTo(1);
+        assertThat(page.events()).extracting(EntryHistoryItemDto::action)
+                .containsExactly(HistoryAction.CREATED, HistoryAction.DELETED);
+    }
+
+    private static RevisionRow row(int revision, short type, String amount, UUID categoryId) {
+        BigDecimal value = amount != null ? new BigDecimal(amount) : null;
+        String currency = amount != null ? "EUR" : null;
+        return new RevisionRow(
+                revision, type, 1_700_000_000_000L + revision * 60_000L, "crew", "Crew Member",
+                "EXPENSE", value, currency, null, null, null, null, null, null,
+                LocalDate.of(2024, 3, 1), "CASH", null, categoryId, null, null
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.entities.ExchangeRate;
+import com.marine.management.modules.finance.infrastructure.ExchangeRateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExchangeRateService
+ * Tests provider-free request path, batch prefetch and after-commit store updates
+ */
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 16);
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    private ExchangeRateStore store;
+    private ExchangeRateService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new ExchangeRateStore(exchangeRateRepository);
+        service = new ExchangeRateService(exchangeRateRepository, exchangeRateProvider, store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getRate_shouldUseLatestStoredRateWithoutCallingProvider() {
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(List.of());
+        when(exchangeRateRepository.findFirstByFromCurrencyAndToCurrencyAndDateLessThanEqualOrderByDateDesc(
+                "EUR", "USD", DAY)).thenReturn(Optional.of(base(DAY.minusDays(1), "USD", "1.10")));
+
+        assertThat(service.getRate(DAY, "EUR", "USD")).isEqualByComparingTo("1.10");
+        assertThat(service.getRate(DAY, "EUR", "USD")).isEqualByComparingTo("1.10");
+
+        verify(exchangeRateRepository, times(1))
+                .findFirstByFromCurrencyAndToCurrencyAndDateLessThanEqualOrderByDateDesc("EUR", "USD", DAY);
+        verifyNoInteractions(exchangeRateProvider);
+        verify(exchangeRateRepository, never()).save(any());
+    }
+
+    @Test
+    void getRate_shouldUseFallbackWhenNothingStored() {
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(List.of());
+        when(exchangeRateRepository.findFirstByFromCurrencyAndToCurrencyAndDateLessThanEqualOrderByDateDesc(
+                any(), any(), any())).thenReturn(Optional.empty());
+
+        assertThat(service.getRate(DAY, "EUR", "TRY")).isEqualByComparingTo("36.50");
+
+        verifyNoInteractions(exchangeRateProvider);
+        verify(exchangeRateRepository, never()).save(any());
+    }
+
+    @Test
+    void prefetchBaseRates_shouldFetchOnceAndSaveOnlyMissingRates() {
+        Set<String> currencies = Set.of("USD", "GBP", "TRY");
+        when(exchangeRateProvider.fetchBaseRates(DAY, currencies)).thenReturn(Map.of(
+                "USD", new BigDecimal("1.10"),
+                "GBP", new BigDecimal("0.85"),
+                "TRY", new BigDecimal("35.20")
+        ));
+        when(exchangeRateProvider.sourceName()).thenReturn("STUB");
+        when(exchangeRateRepository.existsByDateAndFromCurrencyAndToCurrency(DAY, "EUR", "USD")).thenReturn(false);
+        when(exchangeRateRepository.existsByDateAndFromCurrencyAndToCurrency(DAY, "EUR", "GBP")).thenReturn(true);
+        when(exchangeRateRepository.existsByDateAndFromCurrencyAndToCurrency(DAY, "EUR", "TRY")).thenReturn(false);
+
+        int saved = service.prefetchBaseRates(DAY, currencies);
+
+        assertThat(saved).isEqualTo(2);
+        verify(exchangeRateProvider, times(1)).fetchBaseRates(any(), any());
+        ArgumentCaptor<ExchangeRate> captor = ArgumentCaptor.forClass(ExchangeRate.class);
+        verify(exchangeRateRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(ExchangeRate::getToCurrency)
+                .containsExactlyInAnyOrder("USD", "TRY");
+        assertThat(captor.getAllValues())
+                .extracting(ExchangeRate::getSource)
+                .containsOnly("STUB");
+    }
+
+    @Test
+    void prefetchBaseRates_shouldServeFetchedRatesFromMemory() {
+        when(exchangeRateProvider.fetchBaseRates(DAY, Set.of("USD", "TRY"))).thenReturn(Map.of(
+                "USD", new BigDecimal("1.10"),
+                "TRY", new BigDecimal("35.20")
+        ));
+        when(exchangeRateProvider.sourceName()).thenReturn("STUB");
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(List.of());
+
+        service.prefetchBaseRates(DAY, Set.of("USD", "TRY"));
+
+        assertThat(service.getRate(DAY, "USD", "TRY")).isEqualByComparingTo("32.00");
+        verify(exchangeRateRepository, never())
+                .findFirstByFromCurrencyAndToCurrencyAndDateLessThanEqualOrderByDateDesc(any(), any(), any());
+    }
+
+    @Test
+    void saveManualRate_shouldUpdateStoreOnlyAfterCommit() {
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.saveManualRate(DAY, "USD", "GBP", new BigDecimal("0.78"));
+
+        assertThat(store.findRate(DAY, "USD", "GBP")).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(store.findRate(DAY, "USD", "GBP")).contains(new BigDecimal("0.78"));
+    }
+
+    @Test
+    void saveManualRate_shouldLeaveStoreUntouchedOnRollback() {
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.saveManualRate(DAY, "USD", "GBP", new BigDecimal("0.78"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync ->
+                sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(store.findRate(DAY, "USD", "GBP")).isEmpty();
+    }
+
+    private static ExchangeRate base(LocalDate date, String currency, String rate) {
+        return ExchangeRate.builder()
+                .date(date)
+                .fromCurrency("EUR")
+                .toCurrency(currency)
+                .rate(new BigDecimal(rate))
+                .base(true)
+                .source("TEST")
+                .build();
+    }
+}
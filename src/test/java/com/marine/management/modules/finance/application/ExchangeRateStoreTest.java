@@ -0,0 +1,106 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.domain.entities.ExchangeRate;
+import com.marine.management.modules.finance.infrastructure.ExchangeRateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExchangeRateStore
+ * Tests range preload, in-memory cross rates and stored pair precedence
+ */
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    private ExchangeRateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ExchangeRateStore(exchangeRateRepository);
+    }
+
+    @Test
+    void preload_shouldServeCrossRatesWithoutFurtherQueries() {
+        List<ExchangeRate> rates = List.of(
+                base(DAY, "USD", "1.10"),
+                base(DAY, "TRY", "35.20"),
+                base(DAY.plusDays(1), "USD", "1.20")
+        );
+        when(exchangeRateRepository.findByDateBetween(DAY, DAY.plusDays(2))).thenReturn(rates);
+
+        store.preload(DAY, DAY.plusDays(2));
+
+        assertThat(store.findRate(DAY, "USD", "TRY")).contains(new BigDecimal("32.00000000"));
+        assertThat(store.findRate(DAY, "EUR", "USD")).contains(new BigDecimal("1.10"));
+        assertThat(store.findRate(DAY.plusDays(1), "USD", "EUR")).contains(new BigDecimal("0.83333333"));
+        assertThat(store.findRate(DAY.plusDays(2), "USD", "EUR")).isEmpty();
+        verify(exchangeRateRepository, never()).findByDate(any());
+    }
+
+    @Test
+    void findRate_shouldLoadDayOnce() {
+        List<ExchangeRate> rates = List.of(base(DAY, "USD", "1.10"));
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(rates);
+
+        store.findRate(DAY, "EUR", "USD");
+        store.findRate(DAY, "USD", "EUR");
+
+        verify(exchangeRateRepository, times(1)).findByDate(DAY);
+    }
+
+    @Test
+    void findRate_shouldPreferStoredPairOverDerivedRate() {
+        List<ExchangeRate> rates = List.of(
+                base(DAY, "USD", "1.10"),
+                base(DAY, "GBP", "0.85"),
+                ExchangeRate.builder().date(DAY).fromCurrency("USD").toCurrency("GBP")
+                        .rate(new BigDecimal("0.75")).source("MANUAL").build()
+        );
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(rates);
+
+        assertThat(store.findRate(DAY, "USD", "GBP")).contains(new BigDecimal("0.75"));
+    }
+
+    @Test
+    void putBaseRate_shouldCompleteMissingDay() {
+        when(exchangeRateRepository.findByDate(DAY)).thenReturn(List.of());
+
+        assertThat(store.findRate(DAY, "EUR", "TRY")).isEmpty();
+        store.putBaseRate(DAY, "TRY", new BigDecimal("36.50"));
+
+        assertThat(store.findRate(DAY, "EUR", "TRY")).contains(new BigDecimal("36.50"));
+    }
+
+    @Test
+    void findRate_shouldReturnOneForSameCurrencyWithoutLoading() {
+        assertThat(store.findRate(DAY, "USD", "USD")).contains(BigDecimal.ONE);
+        verifyNoInteractions(exchangeRateRepository);
+    }
+
+    private static ExchangeRate base(LocalDate date, String currency, String rate) {
+        return ExchangeRate.builder()
+                .date(date)
+                .fromCurrency("EUR")
+                .toCurrency(currency)
+                .rate(new BigDecimal(rate))
+                .base(true)
+                .source("TEST")
+                .build();
+    }
+}
@@ -0,0 +1,320 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.TestDataBuilder;
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.events.FinancialEntryReportingChangedEvent;
+import com.marine.management.modules.finance.domain.events.FinancialEntryStatusChangedEvent;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.security.PrincipalCache;
+import com.marine.management.shared.security.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LiveUpdateBroadcaster
+ * Tests tenant isolation, audience filtering against the current principal,
+ * principal re-check, subscriber removal and slow / stuck client handling
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LiveUpdateBroadcasterTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long OTHER_TENANT_ID = 2L;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private ExecutorService threadedSender;
+
+    @AfterEach
+    void tearDown() {
+        if (threadedSender != null) {
+            threadedSender.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldDeliverOnlyToSubscribersOfEventTenant() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        User captain = TestDataBuilder.createCaptain(TENANT_ID);
+        User otherCaptain = TestDataBuilder.createCaptain(OTHER_TENANT_ID);
+        RecordingEmitter emitter = subscribe(broadcaster, captain);
+        RecordingEmitter otherEmitter = subscribe(broadcaster, otherCaptain);
+
+        broadcaster.onStatusChanged(statusChanged(TENANT_ID, UUID.randomUUID()));
+
+        assertThat(emitter.eventNames()).containsExactly(LiveUpdateBroadcaster.EVENT_ENTRY_STATUS);
+        assertThat(otherEmitter.eventNames()).isEmpty();
+    }
+
+    @Test
+    void entryStatus_shouldReachOwnerAndViewAllRolesOnly() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        User owner = TestDataBuilder.createCrew(TENANT_ID);
+        User otherCrew = TestDataBuilder.createCrew(TENANT_ID);
+        User manager = TestDataBuilder.createManager(TENANT_ID);
+        RecordingEmitter ownerEmitter = subscribe(broadcaster, owner);
+        RecordingEmitter otherCrewEmitter = subscribe(broadcaster, otherCrew);
+        RecordingEmitter managerEmitter = subscribe(broadcaster, manager);
+
+        broadcaster.onStatusChanged(statusChanged(TENANT_ID, owner.getUserId()));
+
+        assertThat(ownerEmitter.eventNames()).containsExactly(LiveUpdateBroadcaster.EVENT_ENTRY_STATUS);
+        assertThat(otherCrewEmitter.eventNames()).isEmpty();
+        assertThat(managerEmitter.eventNames()).containsExactly(LiveUpdateBroadcaster.EVENT_ENTRY_STATUS);
+    }
+
+    @Test
+    void dashboard_shouldReachReportViewRolesOnly() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        RecordingEmitter captainEmitter = subscribe(broadcaster, TestDataBuilder.createCaptain(TENANT_ID));
+        RecordingEmitter managerEmitter = subscribe(broadcaster, TestDataBuilder.createManager(TENANT_ID));
+        RecordingEmitter crewEmitter = subscribe(broadcaster, TestDataBuilder.createCrew(TENANT_ID));
+
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+
+        assertThat(captainEmitter.eventNames()).containsExactly(LiveUpdateBroadcaster.EVENT_DASHBOARD);
+        assertThat(managerEmitter.eventNames()).isEmpty();
+        assertThat(crewEmitter.eventNames()).isEmpty();
+    }
+
+    @Test
+    void audience_shouldUseCurrentRole_whenRoleChangedAfterSubscribe() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        User captain = TestDataBuilder.createCaptain(TENANT_ID);
+        RecordingEmitter emitter = subscribe(broadcaster, captain);
+
+        captain.changeRole(Role.CREW);
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+
+        assertThat(emitter.eventNames()).isEmpty();
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCompleteStream_whenPrincipalIsRevoked() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        User captain = TestDataBuilder.createCaptain(TENANT_ID);
+        RecordingEmitter emitter = subscribe(broadcaster, captain);
+
+        // Şifre değişikliği / deaktivasyon token versiyonunu artırır
+        when(principalCache.resolve(captain.getUserId(), captain.getTokenVersion())).thenReturn(Optional.empty());
+        broadcaster.heartbeat();
+
+        assertThat(emitter.eventNames()).isEmpty();
+        assertThat(emitter.completed).isTrue();
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isZero();
+    }
+
+    @Test
+    void shouldCompleteStream_whenUserIsDeactivated() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        User captain = TestDataBuilder.createCaptain(TENANT_ID);
+        RecordingEmitter emitter = subscribe(broadcaster, captain);
+
+        captain.deactivate();
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+
+        assertThat(emitter.eventNames()).isEmpty();
+        assertThat(emitter.completed).isTrue();
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isZero();
+    }
+
+    @Test
+    void shouldRemoveSubscriber_onCompletionAndTimeout() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        RecordingEmitter completed = subscribe(broadcaster, TestDataBuilder.createCaptain(TENANT_ID));
+        RecordingEmitter timedOut = subscribe(broadcaster, TestDataBuilder.createCaptain(TENANT_ID));
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isEqualTo(2);
+
+        completed.completionCallback.run();
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isEqualTo(1);
+
+        timedOut.timeoutCallback.run();
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isZero();
+    }
+
+    @Test
+    void shouldDropSubscriber_whenSendFails() {
+        LiveUpdateBroadcaster broadcaster = broadcaster(Runnable::run, 100);
+        RecordingEmitter emitter = subscribe(broadcaster, TestDataBuilder.createCaptain(TENANT_ID));
+        emitter.failure = new IOException("Broken pipe");
+
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isZero();
+        assertThat(emitter.error).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldDropSlowSubscriber_whenOutboxIsFull() {
+        List<Runnable> queued = new ArrayList<>();
+        LiveUpdateBroadcaster broadcaster = broadcaster(queued::add, 2);
+        RecordingEmitter emitter = subscribe(broadcaster, TestDataBuilder.createCaptain(TENANT_ID));
+
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isEqualTo(1);
+
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isZero();
+        assertThat(queued).hasSize(1);
+        assertThat(emitter.completed).isFalse();
+
+        // Drain görevi çalışınca emitter kapanır, bekleyen event gönderilmez
+        queued.forEach(Runnable::run);
+        assertThat(emitter.eventNames()).isEmpty();
+        assertThat(emitter.error).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void shouldDropSubscriber_whenSendExceedsTimeout() throws Exception {
+        threadedSender = Executors.newSingleThreadExecutor();
+        LiveUpdateBroadcaster broadcaster = new TestBroadcaster(
+                principalCache, Duration.ofMillis(1), 100, threadedSender);
+        RecordingEmitter stuck = subscribe(broadcaster, TestDataBuilder.createCaptain(TENANT_ID));
+        stuck.blockSends = new CountDownLatch(1);
+
+        broadcaster.onReportingChanged(reportingChanged(TENANT_ID));
+        assertThat(stuck.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(20);
+
+        broadcaster.heartbeat();
+        assertThat(broadcaster.subscriberCount(TENANT_ID)).isZero();
+
+        stuck.blockSends.countDown();
+        assertThat(stuck.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stuck.error).isInstanceOf(TimeoutException.class);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // HELPERS
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    private LiveUpdateBroadcaster broadcaster(Executor sender, int maxPendingEvents) {
+        return new TestBroadcaster(principalCache, Duration.ofSeconds(10), maxPendingEvents, sender);
+    }
+
+    private RecordingEmitter subscribe(LiveUpdateBroadcaster broadcaster, User user) {
+        when(principalCache.resolve(user.getUserId(), user.getTokenVersion())).thenReturn(Optional.of(user));
+        return (RecordingEmitter) broadcaster.subscribe(user);
+    }
+
+    private static FinancialEntryStatusChangedEvent statusChanged(Long tenantId, UUID createdById) {
+        return new FinancialEntryStatusChangedEvent(
+                tenantId, UUID.randomUUID(), createdById, EntryStatus.DRAFT, EntryStatus.PENDING_CAPTAIN);
+    }
+
+    private static FinancialEntryReportingChangedEvent reportingChanged(Long tenantId) {
+        return new FinancialEntryReportingChangedEvent(tenantId, UUID.randomUUID(), Set.of(LocalDate.of(2024, 3, 1)));
+    }
+
+    private static final class TestBroadcaster extends LiveUpdateBroadcaster {
+
+        TestBroadcaster(PrincipalCache principalCache, Duration sendTimeout, int maxPendingEvents, Executor sender) {
+            super(principalCache, Duration.ofMinutes(30), sendTimeout, maxPendingEvents, sender);
+        }
+
+        @Override
+        SseEmitter createEmitter(long timeoutMs) {
+            return new RecordingEmitter();
+        }
+    }
+
+    /**
+     * Emitter without a servlet response: records sends, completion and callbacks.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile CountDownLatch blockSends;
+        volatile IOException failure;
+        volatile boolean completed;
+        volatile Throwable error;
+        Runnable completionCallback;
+        Runnable timeoutCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (blockSends != null) {
+                try {
+                    blockSends.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof String value) {
+                    text.append(value);
+                }
+            });
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            done.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+            error = ex;
+            done.countDown();
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallback = callback;
+        }
+
+        /**
+         * Names of the named events sent so far (heartbeat comments excluded).
+         */
+        List<String> eventNames() {
+            return sent.stream()
+                    .filter(text -> text.startsWith("event:"))
+                    .map(text -> text.substring("event:".length(), text.indexOf('\n')))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.TestDataBuilder;
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.events.FinancialEntryStatusChangedEvent;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryRepository.StatusCountProjection;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.multitenant.TenantContext;
+import com.marine.management.shared.security.EntryAccessPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PendingApprovalCounters
+ * Tests role scopes (real EntryAccessPolicy), lazy load and after-commit transition deltas
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingApprovalCountersTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @Mock
+    private FinancialEntryRepository entryRepository;
+
+    private PendingApprovalCounters counters;
+
+    private User crew;
+    private User captain;
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setCurrentTenantId(TENANT_ID);
+        counters = new PendingApprovalCounters(entryRepository, new EntryAccessPolicy());
+
+        crew = TestDataBuilder.createCrew(TENANT_ID);
+        captain = TestDataBuilder.createCaptain(TENANT_ID);
+        manager = TestDataBuilder.createManager(TENANT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void countFor_shouldLoadTenantOnceAndScopeByRole() {
+        UUID otherCrew = UUID.randomUUID();
+        when(entryRepository.countByStatusAndCreator(any())).thenReturn(List.of(
+                row(EntryStatus.DRAFT, crew.getUserId(), 2),
+                row(EntryStatus.DRAFT, otherCrew, 1),
+                row(EntryStatus.PENDING_CAPTAIN, crew.getUserId(), 4),
+                row(EntryStatus.PENDING_MANAGER, otherCrew, 3)
+        ));
+
+        assertThat(counters.countFor(captain)).isEqualTo(10);
+        assertThat(counters.countFor(manager)).isEqualTo(3);
+        assertThat(counters.countFor(crew)).isEqualTo(2);
+
+        verify(entryRepository, times(1)).countByStatusAndCreator(any());
+    }
+
+    @Test
+    void onStatusChanged_shouldMoveCountsBetweenLevels() {
+        when(entryRepository.countByStatusAndCreator(any())).thenReturn(List.of(
+                row(EntryStatus.DRAFT, crew.getUserId(), 1)
+        ));
+        counters.countFor(captain);
+
+        // submit → captain escalates → manager approves
+        counters.onStatusChanged(event(EntryStatus.DRAFT, EntryStatus.PENDING_CAPTAIN));
+        assertThat(counters.countFor(crew)).isZero();
+        assertThat(counters.countFor(captain)).isEqualTo(1);
+
+        counters.onStatusChanged(event(EntryStatus.PENDING_CAPTAIN, EntryStatus.PENDING_MANAGER));
+        assertThat(counters.countFor(manager)).isEqualTo(1);
+
+        counters.onStatusChanged(event(EntryStatus.PENDING_MANAGER, EntryStatus.APPROVED));
+        assertThat(counters.countFor(manager)).isZero();
+        assertThat(counters.countFor(captain)).isZero();
+
+        // new draft, then deleted
+        counters.onStatusChanged(event(null, EntryStatus.DRAFT));
+        assertThat(counters.countFor(crew)).isEqualTo(1);
+        counters.onStatusChanged(event(EntryStatus.DRAFT, null));
+        assertThat(counters.countFor(crew)).isZero();
+
+        verify(entryRepository, times(1)).countByStatusAndCreator(any());
+    }
+
+    @Test
+    void countFor_shouldCountOnlyCrewsOwnEntriesInScope() {
+        UUID otherCrew = UUID.randomUUID();
+        when(entryRepository.countByStatusAndCreator(any())).thenReturn(List.of(
+                row(EntryStatus.DRAFT, otherCrew, 7),
+                row(EntryStatus.PENDING_CAPTAIN, crew.getUserId(), 3)
+        ));
+
+        // Crew kapsamı: yalnızca kendi DRAFT'ları — kendi PENDING_CAPTAIN'ı sayılmaz
+        assertThat(counters.countFor(crew)).isZero();
+    }
+
+    @Test
+    void onStatusChanged_shouldIgnoreTenantNotLoadedYet() {
+        counters.onStatusChanged(event(EntryStatus.DRAFT, EntryStatus.PENDING_CAPTAIN));
+
+        verifyNoInteractions(entryRepository);
+    }
+
+    @Test
+    void reconcile_shouldReplaceCountersFromDatabase() {
+        when(entryRepository.countByStatusAndCreator(any()))
+                .thenReturn(List.of(row(EntryStatus.PENDING_MANAGER, crew.getUserId(), 5)))
+                .thenReturn(List.of(row(EntryStatus.PENDING_MANAGER, crew.getUserId(), 2)));
+
+        assertThat(counters.countFor(manager)).isEqualTo(5);
+        counters.reconcile();
+
+        assertThat(counters.countFor(manager)).isEqualTo(2);
+    }
+
+    private FinancialEntryStatusChangedEvent event(EntryStatus before, EntryStatus after) {
+        return new FinancialEntryStatusChangedEvent(TENANT_ID, UUID.randomUUID(), crew.getUserId(), before, after);
+    }
+
+    private static StatusCountProjection row(EntryStatus status, UUID createdById, long total) {
+        return new StatusCountProjection() {
+            @Override public EntryStatus getStatus() { return status; }
+            @Override public UUID getCreatedById() { return createdById; }
+            @Override public long getTotal() { return total; }
+        };
+    }
+}
@@ -0,0 +1,214 @@
+package com.marine.management.modules.finance.application;
+
+import com.marine.management.modules.finance.application.ReportCache.ReportType;
+import com.marine.management.modules.finance.domain.events.FinancialEntryReportingChangedEvent;
+import com.marine.management.modules.finance.domain.events.ReferenceDataChangedEvent;
+import com.marine.management.modules.finance.domain.events.ReferenceDataChangedEvent.ReferenceType;
+import com.marine.management.modules.finance.presentation.dto.reports.AnnualBreakdownDto;
+import com.marine.management.modules.finance.presentation.dto.reports.CategoryMonthlyDataDto;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ReportCache
+ * Tests tenant scoping, date-precise eviction, reference data eviction,
+ * the in-flight load guard and that cached reports cannot be mutated
+ */
+class ReportCacheTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long OTHER_TENANT_ID = 2L;
+
+    private static final LocalDate YEAR_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2024, 12, 31);
+
+    private ReportCache reportCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        reportCache = new ReportCache();
+        loads = new AtomicInteger();
+        TenantContext.setCurrentTenantId(TENANT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void shouldServeSecondRequestFromCache() {
+        load(ReportType.PIVOT, null);
+        load(ReportType.PIVOT, null);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldKeepTenantsAndCrewFiltersApart() {
+        load(ReportType.DASHBOARD_SUMMARY, null);
+        load(ReportType.DASHBOARD_SUMMARY, UUID.randomUUID());
+
+        TenantContext.setCurrentTenantId(OTHER_TENANT_ID);
+        load(ReportType.DASHBOARD_SUMMARY, null);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldEvictReport_whenChangedDateFallsInsidePeriod() {
+        load(ReportType.PIVOT, null);
+
+        reportCache.evict(TENANT_ID, List.of(LocalDate.of(2024, 6, 15)));
+        load(ReportType.PIVOT, null);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepPivot_whenChangedDateIsBeforePeriod() {
+        load(ReportType.PIVOT, null);
+
+        reportCache.evict(TENANT_ID, List.of(LocalDate.of(2023, 6, 15)));
+        load(ReportType.PIVOT, null);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictCarryOverReports_whenChangedDateIsBeforePeriod() {
+        load(ReportType.ANNUAL_BREAKDOWN, null);
+
+        reportCache.evict(TENANT_ID, List.of(LocalDate.of(2019, 3, 1)));
+        load(ReportType.ANNUAL_BREAKDOWN, null);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepReports_whenChangedDateIsAfterPeriod() {
+        load(ReportType.ANNUAL_BREAKDOWN, null);
+
+        reportCache.evict(TENANT_ID, List.of(LocalDate.of(2025, 1, 1)));
+        load(ReportType.ANNUAL_BREAKDOWN, null);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldKeepOtherTenantsReports_onEviction() {
+        load(ReportType.PIVOT, null);
+
+        reportCache.onEntryChanged(new FinancialEntryReportingChangedEvent(
+                OTHER_TENANT_ID, UUID.randomUUID(), Set.of(LocalDate.of(2024, 6, 15))));
+        load(ReportType.PIVOT, null);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotKeepResult_whenInvalidatedDuringLoad() {
+        reportCache.get(ReportType.PIVOT, YEAR_START, YEAR_END, null, null, () -> {
+            loads.incrementAndGet();
+            reportCache.evict(TENANT_ID, List.of(LocalDate.of(2024, 2, 1)));
+            return "stale";
+        });
+        load(ReportType.PIVOT, null);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictTenant_shouldDropAllReportsOfTenant() {
+        load(ReportType.PIVOT, null);
+        load(ReportType.TREE, null);
+
+        reportCache.evictTenant(TENANT_ID);
+        load(ReportType.PIVOT, null);
+        load(ReportType.TREE, null);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void shouldEvictAllTenants_whenReferenceDataChanges() {
+        load(ReportType.TREE, null);
+        TenantContext.setCurrentTenantId(OTHER_TENANT_ID);
+        load(ReportType.TREE, null);
+
+        reportCache.onReferenceDataChanged(new ReferenceDataChangedEvent(ReferenceType.WHO, 7L));
+        load(ReportType.TREE, null);
+        TenantContext.setCurrentTenantId(TENANT_ID);
+        load(ReportType.TREE, null);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void shouldNotKeepResult_whenReferenceDataChangesDuringLoad() {
+        reportCache.get(ReportType.TREE, YEAR_START, YEAR_END, null, null, () -> {
+            loads.incrementAndGet();
+            reportCache.evictAll();
+            return "stale";
+        });
+        load(ReportType.TREE, null);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void cachedReport_shouldBeImmutable() {
+        Map<String, BigDecimal> amounts = new LinkedHashMap<>(Map.of("1", BigDecimal.TEN));
+        List<CategoryMonthlyDataDto> categories = new ArrayList<>(List.of(
+                new CategoryMonthlyDataDto("Fuel", amounts, BigDecimal.TEN)));
+
+        AnnualBreakdownDto first = reportCache.get(ReportType.ANNUAL_BREAKDOWN, YEAR_START, YEAR_END, null, null,
+                () -> new AnnualBreakdownDto(2024, categories, List.of(), BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO));
+
+        // Loader'ın listeleri sonradan değişse de cache'teki rapor değişmez
+        categories.clear();
+        amounts.put("2", BigDecimal.ONE);
+        assertThatThrownBy(() -> first.categories().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.categories().get(0).monthlyAmounts().put("3", BigDecimal.ONE))
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        AnnualBreakdownDto second = reportCache.get(ReportType.ANNUAL_BREAKDOWN, YEAR_START, YEAR_END, null, null,
+                () -> fail("should be served from cache"));
+        assertThat(second.categories()).hasSize(1);
+        assertThat(second.categories().get(0).monthlyAmounts()).containsOnlyKeys("1");
+    }
+
+    @Test
+    void key_shouldBeClosedOnlyWhenPeriodEndsBeforeCurrentYear() {
+        LocalDate today = LocalDate.of(2025, 3, 10);
+
+        assertThat(key(LocalDate.of(2024, 12, 31)).isClosed(today)).isTrue();
+        assertThat(key(LocalDate.of(2025, 1, 31)).isClosed(today)).isFalse();
+    }
+
+    private String load(ReportType type, UUID crewMemberId) {
+        return reportCache.get(type, YEAR_START, YEAR_END, crewMemberId, null, () -> {
+            loads.incrementAndGet();
+            return "report";
+        });
+    }
+
+    private static ReportCache.Key key(LocalDate end) {
+        return new ReportCache.Key(TENANT_ID, ReportType.PIVOT, end.withDayOfYear(1), end, null, null);
+    }
+}
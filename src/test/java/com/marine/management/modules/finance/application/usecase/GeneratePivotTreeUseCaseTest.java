@@ -0,0 +1,95 @@
+package com.marine.management.modules.finance.application.usecase;
+
+import com.marine.management.modules.finance.application.ReportCache;
+import com.marine.management.modules.finance.application.TenantFinancialYearProvider;
+import com.marine.management.modules.finance.domain.enums.PivotRangeType;
+import com.marine.management.modules.finance.domain.service.PivotReportBuilder;
+import com.marine.management.modules.finance.domain.vo.MonthRange;
+import com.marine.management.modules.finance.infrastructure.FinancialEntryReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GeneratePivotTreeUseCase
+ * Tests resolveRange: tenant financial year start month, rolling range and custom range validation
+ */
+@ExtendWith(MockitoExtension.class)
+class GeneratePivotTreeUseCaseTest {
+
+    @Mock
+    private FinancialEntryReportRepository reportRepository;
+
+    @Mock
+    private PivotReportBuilder pivotBuilder;
+
+    @Mock
+    private ReportCache reportCache;
+
+    @Mock
+    private TenantFinancialYearProvider financialYearProvider;
+
+    private GeneratePivotTreeUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GeneratePivotTreeUseCase(reportRepository, pivotBuilder, reportCache, financialYearProvider);
+    }
+
+    @Test
+    void resolveRange_shouldUseTenantStartMonth_forFinancialYearCrossingDecember() {
+        when(financialYearProvider.getCurrentTenantFinancialYearStartMonth()).thenReturn(7);
+
+        MonthRange range = useCase.resolveRange(PivotRangeType.FINANCIAL_YEAR, 2024, null, null);
+
+        assertThat(range.start()).isEqualTo(YearMonth.of(2024, 7));
+        assertThat(range.end()).isEqualTo(YearMonth.of(2025, 6));
+    }
+
+    @Test
+    void resolveRange_shouldUseFinancialYearContainingCurrentMonth_whenYearIsMissing() {
+        when(financialYearProvider.getCurrentTenantFinancialYearStartMonth()).thenReturn(7);
+
+        MonthRange range = useCase.resolveRange(PivotRangeType.FINANCIAL_YEAR, null, null, null);
+
+        assertThat(range).isEqualTo(MonthRange.financialYearContaining(YearMonth.now(), 7));
+        assertThat(range.indexOf(YearMonth.now())).isBetween(0, 11);
+    }
+
+    @Test
+    void resolveRange_shouldEndRollingRangeInCurrentMonth() {
+        MonthRange range = useCase.resolveRange(PivotRangeType.ROLLING_12_MONTHS, null, null, null);
+
+        assertThat(range.end()).isEqualTo(YearMonth.now());
+        assertThat(range.start()).isEqualTo(YearMonth.now().minusMonths(11));
+        verifyNoInteractions(financialYearProvider);
+    }
+
+    @Test
+    void resolveRange_shouldTreatFromAndToAsCustomRange_whenTypeIsMissing() {
+        MonthRange range = useCase.resolveRange(null, null, YearMonth.of(2023, 11), YearMonth.of(2024, 2));
+
+        assertThat(range.columnKeys()).containsExactly("2023-11", "2023-12", "2024-01", "2024-02");
+    }
+
+    @Test
+    void resolveRange_shouldRejectCustomRange_whenFromIsAfterTo() {
+        assertThatThrownBy(() -> useCase.resolveRange(
+                PivotRangeType.CUSTOM, null, YearMonth.of(2024, 6), YearMonth.of(2024, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resolveRange_shouldRejectCustomRange_whenBoundIsMissing() {
+        assertThatThrownBy(() -> useCase.resolveRange(PivotRangeType.CUSTOM, null, YearMonth.of(2024, 6), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("from and to");
+    }
+}
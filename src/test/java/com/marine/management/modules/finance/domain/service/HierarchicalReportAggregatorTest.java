@@ -0,0 +1,129 @@
+package com.marine.management.modules.finance.domain.service;
+
+import com.marine.management.modules.finance.application.dto.PivotTreeNodeDTO;
+import com.marine.management.modules.finance.application.dto.PivotTreeReportResponse;
+import com.marine.management.modules.finance.application.dto.TreeNodeDTO;
+import com.marine.management.modules.finance.domain.model.PivotReportProjection;
+import com.marine.management.modules.finance.domain.model.TreeReportProjection;
+import com.marine.management.modules.finance.domain.vo.MonthRange;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for HierarchicalReportAggregator
+ * Tests tree and pivot shapes produced from one aggregation pass
+ */
+class HierarchicalReportAggregatorTest {
+
+    private static final UUID FUEL = UUID.randomUUID();
+    private static final UUID FOOD = UUID.randomUUID();
+
+    @Test
+    void tree_shouldSumEachLevelOnceAndSortByAmount() {
+        List<TreeReportProjection> rows = List.of(
+                tree(1L, FUEL, 10L, "100"),
+                tree(1L, FUEL, null, "50"),
+                tree(1L, FOOD, 10L, "250"),
+                tree(null, FOOD, null, "100")
+        );
+
+        List<TreeNodeDTO> tree = new TreeReportBuilder().buildTree(rows);
+
+        assertThat(tree).extracting(TreeNodeDTO::id).containsExactly("1", "-1");
+        TreeNodeDTO operations = tree.get(0);
+        assertThat(operations.amount()).isEqualByComparingTo("400");
+        assertThat(operations.percentage()).isEqualByComparingTo("80.00");
+        assertThat(operations.children()).extracting(TreeNodeDTO::id)
+                .containsExactly(FOOD.toString(), FUEL.toString());
+
+        TreeNodeDTO fuel = operations.children().get(1);
+        assertThat(fuel.amount()).isEqualByComparingTo("150");
+        assertThat(fuel.children()).extracting(TreeNodeDTO::name).containsExactly("Who 10", "Belirtilmemiş");
+        assertThat(tree.get(1).name()).isEqualTo("Atanmamış");
+    }
+
+    @Test
+    void tree_shouldReturnEmptyList_whenNoProjections() {
+        assertThat(new TreeReportBuilder().buildTree(List.of())).isEmpty();
+    }
+
+    @Test
+    void pivot_shouldKeyMonthsAndCarryRowAndColumnTotals() {
+        List<PivotReportProjection> rows = List.of(
+                pivot(1L, FUEL, 10L, 1, "100"),
+                pivot(1L, FUEL, 10L, 3, "40"),
+                pivot(1L, FOOD, null, 3, "60")
+        );
+
+        PivotTreeReportResponse report = new PivotReportBuilder().buildPivotReport(2025, "EUR", rows);
+
+        assertThat(report.columns()).hasSize(12).startsWith("2025-01").endsWith("2025-12");
+        assertThat(report.columnTotals()).containsOnlyKeys("2025-01", "2025-03", "TOTAL");
+        assertThat(report.columnTotals().get("2025-03")).isEqualByComparingTo("100");
+        assertThat(report.columnTotals().get("TOTAL")).isEqualByComparingTo("200");
+
+        PivotTreeNodeDTO mainCategory = report.rows().get(0);
+        assertThat(mainCategory.monthlyValues().get("TOTAL")).isEqualByComparingTo("200");
+
+        PivotTreeNodeDTO fuel = mainCategory.children().get(0);
+        assertThat(fuel.monthlyValues()).containsOnlyKeys("2025-01", "2025-03", "TOTAL");
+        assertThat(fuel.monthlyValues().get("TOTAL")).isEqualByComparingTo("140");
+
+        PivotTreeNodeDTO unspecified = mainCategory.children().get(1).children().get(0);
+        assertThat(unspecified.id()).isEqualTo("-1");
+        assertThat(unspecified.name()).isEqualTo("Unspecified");
+    }
+
+    @Test
+    void pivot_shouldBucketMultiYearRangeByYearMonth() {
+        List<PivotReportProjection> rows = List.of(
+                pivot(1L, FUEL, 10L, 2024, 4, "70"),
+                pivot(1L, FUEL, 10L, 2025, 3, "30")
+        );
+        MonthRange financialYear = MonthRange.ofFinancialYear(2024, 4);
+
+        PivotTreeReportResponse report = new PivotReportBuilder().buildPivotReport(financialYear, "EUR", rows);
+
+        assertThat(report.columns()).hasSize(12).startsWith("2024-04").endsWith("2025-03");
+        assertThat(report.startMonth()).isEqualTo("2024-04");
+        assertThat(report.endMonth()).isEqualTo("2025-03");
+        assertThat(report.rows().get(0).monthlyValues()).containsOnlyKeys("2024-04", "2025-03", "TOTAL");
+        assertThat(report.columnTotals().get("TOTAL")).isEqualByComparingTo("100");
+    }
+
+    @Test
+    void pivot_shouldOnlyCarryTotal_whenNoProjections() {
+        PivotTreeReportResponse report = new PivotReportBuilder().buildPivotReport(2025, "EUR", List.of());
+
+        assertThat(report.rows()).isEmpty();
+        assertThat(report.columnTotals()).containsOnlyKeys("TOTAL");
+    }
+
+    private static TreeReportProjection tree(Long mainCategoryId, UUID categoryId, Long whoId, String amount) {
+        return new TreeReportProjection(
+                mainCategoryId, "Main " + mainCategoryId, "Main " + mainCategoryId, false,
+                categoryId, "Cat " + categoryId, null, false,
+                whoId, "Who " + whoId, "Who " + whoId, false,
+                new BigDecimal(amount)
+        );
+    }
+
+    private static PivotReportProjection pivot(Long mainCategoryId, UUID categoryId, Long whoId, int month, String amount) {
+        return pivot(mainCategoryId, categoryId, whoId, 2025, month, amount);
+    }
+
+    private static PivotReportProjection pivot(
+            Long mainCategoryId, UUID categoryId, Long whoId, int year, int month, String amount) {
+        return new PivotReportProjection(
+                mainCategoryId, "Main " + mainCategoryId, "Main " + mainCategoryId, false,
+                categoryId, "Cat " + categoryId, null, false,
+                whoId, "Who " + whoId, "Who " + whoId, false,
+                year, month, new BigDecimal(amount)
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.marine.management.modules.finance.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MonthRange
+ * Tests financial years crossing December, rolling ranges, multi-year spans and range validation
+ */
+class MonthRangeTest {
+
+    @Test
+    void ofFinancialYear_shouldCrossDecemberIntoNextYear() {
+        MonthRange range = MonthRange.ofFinancialYear(2024, 7);
+
+        assertThat(range.start()).isEqualTo(YearMonth.of(2024, 7));
+        assertThat(range.end()).isEqualTo(YearMonth.of(2025, 6));
+        assertThat(range.getMonthCount()).isEqualTo(12);
+        assertThat(range.isCalendarYear()).isFalse();
+        assertThat(range.getStartDate()).isEqualTo(LocalDate.of(2024, 7, 1));
+        assertThat(range.getEndExclusive()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(range.indexOf(2024, 12)).isEqualTo(5);
+        assertThat(range.indexOf(2025, 1)).isEqualTo(6);
+        assertThat(range.indexOf(2025, 7)).isEqualTo(-1);
+        assertThat(range.columnKeys()).startsWith("2024-07").contains("2024-12", "2025-01").endsWith("2025-06");
+    }
+
+    @Test
+    void financialYearContaining_shouldStartInPreviousYear_whenMonthIsBeforeStartMonth() {
+        assertThat(MonthRange.financialYearContaining(YearMonth.of(2025, 2), 7))
+                .isEqualTo(MonthRange.ofFinancialYear(2024, 7));
+        assertThat(MonthRange.financialYearContaining(YearMonth.of(2025, 7), 7))
+                .isEqualTo(MonthRange.ofFinancialYear(2025, 7));
+    }
+
+    @Test
+    void rollingTwelveMonths_shouldEndInGivenMonth() {
+        MonthRange range = MonthRange.rollingTwelveMonths(YearMonth.of(2025, 3));
+
+        assertThat(range.start()).isEqualTo(YearMonth.of(2024, 4));
+        assertThat(range.end()).isEqualTo(YearMonth.of(2025, 3));
+        assertThat(range.getMonthCount()).isEqualTo(12);
+        assertThat(range.getEndDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    void shouldAllowThreeYearSpan() {
+        MonthRange range = MonthRange.of(YearMonth.of(2022, 1), YearMonth.of(2024, 12));
+
+        assertThat(range.getMonthCount()).isEqualTo(MonthRange.MAX_MONTHS);
+        assertThat(range.indexOf(2024, 12)).isEqualTo(35);
+    }
+
+    @Test
+    void shouldRejectStartAfterEnd() {
+        assertThatThrownBy(() -> MonthRange.of(YearMonth.of(2025, 5), YearMonth.of(2025, 4)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("before or equal");
+    }
+
+    @Test
+    void shouldRejectRangeLongerThanMaxMonths() {
+        assertThatThrownBy(() -> MonthRange.of(YearMonth.of(2021, 12), YearMonth.of(2024, 12)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot exceed");
+    }
+
+    @Test
+    void shouldRejectStartBeforeMinYear() {
+        assertThatThrownBy(() -> MonthRange.of(YearMonth.of(1999, 12), YearMonth.of(2000, 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.marine.management.modules.finance.infrastructure.query;
+
+import com.marine.management.shared.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for KeysetCursor
+ * Tests token round-trip, typed keys and rejection of foreign / tampered tokens
+ */
+class KeysetCursorTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        KeysetCursor cursor = new KeysetCursor("entryDate", Sort.Direction.DESC, "2024-06-15", ID);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.typedKey()).isEqualTo(LocalDate.of(2024, 6, 15));
+    }
+
+    @Test
+    void shouldKeepKeysContainingSeparator() {
+        KeysetCursor cursor = new KeysetCursor("category.name", Sort.Direction.ASC, "Fuel | Lubricants", ID);
+
+        assertThat(KeysetCursor.decode(cursor.encode()).key()).isEqualTo("Fuel | Lubricants");
+    }
+
+    @Test
+    void shouldParseAmountKeyAsBigDecimal() {
+        KeysetCursor cursor = new KeysetCursor("baseAmount.amount", Sort.Direction.DESC, "1250.5000", ID);
+
+        assertThat(cursor.typedKey()).isEqualTo(new BigDecimal("1250.5000"));
+    }
+
+    @Test
+    void shouldRejectCursor_whenSortDiffers() {
+        KeysetCursor cursor = new KeysetCursor("entryDate", Sort.Direction.DESC, "2024-06-15", ID);
+
+        assertThatThrownBy(() -> cursor.requireSort("entryDate", Sort.Direction.ASC))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> cursor.requireSort("createdAt", Sort.Direction.DESC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        String notWhitelisted = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("1|description|DESC|" + ID + "|x").getBytes());
+        String badKey = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("1|entryDate|DESC|" + ID + "|yesterday").getBytes());
+
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%")).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(notWhitelisted)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badKey)).isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.marine.management.modules.organization.application;
+
+import com.marine.management.modules.finance.TestDataBuilder;
+import com.marine.management.modules.organization.domain.Organization;
+import com.marine.management.modules.organization.domain.events.OrganizationChangedEvent;
+import com.marine.management.modules.organization.infrastructure.OrganizationRepository;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TenantSettingsProvider
+ * Tests per-tenant caching and eviction on OrganizationChangedEvent
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantSettingsProviderTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    private TenantSettingsProvider provider;
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        provider = new TenantSettingsProvider(organizationRepository);
+        organization = TestDataBuilder.createOrganization(TENANT_ID);
+        organization.enableManagerApproval(BigDecimal.valueOf(500));
+        TenantContext.setCurrentTenantId(TENANT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void current_shouldLoadOnceAndServeFromCache() {
+        when(organizationRepository.findById(TENANT_ID)).thenReturn(Optional.of(organization));
+
+        TenantSettings first = provider.current().orElseThrow();
+        TenantSettings second = provider.current().orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.baseCurrency()).isEqualTo("EUR");
+        assertThat(first.managerApprovalEnabled()).isTrue();
+        assertThat(first.approvalLimit()).isEqualByComparingTo("500");
+        verify(organizationRepository, times(1)).findById(TENANT_ID);
+    }
+
+    @Test
+    void onOrganizationChanged_shouldReloadSettings() {
+        when(organizationRepository.findById(TENANT_ID)).thenReturn(Optional.of(organization));
+        provider.current();
+
+        organization.disableManagerApproval();
+        provider.onOrganizationChanged(new OrganizationChangedEvent(TENANT_ID));
+
+        assertThat(provider.current().orElseThrow().managerApprovalEnabled()).isFalse();
+        verify(organizationRepository, times(2)).findById(TENANT_ID);
+    }
+
+    @Test
+    void get_shouldNotCacheMissingOrganization() {
+        when(organizationRepository.findById(TENANT_ID)).thenReturn(Optional.empty());
+
+        assertThat(provider.get(TENANT_ID)).isEmpty();
+        assertThat(provider.get(TENANT_ID)).isEmpty();
+
+        verify(organizationRepository, times(2)).findById(TENANT_ID);
+    }
+}
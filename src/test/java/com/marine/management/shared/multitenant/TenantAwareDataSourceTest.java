@@ -0,0 +1,124 @@
+package com.marine.management.shared.multitenant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TenantAwareDataSource
+ * Tests skipping redundant set_config per physical connection and fail-closed handling
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantAwareDataSourceTest {
+
+    @Mock private DataSource target;
+    @Mock private Connection proxy;
+    @Mock private Connection physical;
+    @Mock private PreparedStatement statement;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TenantAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new TenantAwareDataSource(target, meterRegistry);
+
+        lenient().when(target.getConnection()).thenReturn(proxy);
+        lenient().when(proxy.isWrapperFor(Connection.class)).thenReturn(true);
+        lenient().when(proxy.unwrap(Connection.class)).thenReturn(physical);
+        lenient().when(proxy.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(proxy.getAutoCommit()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void getConnection_shouldSkipSetConfigForSameTenantOnSamePhysicalConnection() throws SQLException {
+        TenantContext.setCurrentTenantId(1L);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        verify(statement, times(1)).execute();
+        verify(statement).setString(1, "1");
+        assertThat(counter("tenant.binding.set")).isEqualTo(1.0);
+        assertThat(counter("tenant.binding.skip")).isEqualTo(1.0);
+    }
+
+    @Test
+    void getConnection_shouldRebindWhenTenantChanges() throws SQLException {
+        TenantContext.setCurrentTenantId(1L);
+        dataSource.getConnection();
+
+        TenantContext.setCurrentTenantId(2L);
+        dataSource.getConnection();
+
+        TenantContext.clear();
+        dataSource.getConnection();
+
+        verify(statement).setString(1, "1");
+        verify(statement).setString(1, "2");
+        verify(statement).setString(1, "");
+        assertThat(counter("tenant.binding.set")).isEqualTo(3.0);
+    }
+
+    @Test
+    void getConnection_shouldNotTrustValueWrittenInsideTransaction() throws SQLException {
+        when(proxy.getAutoCommit()).thenReturn(false);
+        TenantContext.setCurrentTenantId(1L);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        verify(statement, times(2)).execute();
+    }
+
+    @Test
+    void getConnection_shouldCloseConnectionAndForgetBindingOnFailure() throws SQLException {
+        TenantContext.setCurrentTenantId(1L);
+        dataSource.getConnection();
+
+        TenantContext.setCurrentTenantId(2L);
+        when(statement.execute()).thenThrow(new SQLException("connection reset"));
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        verify(proxy).close();
+
+        // Tenant 1'e dönüş: önceki kayıt silindiği için yeniden yazılmalı
+        reset(statement);
+        TenantContext.setCurrentTenantId(1L);
+        dataSource.getConnection();
+        verify(statement).execute();
+    }
+
+    @Test
+    void getConnection_shouldAlwaysBindWhenPhysicalConnectionUnknown() throws SQLException {
+        when(proxy.isWrapperFor(Connection.class)).thenReturn(false);
+        TenantContext.setCurrentTenantId(1L);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        verify(statement, times(2)).execute();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
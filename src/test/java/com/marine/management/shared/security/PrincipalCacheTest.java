@@ -0,0 +1,104 @@
+package com.marine.management.shared.security;
+
+import com.marine.management.modules.auth.infrastructure.VerifiedToken;
+import com.marine.management.modules.organization.domain.Organization;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.modules.users.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PrincipalCache
+ * Tests cache hits, token version revocation and user/organization eviction
+ */
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    private static final Long TENANT_ID = 7L;
+    private static final String EMAIL = "crew@yacht.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private Organization organization;
+
+    private PrincipalCache principalCache;
+    private UUID userId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userRepository, Duration.ofMinutes(1));
+        userId = UUID.randomUUID();
+        user = User.createWithRole(EMAIL, "hash", Role.CREW, organization);
+    }
+
+    @Test
+    void resolve_shouldLoadOnceAndServeFromCache() {
+        when(userRepository.findByIdWithOrganization(userId)).thenReturn(Optional.of(user));
+
+        assertThat(principalCache.resolve(token(userId, 0))).contains(user);
+        assertThat(principalCache.resolve(token(userId, 0))).contains(user);
+
+        verify(userRepository, times(1)).findByIdWithOrganization(userId);
+    }
+
+    @Test
+    void resolve_shouldRejectRevokedTokenVersion() {
+        user.revokeTokens();
+        when(userRepository.findByIdWithOrganization(userId)).thenReturn(Optional.of(user));
+
+        assertThat(principalCache.resolve(token(userId, 0))).isEmpty();
+        assertThat(principalCache.resolve(token(userId, 1))).contains(user);
+    }
+
+    @Test
+    void evictUser_shouldForceReload() {
+        when(userRepository.findByIdWithOrganization(userId)).thenReturn(Optional.of(user));
+
+        principalCache.resolve(token(userId, 0));
+        principalCache.evictUser(userId);
+        principalCache.resolve(token(userId, 0));
+
+        verify(userRepository, times(2)).findByIdWithOrganization(userId);
+    }
+
+    @Test
+    void evictOrganization_shouldDropPrincipalsOfThatOrganization() {
+        when(organization.getOrganizationId()).thenReturn(TENANT_ID);
+        when(userRepository.findByIdWithOrganization(userId)).thenReturn(Optional.of(user));
+
+        principalCache.resolve(token(userId, 0));
+        principalCache.evictOrganization(99L);
+        principalCache.resolve(token(userId, 0));
+        principalCache.evictOrganization(TENANT_ID);
+        principalCache.resolve(token(userId, 0));
+
+        verify(userRepository, times(2)).findByIdWithOrganization(userId);
+    }
+
+    @Test
+    void resolve_shouldFallBackToEmailForTokenWithoutUserId() {
+        when(userRepository.findByEmailWithOrganization(EMAIL)).thenReturn(Optional.of(user));
+
+        assertThat(principalCache.resolve(token(null, 0))).contains(user);
+        verify(userRepository, never()).findByIdWithOrganization(any());
+    }
+
+    private static VerifiedToken token(UUID userId, int tokenVersion) {
+        return new VerifiedToken(EMAIL, TENANT_ID, "CREW", userId, tokenVersion, Instant.now().plusSeconds(60));
+    }
+}
@@ -0,0 +1,152 @@
+package com.marine.management.smoke;
+
+import com.marine.management.modules.finance.application.FinancialCategoryService;
+import com.marine.management.modules.finance.application.FinancialEntryService;
+import com.marine.management.modules.finance.application.commands.CreateEntryCommand;
+import com.marine.management.modules.finance.domain.enums.PaymentMethod;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.vo.Money;
+import com.marine.management.modules.finance.infrastructure.query.EntrySearchCriteria;
+import com.marine.management.modules.finance.infrastructure.query.SortableFields;
+import com.marine.management.modules.finance.presentation.dto.EntryResponseDto;
+import com.marine.management.modules.organization.application.commands.OnboardingResult;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Kayıt metin aramasının (V005 search_text + FinancialEntrySpecs) regresyon testi.
+ *
+ * Kayıtlar servis üzerinden oluşturulur, arama FinancialEntryService
+ * üzerinden yapılır — sonuç listeleri doğrulanır:
+ * - description / vendor / recipient büyük-küçük harf duyarsız eşleşir
+ * - kullanıcının yazdığı % ve _ joker değil, harf olarak aranır
+ * - relevance sıralaması tarih sırasını ezer
+ * - sayfalı aramada count query doğru toplamı verir
+ */
+class EntryTextSearchIntegrationTest extends IntegrationTestBase {
+
+    @Autowired private FinancialEntryService entryService;
+    @Autowired private FinancialCategoryService categoryService;
+
+    private User captain;
+    private UUID categoryId;
+
+    @BeforeEach
+    void setUpTenant() {
+        OnboardingResult result = registerOrg("Search");
+        captain = userRepository.findByEmail(result.email()).orElseThrow();
+        TenantContext.setCurrentTenantId(result.organizationId());
+        authenticateAs(captain);
+
+        categoryId = categoryService.findAllActive().stream()
+                .filter(c -> c.getCategoryType() == RecordType.EXPENSE)
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    @Test
+    @DisplayName("Arama description, vendor ve recipient'ta büyük-küçük harf duyarsız eşleşir")
+    void search_shouldMatchDescriptionVendorAndRecipient_caseInsensitive() {
+        UUID byDescription = create("Monthly fuel delivery", "Harbor Fuel", null, LocalDate.now());
+        UUID byVendor = create("Berth fee", "MONACO MARINE", null, LocalDate.now());
+        UUID byRecipient = create("Crew allowance", null, "Captain Nemo", LocalDate.now());
+        create("Unrelated purchase", "Chandlery", null, LocalDate.now());
+
+        assertThat(search("MONTHLY FUEL")).containsExactly(byDescription);
+        assertThat(search("monaco marine")).containsExactly(byVendor);
+        assertThat(search("nemo")).containsExactly(byRecipient);
+        assertThat(search("no such text")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("% ve _ LIKE joker karakteri değil, harf olarak aranır")
+    void search_shouldTreatLikeWildcardsLiterally() {
+        UUID percent = create("10% discount on ropes", null, null, LocalDate.now());
+        create("100 discount on paint", null, null, LocalDate.now());
+        UUID underscore = create("Spare item_a", null, null, LocalDate.now());
+        create("Spare itemXa", null, null, LocalDate.now());
+
+        assertThat(search("10%")).containsExactly(percent);
+        assertThat(search("item_a")).containsExactly(underscore);
+    }
+
+    @Test
+    @DisplayName("relevance sıralaması tam kelime eşleşmesini daha yeni kısmi eşleşmenin önüne alır")
+    void relevanceSort_shouldRankWholeWordMatchAboveNewerPartialMatch() {
+        UUID wholeWord = create("Monthly fuel delivery", null, null, LocalDate.now().minusDays(10));
+        UUID partial = create("Biofuels additive", null, null, LocalDate.now());
+
+        assertThat(search(criteria("fuel").sort(SortableFields.RELEVANCE_SORT, "desc")))
+                .containsExactly(wholeWord, partial);
+        // Referans: varsayılan sıralama (entryDate desc) yeni kaydı öne alır
+        assertThat(search(criteria("fuel")))
+                .containsExactly(partial, wholeWord);
+    }
+
+    @Test
+    @DisplayName("Sayfalı metin aramasında count query toplam eşleşme sayısını verir")
+    void pagedSearch_shouldCountAllMatches() {
+        create("Discount on ropes", null, null, LocalDate.now().minusDays(1));
+        create("Paint discount", null, null, LocalDate.now());
+        create("Fuel delivery", null, null, LocalDate.now());
+
+        Page<EntryResponseDto> byDate = entryService.search(
+                criteria("discount").pagination(0, 1).build(), captain);
+        Page<EntryResponseDto> byRelevance = entryService.search(
+                criteria("discount").sort(SortableFields.RELEVANCE_SORT, "desc").pagination(0, 1).build(), captain);
+
+        assertThat(byDate.getContent()).hasSize(1);
+        assertThat(byDate.getTotalElements()).isEqualTo(2);
+        assertThat(byRelevance.getContent()).hasSize(1);
+        assertThat(byRelevance.getTotalElements()).isEqualTo(2);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private UUID create(String description, String vendor, String recipient, LocalDate entryDate) {
+        return entryService.createEntry(new CreateEntryCommand(
+                RecordType.EXPENSE,
+                categoryId,
+                Money.of("10.00", "EUR"),
+                entryDate,
+                PaymentMethod.CASH,
+                description,
+                captain,
+                null,       // whoId
+                null,       // mainCategoryId
+                recipient,
+                null,       // country
+                null,       // city
+                null,       // specificLocation
+                vendor
+        )).id();
+    }
+
+    private static EntrySearchCriteria.Builder criteria(String searchTerm) {
+        return EntrySearchCriteria.builder().searchTerm(searchTerm);
+    }
+
+    private List<UUID> search(String searchTerm) {
+        return search(criteria(searchTerm));
+    }
+
+    private List<UUID> search(EntrySearchCriteria.Builder criteria) {
+        return entryService.search(criteria.build(), captain)
+                .map(EntryResponseDto::id)
+                .getContent();
+    }
+}
@@ -0,0 +1,158 @@
+package com.marine.management.smoke;
+
+import com.marine.management.modules.files.DataImportService;
+import com.marine.management.modules.files.ImportJobDto;
+import com.marine.management.modules.files.ImportJobStatus;
+import com.marine.management.modules.files.ImportResultDto;
+import com.marine.management.modules.organization.application.commands.OnboardingResult;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Year;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Toplu Excel import (JDBC batch yolu) regresyon testi.
+ *
+ * - Birden fazla chunk (IMPORT_CHUNK_SIZE = 500) üzerinden yazım
+ * - Numara blokları deliksiz: hatalı satır numara tüketmez
+ * - Her entry için bir ödeme, PAID statü ve ADD audit satırı
+ * - Rollup trigger'ı JDBC insert'lerinde de çalışır
+ * - Arka plan job'ı: ilerleme, sonuç ve tenant izolasyonu
+ */
+class ExcelImportIntegrationTest extends IntegrationTestBase {
+
+    private static final int EXPENSE_ROWS = 1_200;
+
+    @Autowired private DataImportService dataImportService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long tenantId;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        OnboardingResult org = registerOrg("Import");
+        tenantId = org.organizationId();
+        admin = userRepository.findById(org.userId()).orElseThrow();
+
+        TenantContext.setCurrentTenantId(tenantId);
+        authenticateAs(admin);
+    }
+
+    @Test
+    @DisplayName("Import chunk'lar halinde yazılır, numaralar deliksiz kalır")
+    void importFromExcel_shouldWriteAllChunksWithGaplessNumbers() throws IOException {
+        ImportResultDto result = dataImportService.importFromExcel(ledger(), admin);
+
+        // "Fuel" çoğunlukla gider → tek gelir satırı kategori tipi hatası verir
+        assertThat(result.totalRows()).isEqualTo(EXPENSE_ROWS + 1);
+        assertThat(result.entriesCreated()).isEqualTo(EXPENSE_ROWS);
+        assertThat(result.failedRows()).isEqualTo(1);
+
+        Integer entries = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM financial_entries WHERE tenant_id = ? AND status = 'PAID'",
+                Integer.class, tenantId);
+        Integer payments = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payments WHERE tenant_id = ?", Integer.class, tenantId);
+        assertThat(entries).isEqualTo(EXPENSE_ROWS);
+        assertThat(payments).isEqualTo(EXPENSE_ROWS);
+
+        Integer lastSeq = jdbcTemplate.queryForObject(
+                "SELECT last_seq FROM tenant_entry_counter WHERE tenant_id = ? AND year = ?",
+                Integer.class, tenantId, Year.now().getValue());
+        Integer maxNumber = jdbcTemplate.queryForObject(
+                "SELECT MAX(CAST(SUBSTRING(entry_number FROM 9) AS INT)) FROM financial_entries WHERE tenant_id = ?",
+                Integer.class, tenantId);
+        assertThat(lastSeq).isEqualTo(EXPENSE_ROWS);
+        assertThat(maxNumber).isEqualTo(EXPENSE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Audit satırları BATCH revizyonlarıyla, rollup trigger ile yazılır")
+    void importFromExcel_shouldWriteAuditRowsAndRollup() throws IOException {
+        dataImportService.importFromExcel(ledger(), admin);
+
+        Integer auditRows = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM financial_entries_aud a
+                JOIN financial_entries e ON e.id = a.id
+                JOIN revinfo r ON r.rev = a.rev
+                WHERE e.tenant_id = ? AND a.revtype = 0 AND r.source = 'BATCH'
+                """, Integer.class, tenantId);
+        assertThat(auditRows).isEqualTo(EXPENSE_ROWS);
+
+        Long rollupCount = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(entry_count), 0) FROM financial_monthly_rollup
+                WHERE tenant_id = ? AND reporting_category = 'ACTUAL'
+                """, Long.class, tenantId);
+        assertThat(rollupCount).isEqualTo(EXPENSE_ROWS);
+    }
+
+    @Test
+    @DisplayName("Arka plan import'u job olarak tamamlanır, başka tenant göremez")
+    void startImport_shouldCompleteInBackground() throws Exception {
+        ImportJobDto queued = dataImportService.startImport(ledger(), admin);
+        assertThat(queued.jobId()).isNotNull();
+
+        ImportJobDto finished = awaitFinished(queued);
+        assertThat(finished.status()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.progressPercent()).isEqualTo(100);
+        assertThat(finished.successfulRows()).isEqualTo(EXPENSE_ROWS);
+        assertThat(finished.failedRows()).isEqualTo(1);
+        assertThat(finished.errors()).hasSize(1);
+
+        TenantContext.setCurrentTenantId(registerOrg("Other").organizationId());
+        assertThat(dataImportService.findJob(queued.jobId())).isEmpty();
+    }
+
+    private ImportJobDto awaitFinished(ImportJobDto job) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            ImportJobDto current = dataImportService.findJob(job.jobId()).orElseThrow();
+            if (current.status().isFinished()) {
+                return current;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import job did not finish: " + job.jobId());
+    }
+
+    private static MockMultipartFile ledger() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+
+            Sheet sheet = workbook.createSheet("Ledger");
+            sheet.createRow(0).createCell(0).setCellValue("Tarih");
+
+            for (int i = 1; i <= EXPENSE_ROWS; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("%02d.%02d.22".formatted(i % 28 + 1, i % 12 + 1));
+                row.createCell(1).setCellValue("Yakıt");
+                row.createCell(2).setCellValue("Fuel");
+                row.createCell(3).setCellValue(100 + i);
+                row.createCell(5).setCellValue("Row " + i);
+            }
+
+            Row income = sheet.createRow(EXPENSE_ROWS + 1);
+            income.createCell(0).setCellValue("15.06.22");
+            income.createCell(1).setCellValue("İade");
+            income.createCell(2).setCellValue("Fuel");
+            income.createCell(4).setCellValue(50);
+
+            workbook.write(out);
+            return new MockMultipartFile("file", "ledger.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.marine.management.smoke;
+
+import com.marine.management.modules.auth.infrastructure.JwtUtil;
+import com.marine.management.modules.finance.application.LiveUpdateBroadcaster;
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.events.FinancialEntryStatusChangedEvent;
+import com.marine.management.modules.organization.application.commands.OnboardingResult;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.security.PrincipalCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SSE akışı (GET /api/finance/events) — security zinciri üzerinden uçtan uca.
+ *
+ * - Token'sız istek akışı açamaz (ASYNC permitAll yalnızca async dispatch'i kapsar)
+ * - Token'lı istek event alır; akış kapanınca yapılan ASYNC dispatch
+ *   security tarafından reddedilmez (SecurityConfig dispatcherTypeMatchers)
+ * - Token'ı iptal edilen kullanıcının akışı heartbeat'te kapanır
+ */
+@AutoConfigureMockMvc
+class LiveUpdateStreamIntegrationTest extends IntegrationTestBase {
+
+    private static final String EVENTS_URL = "/api/finance/events";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private LiveUpdateBroadcaster broadcaster;
+    @Autowired private PrincipalCache principalCache;
+
+    @Test
+    @DisplayName("Token'sız istek SSE akışı açamaz")
+    void stream_shouldRejectUnauthenticatedRequest() throws Exception {
+        mockMvc.perform(get(EVENTS_URL))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @DisplayName("Event alınır; iptal edilen token'ın akışı kapanır ve ASYNC dispatch 200 döner")
+    void stream_shouldDeliverEventsAndCompleteThroughAsyncDispatch_whenTokenRevoked() throws Exception {
+        OnboardingResult org = registerOrg("Sse");
+        User captain = userRepository.findByEmail(org.email()).orElseThrow();
+        String token = jwtUtil.generateToken(captain);
+
+        MvcResult stream = mockMvc.perform(get(EVENTS_URL)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        broadcaster.onStatusChanged(new FinancialEntryStatusChangedEvent(
+                org.organizationId(), UUID.randomUUID(), captain.getUserId(),
+                EntryStatus.DRAFT, EntryStatus.PENDING_CAPTAIN));
+        awaitContent(stream, "event:entry-status");
+
+        // Şifre sıfırlama / deaktivasyon gibi: token versiyonu artar
+        captain.revokeTokens();
+        userRepository.save(captain);
+        principalCache.evictUser(captain.getUserId());
+        broadcaster.heartbeat();
+
+        mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk());
+    }
+
+    private static void awaitContent(MvcResult result, String expected) throws Exception {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            assertThat(Instant.now()).as("SSE content '%s'", expected).isBefore(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
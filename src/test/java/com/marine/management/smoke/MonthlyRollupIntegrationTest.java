@@ -0,0 +1,281 @@
+package com.marine.management.smoke;
+
+import com.marine.management.modules.finance.application.ApprovalService;
+import com.marine.management.modules.finance.application.FinancialCategoryService;
+import com.marine.management.modules.finance.application.FinancialEntryService;
+import com.marine.management.modules.finance.application.PaymentService;
+import com.marine.management.modules.finance.application.ReferenceDataService;
+import com.marine.management.modules.finance.application.commands.CreateEntryCommand;
+import com.marine.management.modules.finance.application.commands.DeleteEntryCommand;
+import com.marine.management.modules.finance.application.commands.UpdateEntryCommand;
+import com.marine.management.modules.finance.application.commands.UpdateEntryContextCommand;
+import com.marine.management.modules.finance.domain.entities.FinancialCategory;
+import com.marine.management.modules.finance.domain.enums.EntryStatus;
+import com.marine.management.modules.finance.domain.enums.PaymentMethod;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.enums.ReportingCategory;
+import com.marine.management.modules.finance.domain.vo.Money;
+import com.marine.management.modules.finance.presentation.dto.EntryResponseDto;
+import com.marine.management.modules.organization.application.commands.OnboardingResult;
+import com.marine.management.modules.organization.domain.Organization;
+import com.marine.management.modules.users.domain.User;
+import com.marine.management.shared.multitenant.TenantContext;
+import com.marine.management.shared.security.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V003 rollup trigger'ı ve backfill'i — ham financial_entries toplamına karşı.
+ *
+ * Her yazma adımından sonra (oluşturma, submit, onay, ödeme, tarih başka
+ * aya taşıma, kategori / ana kategori / who / para birimi değişikliği,
+ * soft delete) tenant'ın rollup'ı:
+ *   - ham kayıtların Java'da EntryStatus.getReportingCategory() ile
+ *     gruplanmış toplamına, ve
+ *   - V003 migration dosyasındaki backfill SELECT'inin çıktısına
+ * eşit olmalıdır. Boşalan kovalar (total = 0, entry_count = 0) yok sayılır.
+ */
+class MonthlyRollupIntegrationTest extends IntegrationTestBase {
+
+    private static final String V003_SCRIPT = "db/migration/V003__financial_monthly_rollup.sql";
+
+    @Autowired private FinancialEntryService entryService;
+    @Autowired private ApprovalService approvalService;
+    @Autowired private PaymentService paymentService;
+    @Autowired private FinancialCategoryService categoryService;
+    @Autowired private ReferenceDataService referenceDataService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long tenantId;
+    private User captain;
+    private User crew;
+
+    @BeforeEach
+    void setUpTenant() {
+        OnboardingResult result = registerOrg("Rollup");
+        Organization org = findOrg(result.organizationId());
+        tenantId = result.organizationId();
+        captain = userRepository.findByEmail(result.email()).orElseThrow();
+        crew = addUser(org, Role.CREW, "RollupCrew");
+        TenantContext.setCurrentTenantId(tenantId);
+    }
+
+    @Test
+    @DisplayName("Onay akışı: create → submit → approve → pay her adımda rollup = ham toplam = backfill")
+    void rollup_shouldMatchRawAggregation_throughApprovalLifecycle() throws IOException {
+        List<FinancialCategory> expenseCategories = categories(RecordType.EXPENSE);
+
+        authenticateAs(crew);
+        EntryResponseDto entry = entryService.createEntry(
+                command(RecordType.EXPENSE, expenseCategories.get(0).getId(), "75.00", LocalDate.now(), crew));
+        assertRollupConsistent();
+        assertThat(rollupRowCount()).as("DRAFT rollup'a girmez").isZero();
+
+        approvalService.submit(entry.id(), crew);
+        assertRollupConsistent();
+
+        authenticateAs(captain);
+        approvalService.approve(entry.id(), captain);
+        assertRollupConsistent();
+
+        EntryResponseDto paid = paymentService.recordPayment(
+                entry.id(), Money.of("75.00", "EUR"), LocalDate.now(),
+                "REF-ROLLUP", PaymentMethod.BANK_TRANSFER, "Rollup test", captain);
+        assertThat(paid.status()).isEqualTo(EntryStatus.PAID);
+        assertRollupConsistent();
+
+        // Gelir: ayrı entry_type kovası
+        List<FinancialCategory> incomeCategories = categories(RecordType.INCOME);
+        EntryResponseDto income = entryService.createEntry(
+                command(RecordType.INCOME, incomeCategories.get(0).getId(), "500.00", LocalDate.now(), captain));
+        approvalService.submit(income.id(), captain);
+        assertRollupConsistent();
+        assertThat(rollupRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Düzenleme: ay değişimi, kategori, ana kategori / who, para birimi ve soft delete")
+    void rollup_shouldMatchRawAggregation_throughEditsAndSoftDelete() throws IOException {
+        List<FinancialCategory> expenseCategories = categories(RecordType.EXPENSE);
+        assertThat(expenseCategories).as("en az iki EXPENSE kategorisi").hasSizeGreaterThanOrEqualTo(2);
+        UUID firstCategory = expenseCategories.get(0).getId();
+        UUID secondCategory = expenseCategories.get(1).getId();
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(10);
+        LocalDate previousMonth = thisMonth.minusMonths(1);
+
+        authenticateAs(captain);
+        EntryResponseDto entry = entryService.createEntry(
+                command(RecordType.EXPENSE, firstCategory, "100.00", thisMonth, captain));
+        // Bir kovada iki kayıt: taşınan kayıt kovayı boşaltmamalı
+        EntryResponseDto sibling = entryService.createEntry(
+                command(RecordType.EXPENSE, firstCategory, "40.00", thisMonth, captain));
+        approvalService.submit(entry.id(), captain);
+        approvalService.submit(sibling.id(), captain);
+        assertRollupConsistent();
+
+        // entry_date bir önceki aya
+        entryService.updateEntry(update(entry.id(), firstCategory, Money.of("100.00", "EUR"), previousMonth));
+        assertRollupConsistent();
+
+        // Kategori değişikliği
+        entryService.updateEntry(update(entry.id(), secondCategory, Money.of("100.00", "EUR"), previousMonth));
+        assertRollupConsistent();
+
+        // Para birimi değişikliği → base_amount yeniden hesaplanır
+        entryService.updateEntry(update(entry.id(), secondCategory, Money.of("100.00", "USD"), previousMonth));
+        assertRollupConsistent();
+
+        // Ana kategori + who
+        UUID mainCategoryId = referenceDataService.getEnabledMainCategories().get(0).id();
+        UUID whoId = referenceDataService.getEnabledWhoSelections().get(0).id();
+        entryService.updateEntryContext(new UpdateEntryContextCommand(
+                entry.id(), whoId, mainCategoryId, null, null, null, null, null, captain));
+        assertRollupConsistent();
+        assertThat(rollupRowCount()).isEqualTo(2);
+
+        // Soft delete
+        entryService.deleteEntry(new DeleteEntryCommand(entry.id(), captain));
+        assertRollupConsistent();
+        assertThat(rollupRowCount()).isEqualTo(1);
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Assertions
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private void assertRollupConsistent() throws IOException {
+        Map<String, Bucket> rollup = rollup();
+        assertThat(rollup).as("rollup vs ham toplam").isEqualTo(rawAggregation());
+        assertThat(rollup).as("rollup vs V003 backfill").isEqualTo(backfill());
+    }
+
+    private int rollupRowCount() {
+        return rollup().size();
+    }
+
+    /**
+     * Tutarlar ölçekten bağımsız karşılaştırılır (NUMERIC(19,4) vs base_amount).
+     */
+    private record Bucket(BigDecimal total, long count) {
+        Bucket {
+            total = total.stripTrailingZeros();
+        }
+
+        Bucket plus(BigDecimal amount, long entries) {
+            return new Bucket(total.add(amount), count + entries);
+        }
+    }
+
+    private Map<String, Bucket> rollup() {
+        Map<String, Bucket> buckets = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT year, month, entry_type, reporting_category, category_id,
+                       tenant_main_category_id, tenant_who_id, total, entry_count
+                FROM financial_monthly_rollup
+                WHERE tenant_id = ?
+                  AND (entry_count <> 0 OR total <> 0)
+                """, rs -> {
+            buckets.put(key(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4),
+                            rs.getObject(5), rs.getObject(6), rs.getObject(7)),
+                    new Bucket(rs.getBigDecimal(8), rs.getLong(9)));
+        }, tenantId);
+        return buckets;
+    }
+
+    /**
+     * Ham kayıtlar; raporlama kategorisi uygulama tarafındaki eşlemeden.
+     */
+    private Map<String, Bucket> rawAggregation() {
+        Map<String, Bucket> buckets = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT entry_date, entry_type, status, category_id,
+                       tenant_main_category_id, tenant_who_id, base_amount
+                FROM financial_entries
+                WHERE tenant_id = ?
+                  AND is_deleted = false
+                """, rs -> {
+            ReportingCategory reportingCategory = EntryStatus.valueOf(rs.getString(3)).getReportingCategory();
+            if (reportingCategory == ReportingCategory.NON_FINANCIAL) {
+                return;
+            }
+            LocalDate entryDate = rs.getDate(1).toLocalDate();
+            String key = key(entryDate.getYear(), entryDate.getMonthValue(), rs.getString(2),
+                    reportingCategory.name(), rs.getObject(4), rs.getObject(5), rs.getObject(6));
+            buckets.merge(key, new Bucket(rs.getBigDecimal(7), 1),
+                    (a, b) -> a.plus(b.total(), b.count()));
+        }, tenantId);
+        return buckets;
+    }
+
+    /**
+     * V003'teki backfill SELECT'i, migration dosyasından okunup bu tenant'a
+     * daraltılarak çalıştırılır — kopya SQL değil, gerçek migration.
+     */
+    private Map<String, Bucket> backfill() throws IOException {
+        String script = new ClassPathResource(V003_SCRIPT).getContentAsString(StandardCharsets.UTF_8);
+        String backfillSection = script.substring(script.indexOf("-- Mevcut kayıtlardan backfill"));
+        String select = backfillSection.substring(backfillSection.indexOf("SELECT"), backfillSection.lastIndexOf(';'));
+
+        Map<String, Bucket> buckets = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT year, month, entry_type, reporting_category, category_id,
+                       tenant_main_category_id, tenant_who_id, total, entry_count
+                FROM (%s) AS b(tenant_id, year, month, entry_type, reporting_category,
+                               category_id, tenant_main_category_id, tenant_who_id, total, entry_count)
+                WHERE tenant_id = ?
+                """.formatted(select), rs -> {
+            buckets.put(key(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4),
+                            rs.getObject(5), rs.getObject(6), rs.getObject(7)),
+                    new Bucket(rs.getBigDecimal(8), rs.getLong(9)));
+        }, tenantId);
+        return buckets;
+    }
+
+    private static String key(int year, int month, String entryType, String reportingCategory,
+                               Object categoryId, Object mainCategoryId, Object whoId) {
+        return String.join("|", String.valueOf(year), String.valueOf(month), entryType, reportingCategory,
+                String.valueOf(categoryId), String.valueOf(mainCategoryId), String.valueOf(whoId));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private List<FinancialCategory> categories(RecordType type) {
+        return categoryService.findAllActive().stream()
+                .filter(c -> c.getCategoryType() == type)
+                .toList();
+    }
+
+    private static CreateEntryCommand command(
+            RecordType type, UUID categoryId, String eurAmount, LocalDate entryDate, User creator) {
+        return new CreateEntryCommand(
+                type, categoryId, Money.of(eurAmount, "EUR"), entryDate, PaymentMethod.CASH,
+                "Rollup test entry", creator,
+                null, null, null, null, null, null, null
+        );
+    }
+
+    private UpdateEntryCommand update(UUID entryId, UUID categoryId, Money amount, LocalDate entryDate) {
+        return new UpdateEntryCommand(
+                entryId, RecordType.EXPENSE, categoryId, amount, entryDate, PaymentMethod.CASH,
+                "Rollup test entry", captain,
+                null, null, null, null, null, null, null, null
+        );
+    }
+}
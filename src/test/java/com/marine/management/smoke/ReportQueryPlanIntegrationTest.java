@@ -0,0 +1,262 @@
+package com.marine.management.smoke;
+
+import com.marine.management.modules.finance.application.usecase.GeneratePivotTreeUseCase;
+import com.marine.management.modules.finance.domain.enums.RecordType;
+import com.marine.management.modules.finance.domain.vo.MonthRange;
+import com.marine.management.modules.organization.application.commands.OnboardingResult;
+import com.marine.management.shared.multitenant.TenantContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rapor sorgularının plan regresyon testi.
+ *
+ * Tenant'a ~10 yıllık geçmiş bir kez yüklenir. Pivot raporu servis
+ * üzerinden çalıştırılır; Hibernate'in JDBC'ye gönderdiği SQL ve bağlanan
+ * parametreler DataSource proxy'si ile yakalanır ve aynı parametrelerle
+ * EXPLAIN edilir — elle yazılmış kopya SQL değil, gerçek sorgu
+ * (tenant filter, @Where soft delete, IN listesi dahil).
+ *
+ * Yarı açık tarih aralığı ([başlangıç, bitiş)) entry_date'i
+ * (tenant_id, entry_date, ...) index'inin Index Cond'una taşımalı.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import(ReportQueryPlanIntegrationTest.StatementCaptureConfig.class)
+class ReportQueryPlanIntegrationTest extends IntegrationTestBase {
+
+    private static final int HISTORY_DAYS = 3650;
+    private static final int ENTRIES_PER_DAY = 10;
+
+    private static final List<CapturedQuery> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private GeneratePivotTreeUseCase pivotTreeUseCase;
+
+    private Long tenantId;
+    private int reportYear;
+
+    @BeforeAll
+    void seedHistory() {
+        OnboardingResult org = registerOrg("Plan");
+        tenantId = org.organizationId();
+        reportYear = LocalDate.now().getYear() - 1;
+
+        UUID categoryId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO financial_categories (id, tenant_id, name, category_type)
+                VALUES (?, ?, 'Plan Test Category', 'EXPENSE')
+                """, categoryId, tenantId);
+
+        jdbcTemplate.update("""
+                INSERT INTO financial_entries (
+                    id, tenant_id, entry_number, status, entry_type, category_id,
+                    original_amount, original_currency, base_amount, base_currency,
+                    entry_date, payment_method, created_by_id
+                )
+                SELECT gen_random_uuid(), ?, 'PLAN-' || g,
+                       CASE WHEN g % 5 = 0 THEN 'DRAFT' ELSE 'PAID' END,
+                       CASE WHEN g % 4 = 0 THEN 'INCOME' ELSE 'EXPENSE' END,
+                       ?, 100, 'EUR', 100, 'EUR',
+                       CURRENT_DATE - (g / ?),
+                       'CASH', ?
+                FROM generate_series(1, ?) g
+                """, tenantId, categoryId, ENTRIES_PER_DAY, org.userId(), HISTORY_DAYS * ENTRIES_PER_DAY);
+
+        jdbcTemplate.execute("ANALYZE financial_entries");
+    }
+
+    @BeforeEach
+    void setTenant() {
+        TenantContext.setCurrentTenantId(tenantId);
+        CAPTURED.clear();
+    }
+
+    @Test
+    @DisplayName("Yıllık pivot sorgusu entry_date üzerinden index range scan kullanır")
+    void calendarYearPivot_shouldRangeScanTenantDateIndex() {
+        pivotTreeUseCase.execute(reportYear, RecordType.EXPENSE, "EUR");
+
+        assertRangeScanOnEntryDate(explain(capturedEntryQuery()));
+    }
+
+    @Test
+    @DisplayName("Ay aralıklı pivot sorgusu entry_date üzerinden index range scan kullanır")
+    void customRangePivot_shouldRangeScanTenantDateIndex() {
+        YearMonth from = YearMonth.of(reportYear, 3);
+        pivotTreeUseCase.execute(MonthRange.of(from, from.plusMonths(2)), RecordType.EXPENSE, "EUR");
+
+        assertRangeScanOnEntryDate(explain(capturedEntryQuery()));
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // Plan helpers
+    // ─────────────────────────────────────────────────────────────────────────
+
+    private static void assertRangeScanOnEntryDate(String plan) {
+        assertThat(plan)
+                .as("plan:%n%s", plan)
+                .containsPattern("(Index Scan|Index Only Scan|Bitmap Index Scan)( Backward)?"
+                        + " (using|on) idx_financial_entries_tenant_date\\w*");
+        assertThat(indexConditions(plan))
+                .as("plan:%n%s", plan)
+                .isNotEmpty()
+                .anyMatch(cond -> cond.contains("entry_date >=") && cond.contains("entry_date <"));
+    }
+
+    private CapturedQuery capturedEntryQuery() {
+        List<CapturedQuery> entryQueries = CAPTURED.stream()
+                .filter(query -> query.sql().contains("financial_entries"))
+                .toList();
+        assertThat(entryQueries).as("captured report SQL").hasSize(1);
+        return entryQueries.get(0);
+    }
+
+    /**
+     * Yakalanan SQL'i, servisin bağladığı parametrelerle EXPLAIN eder.
+     * TenantContext set olduğu için RLS aynı tenant'la uygulanır.
+     */
+    private String explain(CapturedQuery query) {
+        List<String> lines = jdbcTemplate.query(connection -> {
+            PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query.sql());
+            for (Binding binding : query.bindings()) {
+                binding.applyTo(explain);
+            }
+            return explain;
+        }, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", lines);
+    }
+
+    private static List<String> indexConditions(String plan) {
+        return plan.lines()
+                .filter(line -> line.contains("Index Cond"))
+                .toList();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // JDBC capture
+    // ─────────────────────────────────────────────────────────────────────────
+
+    record CapturedQuery(String sql, List<Binding> bindings) {}
+
+    record Binding(Method setter, Object[] args) {
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sql) {
+                    throw sql;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * DataSource'u, SELECT sorgularının SQL'ini ve set*(index, ...) ile
+     * bağlanan parametrelerini kaydeden bir proxy ile sarar.
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? forwarding(DataSource.class, dataSource) : bean;
+                }
+            };
+        }
+
+        /**
+         * Connection dönüşlerini de sarar; SELECT için hazırlanan
+         * statement'lar kayıt yapan proxy ile döner.
+         */
+        private static <T> T forwarding(Class<T> type, T target) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (self, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals" -> { return self == args[0]; }
+                            case "hashCode" -> { return System.identityHashCode(self); }
+                            default -> { }
+                        }
+                        Object result = invoke(target, method, args);
+                        if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                            return forwarding(Connection.class, connection);
+                        }
+                        if (result instanceof PreparedStatement statement
+                                && method.getName().equals("prepareStatement")
+                                && isSelect((String) args[0])) {
+                            return recording(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+            return type.cast(proxy);
+        }
+
+        private static PreparedStatement recording(PreparedStatement target, String sql) {
+            Map<Integer, Binding> bindings = new TreeMap<>();
+            Object proxy = Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (self, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2
+                                && args[0] instanceof Integer index) {
+                            bindings.put(index, new Binding(method, args.clone()));
+                        } else if (name.equals("clearParameters")) {
+                            bindings.clear();
+                        } else if (name.equals("executeQuery") || name.equals("execute")) {
+                            CAPTURED.add(new CapturedQuery(sql, new ArrayList<>(bindings.values())));
+                        } else if (name.equals("equals")) {
+                            return self == args[0];
+                        } else if (name.equals("hashCode")) {
+                            return System.identityHashCode(self);
+                        }
+                        return invoke(target, method, args);
+                    });
+            return (PreparedStatement) proxy;
+        }
+
+        private static boolean isSelect(String sql) {
+            return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}